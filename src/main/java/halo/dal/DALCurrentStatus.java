@@ -13,6 +13,12 @@ public class DALCurrentStatus {
 
 	private static final ThreadLocal<DALCustomInfo> dalCustomInfoTL = new ThreadLocal<DALCustomInfo>();
 
+	private static final ThreadLocal<Boolean> scatterWriteTL = new ThreadLocal<Boolean>();
+
+	private static final ThreadLocal<Boolean> hedgedReadTL = new ThreadLocal<Boolean>();
+
+	private static final ThreadLocal<Boolean> partialResultsTL = new ThreadLocal<Boolean>();
+
 	public DALCurrentStatus() {
 	}
 
@@ -36,8 +42,70 @@ public class DALCurrentStatus {
 		return dalCustomInfoTL.get();
 	}
 
+	/**
+	 * 设置为true时，update与delete语句在逻辑表的所有分区上并行执行，用于没有分区字段的维护语句，例如
+	 * update user set stat=? where stat=?。表的解析器需要实现
+	 * {@link halo.dal.analysis.ScatterPartitionParser}
+	 * 
+	 * @param scatterWrite
+	 */
+	public static void setScatterWrite(boolean scatterWrite) {
+		if (scatterWrite) {
+			scatterWriteTL.set(Boolean.TRUE);
+		}
+		else {
+			scatterWriteTL.remove();
+		}
+	}
+
+	public static boolean isScatterWrite() {
+		return scatterWriteTL.get() != null;
+	}
+
+	/**
+	 * 设置为true时，使用读库的select语句开启对冲读，超过读库组的p95耗时没有返回时在另一个读库上再次查询。
+	 * 也可以通过 {@link halo.dal.DALFactory#setHedgedTables(java.util.List)} 按表开启
+	 * 
+	 * @param hedgedRead
+	 */
+	public static void setHedgedRead(boolean hedgedRead) {
+		if (hedgedRead) {
+			hedgedReadTL.set(Boolean.TRUE);
+		}
+		else {
+			hedgedReadTL.remove();
+		}
+	}
+
+	public static boolean isHedgedRead() {
+		return hedgedReadTL.get() != null;
+	}
+
+	/**
+	 * 设置为true时，在多个数据源上执行的select语句允许部分结果：部分数据源失败或者超过queryTimeout时返回其他数据源的结果，
+	 * 失败的数据源作为ResultSet的SQLWarning，通过 ResultSet.unwrap({@link halo.dal.sql.PartialResult}.class)
+	 * 获得。所有数据源都失败时仍然抛出异常
+	 * 
+	 * @param partialResults
+	 */
+	public static void setPartialResults(boolean partialResults) {
+		if (partialResults) {
+			partialResultsTL.set(Boolean.TRUE);
+		}
+		else {
+			partialResultsTL.remove();
+		}
+	}
+
+	public static boolean isPartialResults() {
+		return partialResultsTL.get() != null;
+	}
+
 	public static void remove() {
 		dsKeyTL.remove();
 		dalCustomInfoTL.remove();
+		scatterWriteTL.remove();
+		hedgedReadTL.remove();
+		partialResultsTL.remove();
 	}
 }
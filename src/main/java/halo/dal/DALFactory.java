@@ -1,10 +1,19 @@
 package halo.dal;
 
+import halo.dal.analysis.BindingTableRule;
 import halo.dal.analysis.DefPartitionParserFactory;
 import halo.dal.analysis.PartitionParserFactory;
 import halo.dal.analysis.SQLAnalyzer;
 import halo.dal.analysis.antlr.v3.AntlrV3SQLAnalyzer;
 
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
 /**
  * DAL各种服务的赋值
  * 
@@ -22,6 +31,28 @@ public class DALFactory {
 
     private PartitionParserFactory partitionParserFactory;
 
+    private BindingTableRule bindingTableRule = new BindingTableRule();
+
+    /**
+     * 广播表，在每个数据源中都保存一份相同的数据
+     */
+    private Set<String> broadcastTables = new HashSet<String>();
+
+    /**
+     * 开启对冲读的表
+     */
+    private Set<String> hedgedTables = new HashSet<String>();
+
+    /**
+     * 在多个数据源上并行执行sql的线程池
+     */
+    private volatile ExecutorService executorService;
+
+    /**
+     * 在所有分区上执行update与delete时，同时执行的最大sql数量
+     */
+    private int scatterParallelism = 4;
+
     public DALFactory() {
         ins = this;
         this.setSqlAnalyzer(new AntlrV3SQLAnalyzer());
@@ -52,4 +83,92 @@ public class DALFactory {
     public PartitionParserFactory getPartitionParserFactory() {
         return partitionParserFactory;
     }
+
+    /**
+     * 设置绑定表规则，参考 {@link BindingTableRule}
+     * 
+     * @param bindingTableRule
+     */
+    public void setBindingTableRule(BindingTableRule bindingTableRule) {
+        this.bindingTableRule = bindingTableRule;
+    }
+
+    public BindingTableRule getBindingTableRule() {
+        return bindingTableRule;
+    }
+
+    /**
+     * 设置广播表(logicTableName)。广播表在每个数据源中都有相同的数据，不需要解析器。<br>
+     * 读取时使用sql中其他表路由的数据源，写入时在所有数据源上并行执行
+     * 
+     * @param broadcastTables
+     */
+    public void setBroadcastTables(List<String> broadcastTables) {
+        this.broadcastTables = new HashSet<String>(broadcastTables);
+    }
+
+    public boolean isBroadcastTable(String logicTableName) {
+        return broadcastTables.contains(logicTableName);
+    }
+
+    /**
+     * 设置开启对冲读的表(logicTableName)。使用读库的select语句中包含这些表时，超过读库组的p95耗时没有返回时在另一个读库上再次查询
+     * 
+     * @param hedgedTables
+     */
+    public void setHedgedTables(List<String> hedgedTables) {
+        this.hedgedTables = new HashSet<String>(hedgedTables);
+    }
+
+    public boolean isHedgedTable(String logicTableName) {
+        return hedgedTables.contains(logicTableName);
+    }
+
+    /**
+     * 设置在多个数据源上并行执行sql的线程池,不设置时使用默认的线程池
+     * 
+     * @param executorService
+     */
+    public void setExecutorService(ExecutorService executorService) {
+        this.executorService = executorService;
+    }
+
+    /**
+     * 设置在所有分区上执行update与delete时，同时执行的最大sql数量，默认为4
+     * 
+     * @param scatterParallelism
+     */
+    public void setScatterParallelism(int scatterParallelism) {
+        if (scatterParallelism <= 0) {
+            throw new IllegalArgumentException(
+                    "scatterParallelism must be > 0");
+        }
+        this.scatterParallelism = scatterParallelism;
+    }
+
+    public int getScatterParallelism() {
+        return scatterParallelism;
+    }
+
+    public ExecutorService getExecutorService() {
+        if (executorService == null) {
+            synchronized (this) {
+                if (executorService == null) {
+                    executorService = Executors
+                            .newCachedThreadPool(new ThreadFactory() {
+
+                                private final AtomicInteger count = new AtomicInteger();
+
+                                public Thread newThread(Runnable r) {
+                                    Thread t = new Thread(r, "halo-dal-"
+                                            + count.incrementAndGet());
+                                    t.setDaemon(true);
+                                    return t;
+                                }
+                            });
+                }
+            }
+        }
+        return executorService;
+    }
 }
\ No newline at end of file
@@ -0,0 +1,460 @@
+package halo.dal;
+
+import halo.dal.analysis.ColumnExper;
+import halo.dal.analysis.ParsedTableInfo;
+import halo.dal.analysis.PartitionParser;
+import halo.dal.analysis.PartitionTableInfo;
+import halo.dal.analysis.SQLAnalyzer;
+import halo.dal.analysis.SQLExpression;
+import halo.dal.analysis.SQLExpressionSymbol;
+import halo.dal.analysis.SQLInfo;
+import halo.dal.analysis.SQLOpInfo;
+import halo.dal.analysis.SQLStruct;
+import halo.dal.sql.ConnectionStatus;
+import halo.dal.sql.DALConnection;
+import halo.dal.sql.DALDataSource;
+import halo.dal.sql.ShardExecutor;
+import halo.dal.sql.ShardSQLBuilder;
+import halo.dal.sql.ShardStatement;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 按照分区字段批量查询。sql中分区字段使用 in (?)，例如 select * from user where userid in (?)。<br>
+ * 对每个key调用表的解析器，路由到同一个数据源与表的key使用一条sql查询，不同数据源的sql并行执行。<br>
+ * sql中只能有一个表，并且只能有 in (?) 一个参数
+ */
+public class DALMultiGet {
+
+	/**
+	 * 把ResultSet的当前行转换为对象
+	 *
+	 * @param <T>
+	 */
+	public interface RowMapper<T> {
+
+		T mapRow(ResultSet rs) throws SQLException;
+	}
+
+	private final DALDataSource dalDataSource;
+
+	/**
+	 * 一条sql的in中最多的key数量，超过时拆分为多条sql
+	 */
+	private int batchSize = 500;
+
+	public DALMultiGet(DALDataSource dalDataSource) {
+		this.dalDataSource = dalDataSource;
+	}
+
+	public void setBatchSize(int batchSize) {
+		if (batchSize <= 0) {
+			throw new IllegalArgumentException("batchSize must be > 0");
+		}
+		this.batchSize = batchSize;
+	}
+
+	public int getBatchSize() {
+		return batchSize;
+	}
+
+	/**
+	 * 批量查询，返回结果的顺序与keys相同
+	 *
+	 * @param sql
+	 *            分区字段使用 in (?) 的sql
+	 * @param keys
+	 *            分区字段的值
+	 * @param keyColumn
+	 *            结果中key的列名
+	 * @param rowMapper
+	 * @return 与keys顺序相同的结果，不存在的key对应null
+	 * @throws SQLException
+	 */
+	public <T> List<T> getList(String sql, long[] keys, String keyColumn,
+	        RowMapper<T> rowMapper) throws SQLException {
+		Object[] results = this.query(sql, keys, keyColumn, rowMapper);
+		@SuppressWarnings("unchecked")
+		List<T> list = (List<T>) Arrays.asList(results);
+		return list;
+	}
+
+	/**
+	 * 批量查询，返回key与结果的对应关系
+	 *
+	 * @param sql
+	 *            分区字段使用 in (?) 的sql
+	 * @param keys
+	 *            分区字段的值
+	 * @param keyColumn
+	 *            结果中key的列名
+	 * @param rowMapper
+	 * @return 按照keys顺序的map，不包含不存在的key
+	 * @throws SQLException
+	 */
+	public <T> Map<Long, T> getMap(String sql, long[] keys, String keyColumn,
+	        RowMapper<T> rowMapper) throws SQLException {
+		Object[] results = this.query(sql, keys, keyColumn, rowMapper);
+		Map<Long, T> map = new LinkedHashMap<Long, T>(keys.length * 4 / 3 + 1);
+		for (int i = 0; i < keys.length; i++) {
+			if (results[i] != null) {
+				@SuppressWarnings("unchecked")
+				T t = (T) results[i];
+				map.put(keys[i], t);
+			}
+		}
+		return map;
+	}
+
+	private <T> Object[] query(String sql, final long[] keys,
+	        final String keyColumn, final RowMapper<T> rowMapper)
+	        throws SQLException {
+		final Object[] results = new Object[keys.length];
+		if (keys.length == 0) {
+			return results;
+		}
+		final KeyIndex keyIndex = new KeyIndex(keys);
+		List<ShardStatement> shardStatements = this.createShardStatements(
+		        sql, keys, keyIndex);
+		DALConnection con = (DALConnection) this.dalDataSource
+		        .getConnection();
+		try {
+			boolean read = this.dalDataSource.isAutoCommitReadFromReplica();
+			PreparedStatement ps;
+			int[] indexes;
+			// 在当前线程中获得Connection，DALConnection不是线程安全的
+			for (ShardStatement shardStatement : shardStatements) {
+				ps = con.getRealConnection(shardStatement.getDsKey(), read)
+				        .prepareStatement(shardStatement.getSql());
+				shardStatement.setPs(ps);
+				indexes = shardStatement.getParameterIndexes();
+				for (int i = 0; i < indexes.length; i++) {
+					ps.setLong(i + 1, keys[indexes[i] - 1]);
+				}
+			}
+			new ShardExecutor().invokeByDataSource(shardStatements,
+			        new ShardExecutor.ShardTask<ShardStatement, Void>() {
+
+				        public Void execute(ShardStatement item)
+				                throws SQLException {
+					        ResultSet rs = item.getPs().executeQuery();
+					        try {
+						        T row;
+						        while (rs.next()) {
+							        row = rowMapper.mapRow(rs);
+							        for (int i = keyIndex.first(rs
+							                .getLong(keyColumn)); i != -1; i = keyIndex
+							                .next(i)) {
+								        results[i] = row;
+							        }
+						        }
+					        }
+					        finally {
+						        rs.close();
+					        }
+					        return null;
+				        }
+			        });
+		}
+		finally {
+			for (ShardStatement shardStatement : shardStatements) {
+				if (shardStatement.getPs() != null) {
+					shardStatement.getPs().close();
+				}
+			}
+			con.close();
+		}
+		return results;
+	}
+
+	/**
+	 * 对每个不重复的key调用解析器，按照数据源与表分组，每组按照batchSize创建sql
+	 */
+	private List<ShardStatement> createShardStatements(String sql,
+	        long[] keys, KeyIndex keyIndex) {
+		DALFactory dalFactory = DALFactory.getDefault();
+		SQLAnalyzer sqlAnalyzer = dalFactory.getSqlAnalyzer();
+		SQLStruct sqlStruct = sqlAnalyzer.parse(sql,
+		        new HashMap<String, Object>());
+		ColumnExper inExper = this.getInExper(sql, sqlStruct);
+		String table = sqlStruct.getTableNames().get(0);
+		KeySQLInfo keySQLInfo = new KeySQLInfo(table, inExper.getColumn());
+		PartitionParser parser = dalFactory.getPartitionParserFactory()
+		        .getParser(table);
+		List<Group> groups = new ArrayList<Group>();
+		if (parser == null) {
+			Group group = new Group(DALDataSource.DSKEY_DEFAULT, null);
+			for (int i = 0; i < keys.length; i++) {
+				if (keyIndex.first(keys[i]) == i) {
+					group.add(i + 1);
+				}
+			}
+			groups.add(group);
+		}
+		else {
+			ConnectionStatus connectionStatus = new ConnectionStatus();
+			connectionStatus.setAutoCommit(true);
+			Map<String, Map<String, Group>> dsMap = new HashMap<String, Map<String, Group>>();
+			Map<String, Group> tableMap;
+			PartitionTableInfo info;
+			Group group;
+			String dsKey;
+			for (int i = 0; i < keys.length; i++) {
+				// 重复的key只查询一次
+				if (keyIndex.first(keys[i]) != i) {
+					continue;
+				}
+				keySQLInfo.setKey(keys[i]);
+				info = parser.parse(table, keySQLInfo, connectionStatus);
+				if (info == null) {
+					throw new DALRunTimeException(
+					        "partitionTableInfo return from "
+					                + parser.getClass().getName()
+					                + " can not be null : " + table);
+				}
+				dsKey = info.getDsName();
+				if (dsKey == null) {
+					dsKey = DALDataSource.DSKEY_DEFAULT;
+				}
+				tableMap = dsMap.get(dsKey);
+				if (tableMap == null) {
+					tableMap = new HashMap<String, Group>(4);
+					dsMap.put(dsKey, tableMap);
+				}
+				group = tableMap.get(info.getRealTable());
+				if (group == null) {
+					group = new Group(dsKey, info.getRealTable());
+					tableMap.put(info.getRealTable(), group);
+					groups.add(group);
+				}
+				group.add(i + 1);
+			}
+		}
+		int[] placeholders = ShardSQLBuilder.findPlaceholders(sql);
+		List<ShardStatement> shardStatements = new ArrayList<ShardStatement>(
+		        groups.size());
+		ParsedTableInfo parsedTableInfo;
+		String shardSql;
+		String schema;
+		int[] parameterIndexes;
+		ShardStatement shardStatement;
+		for (Group g : groups) {
+			for (int from = 0; from < g.size; from += this.batchSize) {
+				parameterIndexes = new int[Math.min(this.batchSize, g.size
+				        - from)];
+				System.arraycopy(g.indexes, from, parameterIndexes, 0,
+				        parameterIndexes.length);
+				shardSql = ShardSQLBuilder.rewriteInList(sql, placeholders, 1,
+				        1, parameterIndexes.length);
+				schema = this.dalDataSource.getSchema(g.dsKey);
+				if (g.realTable != null || schema != null) {
+					parsedTableInfo = new ParsedTableInfo();
+					parsedTableInfo.setRealTable(table, g.realTable);
+					parsedTableInfo.setSchema(schema);
+					shardSql = sqlAnalyzer.outPutSQL(shardSql, sqlStruct,
+					        keySQLInfo, parsedTableInfo);
+				}
+				shardStatement = new ShardStatement(g.dsKey, shardSql);
+				shardStatement.setConnectionKey(this.dalDataSource
+				        .getServerKey(g.dsKey));
+				shardStatement.setParameterIndexes(parameterIndexes);
+				shardStatements.add(shardStatement);
+			}
+		}
+		return shardStatements;
+	}
+
+	private ColumnExper getInExper(String sql, SQLStruct sqlStruct) {
+		if (!sqlStruct.isCanParse() || !sqlStruct.isSelect()) {
+			throw new DALRunTimeException("multi get only support select: "
+			        + sql);
+		}
+		if (sqlStruct.getTableNames().size() != 1) {
+			throw new DALRunTimeException(
+			        "multi get only support one table: " + sql);
+		}
+		ColumnExper inExper = null;
+		int paramCount = 0;
+		for (ColumnExper columnExper : sqlStruct.getColumnExpers()) {
+			paramCount += columnExper.getParamCount();
+			if (columnExper.getSqlExpressionSymbol() == SQLExpressionSymbol.IN) {
+				inExper = columnExper;
+			}
+		}
+		if (inExper == null || paramCount != 1) {
+			throw new DALRunTimeException(
+			        "multi get sql must have only one parameter [ in (?) ]: "
+			                + sql);
+		}
+		return inExper;
+	}
+
+	/**
+	 * 路由到同一个数据源与表的key
+	 */
+	private static class Group {
+
+		final String dsKey;
+
+		final String realTable;
+
+		/**
+		 * key在keys中的位置，从1开始
+		 */
+		int[] indexes = new int[16];
+
+		int size;
+
+		Group(String dsKey, String realTable) {
+			this.dsKey = dsKey;
+			this.realTable = realTable;
+		}
+
+		void add(int index) {
+			if (size == indexes.length) {
+				int[] tmp = new int[size * 2];
+				System.arraycopy(indexes, 0, tmp, 0, size);
+				indexes = tmp;
+			}
+			indexes[size++] = index;
+		}
+	}
+
+	/**
+	 * 把某个key作为 column = ? 提供给解析器，每个key重复使用同一个对象
+	 */
+	private static class KeySQLInfo implements SQLInfo, SQLOpInfo {
+
+		private final String table;
+
+		private final String column;
+
+		private final SQLExpression[] sqlExpressions;
+
+		KeySQLInfo(String table, String column) {
+			this.table = table;
+			this.column = column;
+			SQLExpression sqlExpression = new SQLExpression();
+			sqlExpression.setColumn(column);
+			sqlExpression.setSqlExpressionSymbol(SQLExpressionSymbol.EQUAL);
+			sqlExpression.setParameterIndex(1);
+			this.sqlExpressions = new SQLExpression[] { sqlExpression };
+		}
+
+		void setKey(long key) {
+			this.sqlExpressions[0].setValue(key);
+		}
+
+		public int getSqlOp() {
+			return SQLStruct.SQLOP_SELECT;
+		}
+
+		public boolean isSelect() {
+			return true;
+		}
+
+		public SQLExpression[] getSQLExpressions(String columnName) {
+			if (columnName.equalsIgnoreCase(column)) {
+				return sqlExpressions;
+			}
+			int len = table.length();
+			if (columnName.length() == len + 1 + column.length()
+			        && columnName.charAt(len) == '.'
+			        && columnName.regionMatches(true, 0, table, 0, len)
+			        && columnName.regionMatches(true, len + 1, column, 0,
+			                column.length())) {
+				return sqlExpressions;
+			}
+			return null;
+		}
+
+		public void addSQLExpression(String logicTableName,
+		        SQLExpression sqlExpression) {
+			throw new UnsupportedOperationException("KeySQLInfo is read only");
+		}
+	}
+
+	/**
+	 * key到位置的开放寻址哈希索引，重复的key通过next连接
+	 */
+	private static class KeyIndex {
+
+		private final long[] keys;
+
+		/**
+		 * 哈希槽中保存第一个位置+1，0表示空
+		 */
+		private final int[] slots;
+
+		private final int[] next;
+
+		private final int mask;
+
+		KeyIndex(long[] keys) {
+			this.keys = keys;
+			int capacity = 2;
+			while (capacity < keys.length * 2) {
+				capacity <<= 1;
+			}
+			this.slots = new int[capacity];
+			this.mask = capacity - 1;
+			this.next = new int[keys.length];
+			int[] last = new int[keys.length];
+			int slot;
+			int first;
+			for (int i = 0; i < keys.length; i++) {
+				next[i] = -1;
+				slot = hash(keys[i]) & mask;
+				while (true) {
+					first = slots[slot] - 1;
+					if (first == -1) {
+						slots[slot] = i + 1;
+						last[i] = i;
+						break;
+					}
+					if (keys[first] == keys[i]) {
+						next[last[first]] = i;
+						last[first] = i;
+						break;
+					}
+					slot = (slot + 1) & mask;
+				}
+			}
+		}
+
+		/**
+		 * @return key第一次出现的位置，不存在时返回-1
+		 */
+		int first(long key) {
+			int slot = hash(key) & mask;
+			int first;
+			while (true) {
+				first = slots[slot] - 1;
+				if (first == -1 || keys[first] == key) {
+					return first;
+				}
+				slot = (slot + 1) & mask;
+			}
+		}
+
+		/**
+		 * @return 与位置i的key相同的下一个位置，不存在时返回-1
+		 */
+		int next(int i) {
+			return next[i];
+		}
+
+		private static int hash(long key) {
+			long h = key * 0x9E3779B97F4A7C15L;
+			return (int) (h ^ (h >>> 32));
+		}
+	}
+}
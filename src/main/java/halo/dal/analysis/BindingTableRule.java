@@ -0,0 +1,96 @@
+package halo.dal.analysis;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 绑定表规则。同一组内的表使用相同的分区关键字进行分表分库，例如user与user_profile都使用userid分区。<br>
+ * 同一条sql中出现同组的多张表时，只需要使用其中一张表的解析器进行解析，其他表根据解析结果直接获得真实表名称。<br>
+ * 默认的真实表名称规则为 logicTableName+后缀，例如 user0 与 user_profile0，可以通过继承此类修改规则
+ */
+public class BindingTableRule {
+
+    /**
+     * key为logicTableName,value为该表所在的绑定表组
+     */
+    private final Map<String, List<String>> groupMap = new HashMap<String, List<String>>();
+
+    /**
+     * 设置绑定表组，每个组为一组logicTableName
+     *
+     * @param groups
+     */
+    public void setGroups(List<List<String>> groups) {
+        groupMap.clear();
+        for (List<String> group : groups) {
+            for (String table : group) {
+                groupMap.put(table, group);
+            }
+        }
+    }
+
+    /**
+     * 获得表所在的绑定表组
+     *
+     * @param logicTableName
+     * @return 不存在绑定关系时返回null
+     */
+    public List<String> getGroup(String logicTableName) {
+        return groupMap.get(logicTableName);
+    }
+
+    /**
+     * 根据同组中已经解析过的表的结果，获得当前表的分区信息
+     *
+     * @param logicTableName
+     *            需要获得分区信息的表
+     * @param parsedMap
+     *            已经解析过的表，key为logicTableName
+     * @return 无法根据同组的表获得时返回null
+     */
+    public PartitionTableInfo getPartitionTableInfo(String logicTableName,
+            Map<String, PartitionTableInfo> parsedMap) {
+        List<String> group = this.getGroup(logicTableName);
+        if (group == null) {
+            return null;
+        }
+        PartitionTableInfo bindingInfo;
+        for (String bindingTable : group) {
+            bindingInfo = parsedMap.get(bindingTable);
+            if (bindingInfo == null) {
+                continue;
+            }
+            String realTable = this.buildRealTable(logicTableName,
+                    bindingTable, bindingInfo.getRealTable());
+            if (realTable != null) {
+                PartitionTableInfo partitionTableInfo = new PartitionTableInfo();
+                partitionTableInfo.setRealTable(realTable);
+                partitionTableInfo.setDsName(bindingInfo.getDsName());
+                return partitionTableInfo;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * 根据绑定表的真实表名称创建当前表的真实表名称
+     *
+     * @param logicTableName
+     *            当前表
+     * @param bindingTable
+     *            已经解析的绑定表
+     * @param bindingRealTable
+     *            绑定表的真实表名称
+     * @return 无法创建时返回null，此时将使用当前表的解析器进行解析
+     */
+    protected String buildRealTable(String logicTableName,
+            String bindingTable, String bindingRealTable) {
+        if (bindingRealTable == null
+                || !bindingRealTable.startsWith(bindingTable)) {
+            return null;
+        }
+        return logicTableName
+                + bindingRealTable.substring(bindingTable.length());
+    }
+}
@@ -8,6 +8,11 @@ public class ColumnExper {
 
     private SQLExpressionSymbol sqlExpressionSymbol;
 
+    /**
+     * 表达式中参数的数量，in (?,?,...) 时为in中参数的数量
+     */
+    private int paramCount = 1;
+
     public static final String[] symbols = new String[] {//
     ">=",//
             "<=", //
@@ -100,6 +105,14 @@ public class ColumnExper {
         this.sqlExpressionSymbol = sqlExpressionSymbol;
     }
 
+    public int getParamCount() {
+        return paramCount;
+    }
+
+    public void setParamCount(int paramCount) {
+        this.paramCount = paramCount;
+    }
+
     public String getColumn() {
         return column;
     }
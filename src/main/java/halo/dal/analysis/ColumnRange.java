@@ -0,0 +1,175 @@
+package halo.dal.analysis;
+
+/**
+ * 列的取值范围，由sql中列的 =, in, >, >=, <, <= 表达式计算得到。<br>
+ * 计算时认为所有表达式之间是and关系，sql中的or条件会使范围变小，使用or条件的sql请不要使用范围路由
+ */
+public class ColumnRange {
+
+    private Comparable<Object> lower;
+
+    private boolean lowerInclusive;
+
+    private Comparable<Object> upper;
+
+    private boolean upperInclusive;
+
+    /**
+     * 根据sql中的表达式获得列的取值范围
+     * 
+     * @param sqlInfo
+     * @param column
+     * @return 没有列的表达式时，返回null。返回的范围的上限与下限都可以为null，表示没有限制
+     */
+    public static ColumnRange getRange(SQLInfo sqlInfo, String column) {
+        SQLExpression[] sqlExpressions = sqlInfo.getSQLExpressions(column);
+        if (sqlExpressions == null) {
+            return null;
+        }
+        ColumnRange range = new ColumnRange();
+        // in中的多个值，范围为最小值到最大值
+        ColumnRange inRange = null;
+        for (SQLExpression e : sqlExpressions) {
+            if (e.getValue() == null) {
+                continue;
+            }
+            switch (e.getSqlExpressionSymbol()) {
+                case EQUAL:
+                    range.addLower(e.getValue(), true);
+                    range.addUpper(e.getValue(), true);
+                    break;
+                case BIGGER:
+                    range.addLower(e.getValue(), false);
+                    break;
+                case BIGGER_EQUAL:
+                    range.addLower(e.getValue(), true);
+                    break;
+                case SMALLER:
+                    range.addUpper(e.getValue(), false);
+                    break;
+                case SMALLER_EQUAL:
+                    range.addUpper(e.getValue(), true);
+                    break;
+                case IN:
+                    if (inRange == null) {
+                        inRange = new ColumnRange();
+                    }
+                    inRange.addLowest(e.getValue());
+                    inRange.addHighest(e.getValue());
+                    break;
+                default:
+                    break;
+            }
+        }
+        if (inRange != null) {
+            range.addLower(inRange.lower, true);
+            range.addUpper(inRange.upper, true);
+        }
+        return range;
+    }
+
+    public Object getLower() {
+        return lower;
+    }
+
+    public boolean isLowerInclusive() {
+        return lowerInclusive;
+    }
+
+    public Object getUpper() {
+        return upper;
+    }
+
+    public boolean isUpperInclusive() {
+        return upperInclusive;
+    }
+
+    /**
+     * @return 下限大于上限时，范围内没有值
+     */
+    public boolean isEmpty() {
+        if (lower == null || upper == null) {
+            return false;
+        }
+        int c = lower.compareTo(upper);
+        if (c == 0) {
+            return !lowerInclusive || !upperInclusive;
+        }
+        return c > 0;
+    }
+
+    /**
+     * 整数统一转换为Long，浮点数统一转换为Double，以便于比较
+     */
+    @SuppressWarnings("unchecked")
+    private static Comparable<Object> normalize(Object value) {
+        if (value instanceof Integer || value instanceof Short
+                || value instanceof Byte) {
+            value = ((Number) value).longValue();
+        }
+        else if (value instanceof Float) {
+            value = ((Number) value).doubleValue();
+        }
+        return (Comparable<Object>) value;
+    }
+
+    /**
+     * 增加下限，保留较大的下限
+     */
+    private void addLower(Object value, boolean inclusive) {
+        Comparable<Object> v = normalize(value);
+        if (lower == null) {
+            lower = v;
+            lowerInclusive = inclusive;
+            return;
+        }
+        int c = v.compareTo(lower);
+        if (c > 0) {
+            lower = v;
+            lowerInclusive = inclusive;
+        }
+        else if (c == 0 && !inclusive) {
+            lowerInclusive = false;
+        }
+    }
+
+    /**
+     * 增加上限，保留较小的上限
+     */
+    private void addUpper(Object value, boolean inclusive) {
+        Comparable<Object> v = normalize(value);
+        if (upper == null) {
+            upper = v;
+            upperInclusive = inclusive;
+            return;
+        }
+        int c = v.compareTo(upper);
+        if (c < 0) {
+            upper = v;
+            upperInclusive = inclusive;
+        }
+        else if (c == 0 && !inclusive) {
+            upperInclusive = false;
+        }
+    }
+
+    private void addLowest(Object value) {
+        Comparable<Object> v = normalize(value);
+        if (lower == null || v.compareTo(lower) < 0) {
+            lower = v;
+        }
+    }
+
+    private void addHighest(Object value) {
+        Comparable<Object> v = normalize(value);
+        if (upper == null || v.compareTo(upper) > 0) {
+            upper = v;
+        }
+    }
+
+    @Override
+    public String toString() {
+        return (lowerInclusive ? "[" : "(") + lower + "," + upper
+                + (upperInclusive ? "]" : ")");
+    }
+}
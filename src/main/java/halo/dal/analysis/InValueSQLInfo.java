@@ -0,0 +1,94 @@
+package halo.dal.analysis;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 将sql中的 column in (?,?,...) 表达式视为 column = ? 表达式，值为in中的某一个值。<br>
+ * 用于对in中的每个值调用 {@link PartitionParser}，获得每个值对应的数据源与表
+ */
+public class InValueSQLInfo implements SQLInfo, SQLOpInfo {
+
+    private final SQLInfo sqlInfo;
+
+    private final int fromIndex;
+
+    private final int toIndex;
+
+    private final SQLExpression valueExpression;
+
+    /**
+     * @param sqlInfo
+     *            原始sql信息
+     * @param column
+     *            in表达式的列名
+     * @param fromIndex
+     *            in中第一个参数的位置，从1开始
+     * @param paramCount
+     *            in中参数的数量
+     * @param parameterIndex
+     *            使用的值的参数位置
+     * @param value
+     *            使用的值
+     */
+    public InValueSQLInfo(SQLInfo sqlInfo, String column, int fromIndex,
+            int paramCount, int parameterIndex, Object value) {
+        this.sqlInfo = sqlInfo;
+        this.fromIndex = fromIndex;
+        this.toIndex = fromIndex + paramCount;
+        this.valueExpression = new SQLExpression();
+        this.valueExpression.setColumn(column);
+        this.valueExpression.setSqlExpressionSymbol(SQLExpressionSymbol.EQUAL);
+        this.valueExpression.setParameterIndex(parameterIndex);
+        this.valueExpression.setValue(value);
+    }
+
+    public int getSqlOp() {
+        if (sqlInfo instanceof SQLOpInfo) {
+            return ((SQLOpInfo) sqlInfo).getSqlOp();
+        }
+        return 0;
+    }
+
+    public boolean isSelect() {
+        return sqlInfo instanceof SQLOpInfo
+                && ((SQLOpInfo) sqlInfo).isSelect();
+    }
+
+    public SQLExpression[] getSQLExpressions(String columnName) {
+        SQLExpression[] sqlExpressions = sqlInfo.getSQLExpressions(columnName);
+        if (sqlExpressions == null) {
+            return null;
+        }
+        List<SQLExpression> list = null;
+        for (int i = 0; i < sqlExpressions.length; i++) {
+            if (this.isInRange(sqlExpressions[i])) {
+                if (list == null) {
+                    list = new ArrayList<SQLExpression>(sqlExpressions.length);
+                    for (int k = 0; k < i; k++) {
+                        list.add(sqlExpressions[k]);
+                    }
+                    list.add(valueExpression);
+                }
+            }
+            else if (list != null) {
+                list.add(sqlExpressions[i]);
+            }
+        }
+        if (list == null) {
+            return sqlExpressions;
+        }
+        return list.toArray(new SQLExpression[list.size()]);
+    }
+
+    private boolean isInRange(SQLExpression sqlExpression) {
+        return sqlExpression.getParameterIndex() >= fromIndex
+                && sqlExpression.getParameterIndex() < toIndex;
+    }
+
+    public void addSQLExpression(String logicTableName,
+            SQLExpression sqlExpression) {
+        throw new UnsupportedOperationException(
+                "InValueSQLInfo is read only");
+    }
+}
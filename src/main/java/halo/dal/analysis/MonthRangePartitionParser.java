@@ -0,0 +1,150 @@
+package halo.dal.analysis;
+
+import halo.dal.sql.ConnectionStatus;
+
+import java.util.ArrayList;
+import java.util.Calendar;
+import java.util.Date;
+import java.util.List;
+
+/**
+ * 按月分表的解析器，真实表名称为 逻辑表名称 + separator + yyyyMM，例如 order_201201。<br>
+ * 根据分区字段的 =, in, between, >, >=, <, <= 表达式计算时间范围，只返回与范围有交集的月份表。
+ * 范围没有下限或上限时，使用beginMonth与endMonth作为限制。分区字段的值可以是 {@link Date} 或者毫秒数
+ */
+public class MonthRangePartitionParser implements MultiPartitionParser,
+        ScatterPartitionParser {
+
+    private String column;
+
+    private String dsName;
+
+    private String separator = "_";
+
+    /**
+     * 第一个月份表，格式为yyyyMM
+     */
+    private int beginMonth;
+
+    /**
+     * 最后一个月份表，格式为yyyyMM
+     */
+    private int endMonth;
+
+    public void setColumn(String column) {
+        this.column = column;
+    }
+
+    public void setDsName(String dsName) {
+        this.dsName = dsName;
+    }
+
+    public void setSeparator(String separator) {
+        this.separator = separator;
+    }
+
+    public void setBeginMonth(int beginMonth) {
+        this.beginMonth = beginMonth;
+    }
+
+    public void setEndMonth(int endMonth) {
+        this.endMonth = endMonth;
+    }
+
+    /**
+     * 返回范围内的第一个月份表
+     */
+    public PartitionTableInfo parse(String tableLogicName, SQLInfo sqlInfo,
+            ConnectionStatus connectionStatus) {
+        return this.parseMulti(tableLogicName, sqlInfo, connectionStatus)
+                .get(0);
+    }
+
+    public List<PartitionTableInfo> parseMulti(String tableLogicName,
+            SQLInfo sqlInfo, ConnectionStatus connectionStatus) {
+        int from = this.beginMonth;
+        int to = this.endMonth;
+        ColumnRange range = ColumnRange.getRange(sqlInfo, column);
+        if (range != null) {
+            if (range.getLower() != null) {
+                from = Math.max(from, toMonth(range.getLower(), false));
+            }
+            if (range.getUpper() != null) {
+                to = Math.min(to, toMonth(range.getUpper(),
+                        !range.isUpperInclusive()));
+            }
+        }
+        List<PartitionTableInfo> list = new ArrayList<PartitionTableInfo>();
+        for (int month = from; month <= to; month = nextMonth(month)) {
+            list.add(this.createPartitionTableInfo(tableLogicName, month));
+        }
+        // 范围内没有表时，使用第一个表，保证sql可以正常执行
+        if (list.isEmpty()) {
+            list.add(this.createPartitionTableInfo(tableLogicName,
+                    Math.max(from, this.beginMonth)));
+        }
+        return list;
+    }
+
+    public List<PartitionTableInfo> getAllPartitions(String tableLogicName) {
+        List<PartitionTableInfo> list = new ArrayList<PartitionTableInfo>();
+        for (int month = beginMonth; month <= endMonth; month = nextMonth(month)) {
+            list.add(this.createPartitionTableInfo(tableLogicName, month));
+        }
+        return list;
+    }
+
+    private PartitionTableInfo createPartitionTableInfo(String tableLogicName,
+            int month) {
+        PartitionTableInfo info = new PartitionTableInfo();
+        info.setRealTable(tableLogicName + separator + month);
+        info.setDsName(dsName);
+        return info;
+    }
+
+    /**
+     * @param value
+     * @param exclusive
+     *            为true并且时间为月份的开始时，返回上一个月
+     * @return yyyyMM
+     */
+    private static int toMonth(Object value, boolean exclusive) {
+        long time;
+        if (value instanceof Date) {
+            time = ((Date) value).getTime();
+        }
+        else if (value instanceof Number) {
+            time = ((Number) value).longValue();
+        }
+        else {
+            throw new IllegalArgumentException("unsupported value type "
+                    + value.getClass().getName());
+        }
+        Calendar cal = Calendar.getInstance();
+        cal.setTimeInMillis(time);
+        int month = cal.get(Calendar.YEAR) * 100 + cal.get(Calendar.MONTH)
+                + 1;
+        if (exclusive && cal.get(Calendar.DAY_OF_MONTH) == 1
+                && cal.get(Calendar.HOUR_OF_DAY) == 0
+                && cal.get(Calendar.MINUTE) == 0
+                && cal.get(Calendar.SECOND) == 0
+                && cal.get(Calendar.MILLISECOND) == 0) {
+            return previousMonth(month);
+        }
+        return month;
+    }
+
+    private static int nextMonth(int month) {
+        if (month % 100 == 12) {
+            return (month / 100 + 1) * 100 + 1;
+        }
+        return month + 1;
+    }
+
+    private static int previousMonth(int month) {
+        if (month % 100 == 1) {
+            return (month / 100 - 1) * 100 + 12;
+        }
+        return month - 1;
+    }
+}
@@ -0,0 +1,26 @@
+package halo.dal.analysis;
+
+import halo.dal.sql.ConnectionStatus;
+
+import java.util.List;
+
+/**
+ * 可以返回多个分区的解析器，用于范围查询(例如 between ? and ?，>=，<)需要访问多个表或数据源的情况。<br>
+ * 返回多个分区时，sql会在每个分区上并行执行，查询结果按顺序连接为一个ResultSet，更新数量为所有分区更新数量的和
+ */
+public interface MultiPartitionParser extends PartitionParser {
+
+    /**
+     * 根据内容进行分析，返回sql需要访问的所有分区，分区应该尽可能少
+     * 
+     * @param tableLogicName
+     *            逻辑表名称
+     * @param sqlInfo
+     *            参考 {@link SQLInfo}
+     * @param connectionStatus
+     *            参考 {@link ConnectionStatus}
+     * @return 至少包含一个分区，参考 {@link PartitionTableInfo}
+     */
+    List<PartitionTableInfo> parseMulti(String tableLogicName,
+            SQLInfo sqlInfo, ConnectionStatus connectionStatus);
+}
@@ -12,6 +12,11 @@ public class ParsedTableInfo {
 
     private final Map<String, String> logic_realMap = new HashMap<String, String>();
 
+    /**
+     * 数据源对应的schema，不为null时生成的sql中的表名称为 schema.真实表
+     */
+    private String schema;
+
     /**
      * 设置逻辑表与真实表的对应
      * 
@@ -34,4 +39,23 @@ public class ParsedTableInfo {
     public String getRealTable(String logic) {
         return logic_realMap.get(logic);
     }
+
+    public void setSchema(String schema) {
+        this.schema = schema;
+    }
+
+    public String getSchema() {
+        return schema;
+    }
+
+    /**
+     * @param schema
+     * @return 真实表相同，schema不同的表信息
+     */
+    public ParsedTableInfo copyWithSchema(String schema) {
+        ParsedTableInfo info = new ParsedTableInfo();
+        info.logic_realMap.putAll(this.logic_realMap);
+        info.schema = schema;
+        return info;
+    }
 }
\ No newline at end of file
@@ -8,6 +8,19 @@ public class SQLExpression {
 
     private SQLExpressionSymbol sqlExpressionSymbol;
 
+    /**
+     * 值在sql参数中的位置，从1开始
+     */
+    private int parameterIndex;
+
+    public int getParameterIndex() {
+        return parameterIndex;
+    }
+
+    public void setParameterIndex(int parameterIndex) {
+        this.parameterIndex = parameterIndex;
+    }
+
     public SQLExpressionSymbol getSqlExpressionSymbol() {
         return sqlExpressionSymbol;
     }
@@ -1,7 +1,7 @@
 package halo.dal.analysis;
 
 /**
- * sql表达式中的对应符号关系。目前支持 > , < , >= , <= , = , <> , !=
+ * sql表达式中的对应符号关系。目前支持 > , < , >= , <= , = , <> , != , in
  * 
  * @author akwei
  */
@@ -33,7 +33,11 @@ public enum SQLExpressionSymbol {
     /**
      * !=
      */
-    NOT_EQUAL2(4);
+    NOT_EQUAL2(4),
+    /**
+     * in (?,?,...)，in中的每个参数对应一个表达式
+     */
+    IN(5);
 
     private int value;
 
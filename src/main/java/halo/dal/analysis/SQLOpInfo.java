@@ -0,0 +1,18 @@
+package halo.dal.analysis;
+
+/**
+ * 可选接口，{@link SQLInfo} 的实现类可以同时实现此接口，提供sql操作的类型。<br>
+ * 自定义解析器中使用 sqlInfo instanceof SQLOpInfo 判断后进行读写分离
+ */
+public interface SQLOpInfo {
+
+    /**
+     * @return sql操作的方式，参考 {@link SQLStruct#SQLOP_SELECT}等，无法识别时为0
+     */
+    int getSqlOp();
+
+    /**
+     * @return 是否是select语句
+     */
+    boolean isSelect();
+}
@@ -12,6 +12,19 @@ import java.util.Map;
  */
 public class SQLStruct {
 
+    public static final int SQLOP_INSERT = 1;
+
+    public static final int SQLOP_UPDATE = 2;
+
+    public static final int SQLOP_DELETE = 3;
+
+    public static final int SQLOP_SELECT = 4;
+
+    /**
+     * sql操作的方式，参考 SQLOP_*，无法识别时为0
+     */
+    private int sqlOp;
+
     /**
      * 是否可以解析,如果false，将不对结构进行分析
      */
@@ -25,6 +38,24 @@ public class SQLStruct {
 
     private final List<ColumnExper> columnExpers = new ArrayList<ColumnExper>();
 
+    /**
+     * 是否存在 column in (?,?,...) 表达式
+     */
+    private boolean hasInExper;
+
+    /**
+     * insert语句中values的行数
+     */
+    private int insertRowCount = 1;
+
+    public int getInsertRowCount() {
+        return insertRowCount;
+    }
+
+    public void setInsertRowCount(int insertRowCount) {
+        this.insertRowCount = insertRowCount;
+    }
+
     public List<ColumnExper> getColumnExpers() {
         return columnExpers;
     }
@@ -34,6 +65,13 @@ public class SQLStruct {
             throw new SQLAnalyzerException("can not parse for canParse=false");
         }
         columnExpers.add(columnExper);
+        if (columnExper.getSqlExpressionSymbol() == SQLExpressionSymbol.IN) {
+            hasInExper = true;
+        }
+    }
+
+    public boolean isHasInExper() {
+        return hasInExper;
     }
 
     /**
@@ -78,6 +116,26 @@ public class SQLStruct {
         this.canParse = canParse;
     }
 
+    public int getSqlOp() {
+        return sqlOp;
+    }
+
+    public void setSqlOp(int sqlOp) {
+        this.sqlOp = sqlOp;
+    }
+
+    public boolean isSelect() {
+        return sqlOp == SQLOP_SELECT;
+    }
+
+    /**
+     * @return 是否是insert update delete语句
+     */
+    public boolean isWrite() {
+        return sqlOp == SQLOP_INSERT || sqlOp == SQLOP_UPDATE
+                || sqlOp == SQLOP_DELETE;
+    }
+
     public String getAliasByTableName(String tableName) {
         return name_aliasMap.get(tableName);
     }
@@ -0,0 +1,18 @@
+package halo.dal.analysis;
+
+import java.util.List;
+
+/**
+ * 可以列出逻辑表所有分区的解析器。开启
+ * {@link halo.dal.DALCurrentStatus#setScatterWrite(boolean)}
+ * 后，没有分区字段的update与delete语句会在返回的每个分区上并行执行
+ */
+public interface ScatterPartitionParser extends PartitionParser {
+
+    /**
+     * @param tableLogicName
+     *            逻辑表名称
+     * @return 逻辑表的所有分区，参考 {@link PartitionTableInfo}
+     */
+    List<PartitionTableInfo> getAllPartitions(String tableLogicName);
+}
@@ -1,5 +1,7 @@
 package halo.dal.analysis.antlr;
 
+import halo.dal.analysis.SQLStruct;
+
 import java.util.List;
 
 /**
@@ -9,13 +11,13 @@ import java.util.List;
  */
 public interface AntlrParserDelegate {
 
-	int SQLOP_INSERT = 1;
+	int SQLOP_INSERT = SQLStruct.SQLOP_INSERT;
 
-	int SQLOP_UPDATE = 2;
+	int SQLOP_UPDATE = SQLStruct.SQLOP_UPDATE;
 
-	int SQLOP_DELETE = 3;
+	int SQLOP_DELETE = SQLStruct.SQLOP_DELETE;
 
-	int SQLOP_SELECT = 4;
+	int SQLOP_SELECT = SQLStruct.SQLOP_SELECT;
 
 	/**
 	 * 设置当前sql操作的方式
@@ -26,6 +28,15 @@ public interface AntlrParserDelegate {
 
 	int getSqlOp();
 
+	/**
+	 * 设置insert语句中values的行数
+	 * 
+	 * @param insertRowCount
+	 */
+	void setInsertRowCount(int insertRowCount);
+
+	int getInsertRowCount();
+
 	boolean isHasTable();
 
 	/**
@@ -47,6 +58,16 @@ public interface AntlrParserDelegate {
 	 */
 	void onFindColExper(String column, String op);
 
+	/**
+	 * 当获得 column in (?,?,...) 表达式时触发的方法
+	 * 
+	 * @param column
+	 *            表达式列名
+	 * @param paramCount
+	 *            in 中参数的数量
+	 */
+	void onFindInExper(String column, int paramCount);
+
 	List<Table> getTables();
 
 	List<ColExpr> getColExprs();
@@ -6,6 +6,11 @@ public class ColExpr {
 
 	private String op;
 
+	/**
+	 * 表达式中参数的数量，in (?,?,...) 时为in中参数的数量
+	 */
+	private int paramCount = 1;
+
 	public ColExpr() {
 	}
 
@@ -35,6 +40,14 @@ public class ColExpr {
 		}
 	}
 
+	public int getParamCount() {
+		return paramCount;
+	}
+
+	public void setParamCount(int paramCount) {
+		this.paramCount = paramCount;
+	}
+
 	public String getOp() {
 		return op;
 	}
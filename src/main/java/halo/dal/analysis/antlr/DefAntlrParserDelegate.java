@@ -13,6 +13,8 @@ public class DefAntlrParserDelegate implements AntlrParserDelegate {
 
 	private int sqlOp;
 
+	private int insertRowCount = 1;
+
 	public void setSqlOp(int sqlOp) {
 		this.sqlOp = sqlOp;
 	}
@@ -21,6 +23,14 @@ public class DefAntlrParserDelegate implements AntlrParserDelegate {
 		return sqlOp;
 	}
 
+	public void setInsertRowCount(int insertRowCount) {
+		this.insertRowCount = insertRowCount;
+	}
+
+	public int getInsertRowCount() {
+		return insertRowCount;
+	}
+
 	public boolean isHasBetweenAnd() {
 		return this.hasBetweenAnd;
 	}
@@ -44,6 +54,12 @@ public class DefAntlrParserDelegate implements AntlrParserDelegate {
 		colExprs.add(new ColExpr(column, op));
 	}
 
+	public void onFindInExper(String column, int paramCount) {
+		ColExpr colExpr = new ColExpr(column, "in");
+		colExpr.setParamCount(paramCount);
+		colExprs.add(colExpr);
+	}
+
 	public List<ColExpr> getColExprs() {
 		return colExprs;
 	}
@@ -2,18 +2,34 @@ package halo.dal.analysis.antlr;
 
 import halo.dal.analysis.SQLExpression;
 import halo.dal.analysis.SQLInfo;
+import halo.dal.analysis.SQLOpInfo;
+import halo.dal.analysis.SQLStruct;
 
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
-public class SQLInfoImpl implements SQLInfo {
+public class SQLInfoImpl implements SQLInfo, SQLOpInfo {
 
     private final Map<String, SQLExpression[]> sqlExpressionMap = new HashMap<String, SQLExpression[]>();
 
     private final Map<String, String> logic_realMap = new HashMap<String, String>();
 
+    private int sqlOp;
+
+    public int getSqlOp() {
+        return sqlOp;
+    }
+
+    public void setSqlOp(int sqlOp) {
+        this.sqlOp = sqlOp;
+    }
+
+    public boolean isSelect() {
+        return sqlOp == SQLStruct.SQLOP_SELECT;
+    }
+
     public SQLExpression[] getSQLExpressions(String columnName) {
         String lowerColumnName = columnName.toLowerCase();
         SQLExpression[] lowerArr = sqlExpressionMap.get(lowerColumnName);
@@ -1,10 +1,17 @@
 grammar AntlrV3SQL;
 
-@header {
+@parser::header {
+package halo.dal.analysis.antlr.v3;
+
+import halo.dal.analysis.antlr.AntlrParserDelegate;
 import java.util.List;
 import java.util.ArrayList;
 }
 
+@lexer::header {
+package halo.dal.analysis.antlr.v3;
+}
+
 @members {
     private AntlrParserDelegate antlrParserDelegate;
 
@@ -22,9 +29,18 @@ start	:
 	sql_insert|sql_delete|sql_update|sql_select;
 
 sql_insert 
+@init {
+	int rowCount = 0;
+}
 	:
-	INSERT INTO table '\(' insertColumn (',' insertColumn)* '\)' VALUES '\(' (PRE_SET|(',' PRE_SET))* '\)' 
-	{this.antlrParserDelegate.setSqlOp(AntlrParserDelegate.SQLOP_INSERT);}
+	INSERT INTO table '\(' insertColumn (',' insertColumn)* '\)' VALUES insertValues {rowCount++;} (',' insertValues {rowCount++;})* 
+	{this.antlrParserDelegate.setSqlOp(AntlrParserDelegate.SQLOP_INSERT);
+	this.antlrParserDelegate.setInsertRowCount(rowCount);}
+	;
+
+insertValues
+	:
+	'\(' (PRE_SET|(',' PRE_SET))* '\)'
 	;
 
 sql_delete
@@ -128,11 +144,20 @@ insertColumn
 	;
 	
 
-kv	:
-	(column_name op (PRE_SET|'\(' PRE_SET '\)'))
+kv
+@init {
+	int paramCount = 0;
+}
+	:
+	(column_name op (PRE_SET {paramCount++;}|'\(' PRE_SET {paramCount++;} (',' PRE_SET {paramCount++;})* '\)'))
 	{
 	if (this.antlrParserDelegate != null) {
-            this.antlrParserDelegate.onFindColExper( $column_name.text,  $op.text);
+            if ($op.text.equalsIgnoreCase("in")) {
+                this.antlrParserDelegate.onFindInExper($column_name.text, paramCount);
+            }
+            else {
+                this.antlrParserDelegate.onFindColExper( $column_name.text,  $op.text);
+            }
         }
 	}
 	|
@@ -141,7 +166,7 @@ kv	:
 	(column_name BETWEEN PRE_SET AND PRE_SET)
 		{
 		this.antlrParserDelegate.onFindColExper($column_name.text, ">=");
-		this.antlrParserDelegate.onFindColExper($column_name.text, "=<");
+		this.antlrParserDelegate.onFindColExper($column_name.text, "<=");
 		}
 	|
 	column_name op column_name
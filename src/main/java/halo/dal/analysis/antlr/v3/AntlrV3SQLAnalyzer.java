@@ -4,6 +4,7 @@ import halo.dal.analysis.ColumnExper;
 import halo.dal.analysis.ParsedTableInfo;
 import halo.dal.analysis.SQLAnalyzer;
 import halo.dal.analysis.SQLExpression;
+import halo.dal.analysis.SQLExpressionSymbol;
 import halo.dal.analysis.SQLInfo;
 import halo.dal.analysis.SQLStruct;
 import halo.dal.analysis.antlr.AntlrParserDelegate;
@@ -28,15 +29,20 @@ public class AntlrV3SQLAnalyzer implements SQLAnalyzer {
 	public SQLInfo analyse(String sql, SQLStruct sqlStruct, Object[] values,
 			Map<String, Object> context) {
 		SQLInfoImpl info = new SQLInfoImpl();
+		info.setSqlOp(sqlStruct.getSqlOp());
 		SQLExpression sqlExpression;
 		int i = 0;
 		for (ColumnExper o : sqlStruct.getColumnExpers()) {
-			sqlExpression = new SQLExpression();
-			sqlExpression.setColumn(o.getColumn());
-			sqlExpression.setSqlExpressionSymbol(o.getSqlExpressionSymbol());
-			sqlExpression.setValue(values[i]);
-			info.addSQLExpression(o.getLogicTableName(), sqlExpression);
-			i++;
+			// in (?,?,...) 中的每个参数对应一个表达式
+			for (int k = 0; k < o.getParamCount(); k++) {
+				sqlExpression = new SQLExpression();
+				sqlExpression.setColumn(o.getColumn());
+				sqlExpression.setSqlExpressionSymbol(o.getSqlExpressionSymbol());
+				sqlExpression.setValue(values[i]);
+				sqlExpression.setParameterIndex(i + 1);
+				info.addSQLExpression(o.getLogicTableName(), sqlExpression);
+				i++;
+			}
 		}
 		return info;
 	}
@@ -54,6 +60,8 @@ public class AntlrV3SQLAnalyzer implements SQLAnalyzer {
 			throw new RuntimeException(e);
 		}
 		SQLStruct sqlStruct = new SQLStruct();
+		sqlStruct.setSqlOp(delegate.getSqlOp());
+		sqlStruct.setInsertRowCount(delegate.getInsertRowCount());
 		if (!delegate.isHasTable()) {
 			sqlStruct.setCanParse(false);
 			return sqlStruct;
@@ -68,7 +76,13 @@ public class AntlrV3SQLAnalyzer implements SQLAnalyzer {
 		for (ColExpr colExpr : delegate.getColExprs()) {
 			columnExper = new ColumnExper();
 			columnExper.setColumn(colExpr.getColumn());
-			columnExper.setSqlExpressionSymbol(colExpr.getOp());
+			if (colExpr.getOp().equalsIgnoreCase("in")) {
+				columnExper.setSqlExpressionSymbol(SQLExpressionSymbol.IN);
+				columnExper.setParamCount(colExpr.getParamCount());
+			}
+			else {
+				columnExper.setSqlExpressionSymbol(colExpr.getOp());
+			}
 			sqlStruct.addColumnExper(columnExper);
 		}
 		return sqlStruct;
@@ -80,7 +94,7 @@ public class AntlrV3SQLAnalyzer implements SQLAnalyzer {
 		List<String> newList = new ArrayList<String>();
 		String realTableName;
 		for (String tableName : sqlStruct.getTableNames()) {
-			realTableName = parsedTableInfo.getRealTable(tableName);
+			realTableName = getOutputTable(parsedTableInfo, tableName);
 			if (realTableName != null) {
 				String alias = sqlStruct.getAliasByTableName(tableName);
 				boolean isSame = alias != null && alias.endsWith(tableName);
@@ -103,7 +117,7 @@ public class AntlrV3SQLAnalyzer implements SQLAnalyzer {
 		// 解决sql结束字符串为表名，无法解析的问题例如 delete form user
 		String str;
 		for (String tableName : sqlStruct.getTableNames()) {
-			realTableName = parsedTableInfo.getRealTable(tableName);
+			realTableName = getOutputTable(parsedTableInfo, tableName);
 			if (realTableName != null) {
 				str = SQL_BLANK + tableName;
 				int idx = _sql.lastIndexOf(str);
@@ -117,4 +131,19 @@ public class AntlrV3SQLAnalyzer implements SQLAnalyzer {
 		}
 		return _sql;
 	}
+
+	/**
+	 * @return 设置了schema时返回 schema.真实表，没有真实表时使用逻辑表
+	 */
+	private static String getOutputTable(ParsedTableInfo parsedTableInfo,
+			String tableName) {
+		String realTableName = parsedTableInfo.getRealTable(tableName);
+		if (parsedTableInfo.getSchema() == null) {
+			return realTableName;
+		}
+		if (realTableName == null) {
+			realTableName = tableName;
+		}
+		return parsedTableInfo.getSchema() + "." + realTableName;
+	}
 }
@@ -0,0 +1,23 @@
+package halo.dal.metrics;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 只增加的计数器
+ */
+public class Counter {
+
+	private final AtomicLong count = new AtomicLong();
+
+	public void inc() {
+		count.incrementAndGet();
+	}
+
+	public void add(long delta) {
+		count.addAndGet(delta);
+	}
+
+	public long get() {
+		return count.get();
+	}
+}
@@ -0,0 +1,163 @@
+package halo.dal.metrics;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * 按照数据源记录的运行指标，指标的名称为 name.dsKey。每个 {@link halo.dal.sql.DALDataSource}
+ * 有一个实例，通过 {@link halo.dal.sql.DALDataSource#getMetrics()} 获得
+ */
+public class DALMetrics {
+
+	/**
+	 * 等待锁超时的次数
+	 */
+	public static final String LOCK_WAIT_TIMEOUT = "lockWaitTimeout";
+
+	/**
+	 * 死锁的次数
+	 */
+	public static final String DEADLOCK = "deadlock";
+
+	/**
+	 * 从 {@link halo.dal.sql.pool.ShardPool} 借出连接的次数
+	 */
+	public static final String POOL_BORROW = "poolBorrow";
+
+	/**
+	 * 借出连接的总耗时(微秒)，除以借出次数为平均耗时
+	 */
+	public static final String POOL_BORROW_TIME = "poolBorrowTime";
+
+	/**
+	 * 借出连接时需要等待的次数
+	 */
+	public static final String POOL_WAIT = "poolWait";
+
+	/**
+	 * 借出连接时等待的总时间(微秒)
+	 */
+	public static final String POOL_WAIT_TIME = "poolWaitTime";
+
+	/**
+	 * 等待超时没有借到连接的次数
+	 */
+	public static final String POOL_TIMEOUT = "poolTimeout";
+
+	/**
+	 * {@link halo.dal.sql.breaker.CircuitBreaker} 打开的次数
+	 */
+	public static final String CIRCUIT_OPEN = "circuitOpen";
+
+	/**
+	 * 熔断器打开时直接失败的调用次数
+	 */
+	public static final String CIRCUIT_REJECTED = "circuitRejected";
+
+	/**
+	 * {@link halo.dal.sql.limit.ConcurrencyLimiter} 当前的并发数量限制
+	 */
+	public static final String CONCURRENCY_LIMIT = "concurrencyLimit";
+
+	/**
+	 * 超过并发数量限制被拒绝的语句数量
+	 */
+	public static final String CONCURRENCY_REJECTED = "concurrencyRejected";
+
+	/**
+	 * 在另一个读库上发起对冲读的次数
+	 */
+	public static final String HEDGE_FIRED = "hedgeFired";
+
+	/**
+	 * 对冲读先于第一次查询返回的次数
+	 */
+	public static final String HEDGE_WON = "hedgeWon";
+
+	/**
+	 * 只读语句遇到临时错误后重试的次数
+	 */
+	public static final String RETRY = "retry";
+
+	private final ConcurrentMap<String, Counter> counterMap = new ConcurrentHashMap<String, Counter>();
+
+	private final ConcurrentMap<String, Gauge> gaugeMap = new ConcurrentHashMap<String, Gauge>();
+
+	/**
+	 * @param name
+	 *            指标名称
+	 * @param dsKey
+	 *            数据源key
+	 * @return 不存在时创建
+	 */
+	public Counter getCounter(String name, String dsKey) {
+		String key = name + "." + dsKey;
+		Counter counter = counterMap.get(key);
+		if (counter == null) {
+			counter = new Counter();
+			Counter old = counterMap.putIfAbsent(key, counter);
+			if (old != null) {
+				counter = old;
+			}
+		}
+		return counter;
+	}
+
+	/**
+	 * @return 不存在时返回0
+	 */
+	public long getCount(String name, String dsKey) {
+		Counter counter = counterMap.get(name + "." + dsKey);
+		if (counter == null) {
+			return 0;
+		}
+		return counter.get();
+	}
+
+	/**
+	 * @param name
+	 *            指标名称
+	 * @param dsKey
+	 *            数据源key
+	 * @return 不存在时创建
+	 */
+	public Gauge getGauge(String name, String dsKey) {
+		String key = name + "." + dsKey;
+		Gauge gauge = gaugeMap.get(key);
+		if (gauge == null) {
+			gauge = new Gauge();
+			Gauge old = gaugeMap.putIfAbsent(key, gauge);
+			if (old != null) {
+				gauge = old;
+			}
+		}
+		return gauge;
+	}
+
+	/**
+	 * @return 不存在时返回0
+	 */
+	public long getGaugeValue(String name, String dsKey) {
+		Gauge gauge = gaugeMap.get(name + "." + dsKey);
+		if (gauge == null) {
+			return 0;
+		}
+		return gauge.get();
+	}
+
+	/**
+	 * @return 按名称排序的所有指标的当前值
+	 */
+	public Map<String, Long> snapshot() {
+		Map<String, Long> map = new TreeMap<String, Long>();
+		for (Map.Entry<String, Counter> e : counterMap.entrySet()) {
+			map.put(e.getKey(), e.getValue().get());
+		}
+		for (Map.Entry<String, Gauge> e : gaugeMap.entrySet()) {
+			map.put(e.getKey(), e.getValue().get());
+		}
+		return map;
+	}
+}
@@ -0,0 +1,19 @@
+package halo.dal.metrics;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 记录当前值的指标
+ */
+public class Gauge {
+
+	private final AtomicLong value = new AtomicLong();
+
+	public void set(long value) {
+		this.value.set(value);
+	}
+
+	public long get() {
+		return value.get();
+	}
+}
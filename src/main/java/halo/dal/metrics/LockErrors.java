@@ -0,0 +1,44 @@
+package halo.dal.metrics;
+
+import java.sql.SQLException;
+
+/**
+ * 识别数据库返回的锁等待超时与死锁异常
+ */
+public class LockErrors {
+
+	private LockErrors() {
+	}
+
+	/**
+	 * mysql 1205，oracle ORA-30006，postgresql 55P03
+	 */
+	public static boolean isLockWaitTimeout(SQLException e) {
+		return e.getErrorCode() == 1205 || e.getErrorCode() == 30006
+		        || "55P03".equals(e.getSQLState());
+	}
+
+	/**
+	 * mysql 1213，oracle ORA-00060，postgresql 40P01
+	 */
+	public static boolean isDeadlock(SQLException e) {
+		return e.getErrorCode() == 1213 || e.getErrorCode() == 60
+		        || "40P01".equals(e.getSQLState());
+	}
+
+	/**
+	 * 异常是锁等待超时或死锁时，增加数据源对应的指标
+	 * 
+	 * @param metrics
+	 * @param dsKey
+	 * @param e
+	 */
+	public static void record(DALMetrics metrics, String dsKey, SQLException e) {
+		if (isLockWaitTimeout(e)) {
+			metrics.getCounter(DALMetrics.LOCK_WAIT_TIMEOUT, dsKey).inc();
+		}
+		else if (isDeadlock(e)) {
+			metrics.getCounter(DALMetrics.DEADLOCK, dsKey).inc();
+		}
+	}
+}
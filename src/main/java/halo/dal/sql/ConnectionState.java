@@ -0,0 +1,130 @@
+package halo.dal.sql;
+
+import halo.dal.sql.pool.PooledConnection;
+
+import java.sql.Connection;
+import java.util.Collections;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+/**
+ * 真实Connection最后一次被设置的状态。没有记录的Connection认为是新建的Connection，状态为jdbc的默认值。<br>
+ * 只记录从 {@link halo.dal.sql.pool.ShardPool} 借出的连接，ShardPool归还连接时不修改这些属性；
+ * 其他连接池归还时可能重置属性，记录会与真实状态不一致。每次借出的是同一个物理连接的不同代理，因此使用物理连接作为记录的key
+ */
+public class ConnectionState {
+
+	private boolean autoCommit = true;
+
+	/**
+	 * null表示没有设置过，真实Connection可能是其他代码设置为只读后放回连接池的
+	 */
+	private Boolean readOnly;
+
+	/**
+	 * 0表示没有设置过
+	 */
+	private int transactionIsolation;
+
+	/**
+	 * 0表示没有设置过
+	 */
+	private int holdability;
+
+	private String catalog;
+
+	public boolean isAutoCommit() {
+		return autoCommit;
+	}
+
+	public void setAutoCommit(boolean autoCommit) {
+		this.autoCommit = autoCommit;
+	}
+
+	public Boolean getReadOnly() {
+		return readOnly;
+	}
+
+	public void setReadOnly(boolean readOnly) {
+		this.readOnly = Boolean.valueOf(readOnly);
+	}
+
+	public int getTransactionIsolation() {
+		return transactionIsolation;
+	}
+
+	public void setTransactionIsolation(int transactionIsolation) {
+		this.transactionIsolation = transactionIsolation;
+	}
+
+	public int getHoldability() {
+		return holdability;
+	}
+
+	public void setHoldability(int holdability) {
+		this.holdability = holdability;
+	}
+
+	public String getCatalog() {
+		return catalog;
+	}
+
+	public void setCatalog(String catalog) {
+		this.catalog = catalog;
+	}
+
+	/**
+	 * 按照ShardPool中的物理连接记录状态，物理连接被连接池丢弃后记录随之回收
+	 */
+	static class Tracker {
+
+		private final Map<Object, ConnectionState> stateMap = Collections
+		        .synchronizedMap(new WeakHashMap<Object, ConnectionState>());
+
+		/**
+		 * @param con
+		 * @return 不存在时创建默认状态的记录，不是从ShardPool借出的连接返回null
+		 */
+		ConnectionState get(Connection con) {
+			Connection key = getPooledConnection(con);
+			if (key == null) {
+				return null;
+			}
+			synchronized (stateMap) {
+				ConnectionState state = stateMap.get(key);
+				if (state == null) {
+					state = new ConnectionState();
+					stateMap.put(key, state);
+				}
+				return state;
+			}
+		}
+
+		/**
+		 * 物理连接上的状态被其他代码修改后，需要删除记录
+		 *
+		 * @param con
+		 */
+		void remove(Connection con) {
+			Connection key = getPooledConnection(con);
+			if (key != null) {
+				stateMap.remove(key);
+			}
+		}
+
+		/**
+		 * @param con
+		 * @return 从ShardPool借出的连接对应的物理连接，其他连接返回null
+		 */
+		private static Connection getPooledConnection(Connection con) {
+			Connection current = con;
+			while (current instanceof ConnectionWrapper) {
+				if (current instanceof PooledConnection) {
+					return ((PooledConnection) current).getTargetConnection();
+				}
+				current = ((ConnectionWrapper) current).getTargetConnection();
+			}
+			return null;
+		}
+	}
+}
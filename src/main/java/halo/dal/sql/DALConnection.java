@@ -1,7 +1,12 @@
 package halo.dal.sql;
 
 import halo.dal.DALCurrentStatus;
+import halo.dal.DALFactory;
 import halo.dal.DALRunTimeException;
+import halo.dal.sql.journal.CommitJournal;
+import halo.dal.sql.replica.Replica;
+import halo.dal.sql.replica.ReplicaConnection;
+import halo.dal.sql.replica.ReplicaGroup;
 
 import java.sql.Array;
 import java.sql.Blob;
@@ -13,15 +18,32 @@ import java.sql.NClob;
 import java.sql.PreparedStatement;
 import java.sql.SQLClientInfoException;
 import java.sql.SQLException;
+import java.sql.SQLTimeoutException;
 import java.sql.SQLWarning;
 import java.sql.SQLXML;
 import java.sql.Savepoint;
 import java.sql.Statement;
 import java.sql.Struct;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
 import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Map;
+import java.util.Map.Entry;
 import java.util.Properties;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 
 /**
  * 支持分布式数据源访问的Connection，此类暂时不支持非PreparedStatement方式分布式读写。
@@ -31,9 +53,47 @@ import java.util.Properties;
 public class DALConnection implements Connection {
 
 	/**
-	 * 保存了真正的Connection
+	 * 读库Connection在conMap中的key后缀
 	 */
-	private final Map<String, Connection> conMap = new LinkedHashMap<String, Connection>();
+	private static final String READ_KEY_SUFFIX = "#read";
+
+	private static final ShardExecutor.ShardTask<Entry<String, Connection>, Void> COMMIT = new ShardExecutor.ShardTask<Entry<String, Connection>, Void>() {
+
+		public Void execute(Entry<String, Connection> entry)
+		        throws SQLException {
+			entry.getValue().commit();
+			return null;
+		}
+	};
+
+	private static final ShardExecutor.ShardTask<Entry<String, Connection>, Void> ROLLBACK = new ShardExecutor.ShardTask<Entry<String, Connection>, Void>() {
+
+		public Void execute(Entry<String, Connection> entry)
+		        throws SQLException {
+			entry.getValue().rollback();
+			return null;
+		}
+	};
+
+	private static final ShardExecutor.ShardTask<Entry<String, Connection>, Void> CLOSE = new ShardExecutor.ShardTask<Entry<String, Connection>, Void>() {
+
+		public Void execute(Entry<String, Connection> entry)
+		        throws SQLException {
+			entry.getValue().close();
+			return null;
+		}
+	};
+
+	/**
+	 * 保存了真正的Connection，按照获取的顺序，{@link DALDataSource#isOrderedLocking()}
+	 * 为true时按照dsKey的顺序
+	 */
+	private final Map<String, Connection> conMap;
+
+	/**
+	 * 数据源key与此连接最后一次写入该数据源的时间，用于写操作之后的读操作使用主库
+	 */
+	private Map<String, Long> writeTimeMap;
 
 	private boolean autoCommit = true;
 
@@ -47,6 +107,17 @@ public class DALConnection implements Connection {
 
 	private Map<String, Class<?>> typeMap = null;
 
+	/**
+	 * 每个真实Connection上没有关闭的语句数量，只在
+	 * {@link DALDataSource#isReleaseAfterStatement()} 为true时使用
+	 */
+	private Map<Connection, Integer> useCountMap;
+
+	/**
+	 * 通过 {@link #getRealConnection(String, boolean)} 交给调用者的Connection，在关闭之前不能归还
+	 */
+	private Set<Connection> pinnedConnections;
+
 	/**
 	 * 自定义的数据源
 	 */
@@ -54,6 +125,17 @@ public class DALConnection implements Connection {
 
 	public DALConnection(DALDataSource dalDataSource) throws SQLException {
 		this.dalDataSource = dalDataSource;
+		if (dalDataSource.isOrderedLocking()) {
+			this.conMap = new TreeMap<String, Connection>();
+		}
+		else {
+			this.conMap = new LinkedHashMap<String, Connection>();
+		}
+		if (dalDataSource.isReleaseAfterStatement()) {
+			this.useCountMap = new IdentityHashMap<Connection, Integer>();
+			this.pinnedConnections = Collections
+			        .newSetFromMap(new IdentityHashMap<Connection, Boolean>());
+		}
 		this.setAutoCommit(true);
 	}
 
@@ -62,17 +144,79 @@ public class DALConnection implements Connection {
 	}
 
 	public void close() throws SQLException {
-		Collection<Connection> c = this.conMap.values();
-		for (Connection con : c) {
-			con.close();
+		try {
+			this.invokeOnConnections(CLOSE);
+		}
+		finally {
+			DALCurrentStatus.remove();
 		}
-		DALCurrentStatus.remove();
 	}
 
 	public void commit() throws SQLException {
-		Collection<Connection> c = this.conMap.values();
-		for (Connection con : c) {
-			con.commit();
+		final CommitJournal commitJournal = this.dalDataSource
+		        .getCommitJournal();
+		if (commitJournal == null) {
+			this.invokeOnConnections(COMMIT);
+			return;
+		}
+		// 读库的Connection只读，不会出现部分提交，不记录在日志中
+		final Set<String> writeKeys = new LinkedHashSet<String>();
+		for (String key : this.conMap.keySet()) {
+			if (!key.endsWith(READ_KEY_SUFFIX)) {
+				writeKeys.add(key);
+			}
+		}
+		if (writeKeys.size() <= 1) {
+			this.invokeOnConnections(COMMIT);
+			return;
+		}
+		// 分步提交多个数据源时记录日志，进程崩溃后可以找到只有部分数据源提交的事务
+		final long txId = commitJournal.begin(writeKeys);
+		try {
+			this.invokeOnConnections(new ShardExecutor.ShardTask<Entry<String, Connection>, Void>() {
+
+				public Void execute(Entry<String, Connection> entry)
+				        throws SQLException {
+					if (!writeKeys.contains(entry.getKey())) {
+						entry.getValue().commit();
+						return null;
+					}
+					try {
+						entry.getValue().commit();
+					}
+					catch (SQLException e) {
+						commitJournal.shardFailed(txId, entry.getKey());
+						throw e;
+					}
+					commitJournal.shardCommitted(txId, entry.getKey());
+					return null;
+				}
+			});
+		}
+		finally {
+			commitJournal.end(txId);
+		}
+	}
+
+	/**
+	 * 对所有真实的Connection执行操作。{@link DALDataSource#isParallelCompletion()}
+	 * 为true并且有多个Connection时并行执行，等待全部完成，异常按照Connection的使用顺序连接
+	 * 
+	 * @param task
+	 * @throws SQLException
+	 */
+	private void invokeOnConnections(
+	        ShardExecutor.ShardTask<Entry<String, Connection>, Void> task)
+	        throws SQLException {
+		if (this.conMap.size() > 1
+		        && this.dalDataSource.isParallelCompletion()) {
+			new ShardExecutor().invokeAll(
+			        new ArrayList<Entry<String, Connection>>(this.conMap
+			                .entrySet()), task);
+			return;
+		}
+		for (Entry<String, Connection> entry : this.conMap.entrySet()) {
+			task.execute(entry);
 		}
 	}
 
@@ -86,13 +230,161 @@ public class DALConnection implements Connection {
 	 * @return
 	 */
 	public Connection getCurrentConnection() {
-		String name = DALCurrentStatus.getDsKey();
-		Connection con = this.conMap.get(name);
+		return this.getRealConnection(DALCurrentStatus.getDsKey());
+	}
+
+	/**
+	 * 获得指定数据源的Connection，不存在时从数据源中获取，并在当前Connection提交或关闭时一起提交或关闭
+	 * 
+	 * @param dsKey
+	 *            数据源key
+	 * @return
+	 */
+	public Connection getRealConnection(String dsKey) {
+		return this.getRealConnection(dsKey, false);
+	}
+
+	/**
+	 * 获得指定数据源的Connection，不存在时从数据源中获取，并在当前Connection提交或关闭时一起提交或关闭
+	 * 
+	 * @param dsKey
+	 *            数据源key
+	 * @param read
+	 *            是否是只读操作，数据源配置了读库时使用读库的Connection
+	 * @return
+	 */
+	public Connection getRealConnection(String dsKey, boolean read) {
+		Connection con = this.getOrCreateRealConnection(dsKey, read);
+		// 交给调用者使用的Connection不能提前归还
+		if (this.useCountMap != null) {
+			this.pinnedConnections.add(con);
+		}
+		return con;
+	}
+
+	/**
+	 * 获得语句使用的真实Connection，语句关闭后需要调用
+	 * {@link #releaseRealConnections(List)}
+	 * 
+	 * @param dsKey
+	 * @param read
+	 * @return
+	 */
+	Connection acquireRealConnection(String dsKey, boolean read) {
+		Connection con = this.getOrCreateRealConnection(dsKey, read);
+		if (this.useCountMap != null) {
+			Integer count = this.useCountMap.get(con);
+			this.useCountMap.put(con, count == null ? 1 : count + 1);
+		}
+		return con;
+	}
+
+	/**
+	 * 语句关闭后调用。{@link DALDataSource#isReleaseAfterStatement()}
+	 * 为true并且是自动提交时，没有其他语句使用的真实Connection立即关闭，归还连接池，下次使用时重新获取
+	 * 
+	 * @param cons
+	 *            语句通过 {@link #acquireRealConnection(String, boolean)} 获得的Connection
+	 * @throws SQLException
+	 */
+	void releaseRealConnections(List<Connection> cons) throws SQLException {
+		if (this.useCountMap == null) {
+			return;
+		}
+		SQLException first = null;
+		for (Connection con : cons) {
+			Integer count = this.useCountMap.get(con);
+			if (count == null) {
+				continue;
+			}
+			if (count > 1) {
+				this.useCountMap.put(con, count - 1);
+				continue;
+			}
+			this.useCountMap.remove(con);
+			if (!this.autoCommit || this.pinnedConnections.contains(con)) {
+				continue;
+			}
+			Iterator<Connection> it = this.conMap.values().iterator();
+			while (it.hasNext()) {
+				if (it.next() == con) {
+					it.remove();
+					break;
+				}
+			}
+			try {
+				con.close();
+			}
+			catch (SQLException e) {
+				first = ShardExecutor.chain(first, e);
+			}
+		}
+		if (first != null) {
+			throw first;
+		}
+	}
+
+	/**
+	 * 关闭语句执行失败的真实Connection并重新获取，只用于自动提交时的重试。失败的是读库的Connection时，记录读库失败，优先使用其他可用的读库
+	 * 
+	 * @param dsKey
+	 * @param read
+	 * @param broken
+	 *            语句执行失败的Connection
+	 * @return 替换broken的Connection
+	 * @throws SQLException
+	 */
+	Connection reconnectRealConnection(String dsKey, boolean read,
+	        Connection broken) throws SQLException {
+		String key = this.getConnectionMapKey(dsKey, read);
+		if (this.conMap.get(key) == broken) {
+			this.conMap.remove(key);
+		}
+		Integer count = null;
+		if (this.useCountMap != null) {
+			count = this.useCountMap.remove(broken);
+		}
+		try {
+			broken.close();
+		}
+		catch (SQLException e) {
+			// 失败的Connection关闭时可能也会失败
+		}
+		Connection con = null;
+		if (broken instanceof ReplicaConnection) {
+			Replica replica = ((ReplicaConnection) broken).getReplica();
+			ReplicaGroup group = this.dalDataSource.getReplicaGroup(dsKey);
+			if (group != null) {
+				group.onReadFailure(replica);
+				con = group.getHedgeConnection(replica);
+			}
+		}
+		if (con == null) {
+			con = this.createRealConnection(key);
+		}
+		try {
+			this.initCurrentConnection(con);
+		}
+		catch (SQLException e) {
+			con.close();
+			throw e;
+		}
+		this.conMap.put(key, con);
+		if (count != null) {
+			this.useCountMap.put(con, count);
+		}
+		return con;
+	}
+
+	private Connection getOrCreateRealConnection(String logicDsKey,
+	        boolean read) {
+		String key = this.getConnectionMapKey(logicDsKey, read);
+		Connection con = this.conMap.get(key);
 		if (con == null) {
 			try {
-				con = this.dalDataSource.getCurrentConnection();
+				con = this.createRealConnection(key);
 				this.initCurrentConnection(con);
-				this.conMap.put(name, con);
+				this.conMap.put(key, con);
 			}
 			catch (SQLException e) {
 				throw new DALRunTimeException(e);
@@ -101,29 +393,211 @@ public class DALConnection implements Connection {
 		return con;
 	}
 
+	/**
+	 * @return 真实Connection在conMap中的key，共用物理服务器连接的数据源使用服务器的key，使用读库时加上读库后缀
+	 */
+	private String getConnectionMapKey(String logicDsKey, boolean read) {
+		String dsKey = this.dalDataSource.getServerKey(logicDsKey);
+		boolean useReplica = read && this.dalDataSource.isReplicated(dsKey)
+		        && !this.isReadYourWrites(dsKey);
+		return useReplica ? dsKey + READ_KEY_SUFFIX : dsKey;
+	}
+
+	private Connection createRealConnection(String key) throws SQLException {
+		if (key.endsWith(READ_KEY_SUFFIX)) {
+			return this.dalDataSource.getRealConnection(key.substring(0,
+			        key.length() - READ_KEY_SUFFIX.length()), true);
+		}
+		return this.dalDataSource.getRealConnection(key, false);
+	}
+
+	/**
+	 * 并行获取多个数据源还没有获取的真实Connection，全部获取并初始化成功后才加入当前连接。
+	 * 有一个获取失败或者超过deadline时，取消其他获取，关闭已经获取的Connection，之后才获取到的Connection也直接关闭
+	 * 
+	 * @param dsKeys
+	 *            语句需要使用的数据源
+	 * @param read
+	 *            是否是只读操作
+	 * @param deadline
+	 *            获取的截止时间(毫秒)，0表示不限制
+	 * @throws SQLException
+	 */
+	void prepareRealConnections(Collection<String> dsKeys, boolean read,
+	        long deadline) throws SQLException {
+		Set<String> keySet = new LinkedHashSet<String>();
+		for (String dsKey : dsKeys) {
+			String key = this.getConnectionMapKey(dsKey, read);
+			if (!this.conMap.containsKey(key)) {
+				keySet.add(key);
+			}
+		}
+		// 只有一个需要获取时，在使用时获取
+		if (keySet.size() < 2) {
+			return;
+		}
+		final List<String> keys = new ArrayList<String>(keySet);
+		final Connection[] cons = new Connection[keys.size()];
+		// 放弃获取后，后台获取到的Connection直接关闭
+		final boolean[] abandoned = new boolean[1];
+		ExecutorService executorService = DALFactory.getDefault()
+		        .getExecutorService();
+		List<Future<Void>> futures = new ArrayList<Future<Void>>(keys.size());
+		for (int i = 0; i < keys.size(); i++) {
+			final int idx = i;
+			futures.add(executorService.submit(new Callable<Void>() {
+
+				public Void call() throws Exception {
+					Connection con = createRealConnection(keys.get(idx));
+					synchronized (cons) {
+						if (!abandoned[0]) {
+							cons[idx] = con;
+							return null;
+						}
+					}
+					con.close();
+					return null;
+				}
+			}));
+		}
+		SQLException error = null;
+		for (Future<Void> future : futures) {
+			try {
+				if (deadline > 0) {
+					future.get(Math.max(0, deadline
+					        - System.currentTimeMillis()),
+					        TimeUnit.MILLISECONDS);
+				}
+				else {
+					future.get();
+				}
+			}
+			catch (TimeoutException e) {
+				error = new SQLTimeoutException(
+				        "acquire connections timeout " + keys);
+			}
+			catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				error = new SQLException(
+				        "interrupted when acquiring connections " + keys, e);
+			}
+			catch (ExecutionException e) {
+				error = ShardExecutor.toSQLException(e.getCause());
+			}
+			if (error != null) {
+				break;
+			}
+		}
+		if (error == null) {
+			try {
+				for (Connection con : cons) {
+					this.initCurrentConnection(con);
+				}
+			}
+			catch (SQLException e) {
+				error = e;
+			}
+		}
+		if (error != null) {
+			for (Future<Void> future : futures) {
+				future.cancel(true);
+			}
+			synchronized (cons) {
+				abandoned[0] = true;
+			}
+			for (Connection con : cons) {
+				if (con != null) {
+					try {
+						con.close();
+					}
+					catch (SQLException e) {
+						error = ShardExecutor.chain(error, e);
+					}
+				}
+			}
+			throw error;
+		}
+		for (int i = 0; i < cons.length; i++) {
+			this.conMap.put(keys.get(i), cons[i]);
+		}
+	}
+
+	/**
+	 * 记录对数据源的写操作，之后在 {@link ReplicaGroup#getReadYourWritesWindow()}
+	 * 时间内，此连接对该数据源的读操作使用主库
+	 * 
+	 * @param dsKey
+	 */
+	void markWrite(String dsKey) {
+		if (this.writeTimeMap == null) {
+			this.writeTimeMap = new HashMap<String, Long>(4);
+		}
+		this.writeTimeMap.put(this.dalDataSource.getServerKey(dsKey),
+		        System.currentTimeMillis());
+	}
+
+	private boolean isReadYourWrites(String dsKey) {
+		if (this.writeTimeMap == null) {
+			return false;
+		}
+		Long writeTime = this.writeTimeMap.get(dsKey);
+		if (writeTime == null) {
+			return false;
+		}
+		return this.dalDataSource.getReplicaGroup(dsKey).isReadYourWrites(
+		        writeTime);
+	}
+
+	public DALDataSource getDalDataSource() {
+		return dalDataSource;
+	}
+
 	/**
 	 * 获得正在使用的Connection
 	 * 
 	 * @return
 	 */
 	private Connection getConnectionInUsing() {
-		String name = DALCurrentStatus.getDsKey();
-		return this.conMap.get(name);
+		String dsKey = DALCurrentStatus.getDsKey();
+		Connection con = this.conMap.get(this.getConnectionMapKey(dsKey, false));
+		if (con == null) {
+			con = this.conMap.get(this.getConnectionMapKey(dsKey, true));
+		}
+		return con;
 	}
 
 	private void initCurrentConnection(Connection con) throws SQLException {
-		if (this.transactionIsolation != 0) {
-			con.setTransactionIsolation(this.transactionIsolation);
-		}
-		if (this.getHoldability() != 0) {
-			con.setHoldability(this.holdability);
-		}
-		if (!this.autoCommit) {
-			con.setAutoCommit(this.autoCommit);
+		// 只设置与真实Connection当前状态不同的属性
+		ConnectionState state = this.dalDataSource.getConnectionState(con);
+		try {
+			if (this.transactionIsolation != 0
+			        && this.transactionIsolation != state
+			                .getTransactionIsolation()) {
+				con.setTransactionIsolation(this.transactionIsolation);
+				state.setTransactionIsolation(this.transactionIsolation);
+			}
+			if (this.holdability != 0
+			        && this.holdability != state.getHoldability()) {
+				con.setHoldability(this.holdability);
+				state.setHoldability(this.holdability);
+			}
+			if (this.autoCommit != state.isAutoCommit()) {
+				con.setAutoCommit(this.autoCommit);
+				state.setAutoCommit(this.autoCommit);
+			}
+			if (state.getReadOnly() == null
+			        || this.readOnly != state.getReadOnly().booleanValue()) {
+				con.setReadOnly(this.readOnly);
+				state.setReadOnly(this.readOnly);
+			}
+			if (this.catalog != null && !this.catalog.equals(state.getCatalog())) {
+				con.setCatalog(this.catalog);
+				state.setCatalog(this.catalog);
+			}
 		}
-		con.setReadOnly(this.readOnly);
-		if (this.catalog != null) {
-			con.setCatalog(this.catalog);
+		catch (SQLException e) {
+			this.dalDataSource.removeConnectionState(con);
+			throw e;
 		}
 		if (typeMap != null) {
 			con.setTypeMap(typeMap);
@@ -256,10 +730,7 @@ public class DALConnection implements Connection {
 	}
 
 	public void rollback() throws SQLException {
-		Collection<Connection> c = conMap.values();
-		for (Connection con : c) {
-			con.rollback();
-		}
+		this.invokeOnConnections(ROLLBACK);
 	}
 
 	public void setAutoCommit(boolean autoCommit) throws SQLException {
@@ -2,17 +2,32 @@ package halo.dal.sql;
 
 import halo.dal.DALCurrentStatus;
 import halo.dal.DALRunTimeException;
+import halo.dal.metrics.DALMetrics;
+import halo.dal.sql.breaker.CircuitBreakers;
+import halo.dal.sql.limit.ConcurrencyLimiters;
+import halo.dal.sql.journal.CommitJournal;
+import halo.dal.sql.pool.ShardPool;
+import halo.dal.sql.replica.Replica;
+import halo.dal.sql.replica.ReplicaGroup;
 
 import java.io.PrintWriter;
 import java.sql.Connection;
 import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Set;
 
 import javax.sql.DataSource;
 
 /**
  * 支持分布式数据源访问的数据源。数据源中包含了需要访问的所有真实数据源.<br>
- * 目前不支持单数据源访问
+ * 目前不支持单数据源访问<br>
+ * 数据源为 {@link ReplicaGroup} 时，只读连接或者自动提交连接中的select语句将使用读库
  * 
  * @author akwei
  */
@@ -22,12 +37,425 @@ public class DALDataSource implements DataSource {
 
 	private Map<String, DataSource> dataSourceMap;
 
+	/**
+	 * 数据源key与物理服务器、schema的对应关系，没有配置的数据源key直接使用dataSourceMap
+	 */
+	private Map<String, ServerSchema> serverSchemaMap;
+
+	private volatile List<String> physicalDsKeys;
+
+	/**
+	 * default_ds对应的物理服务器的key，设置dataSourceMap时计算
+	 */
+	private volatile String defaultPhysicalKey = DSKEY_DEFAULT;
+
 	private PrintWriter logWriter;
 
 	private int loginTimeout = 3;
 
 	private boolean debugConnection;
 
+	/**
+	 * 自动提交的连接中select语句是否使用读库，为false时只有只读连接使用读库
+	 */
+	private boolean autoCommitReadFromReplica = true;
+
+	/**
+	 * 使用了多个数据源的连接，commit,rollback,close是否在多个数据源上并行执行
+	 */
+	private boolean parallelCompletion;
+
+	/**
+	 * 是否按照dsKey的顺序获取连接、执行多个数据源上的写操作以及提交
+	 */
+	private boolean orderedLocking;
+
+	private final DALMetrics metrics = new DALMetrics();
+
+	private ShardPool shardPool;
+
+	private volatile CircuitBreakers circuitBreakers;
+
+	private volatile ConcurrencyLimiters concurrencyLimiters;
+
+	private volatile RetryPolicy retryPolicy;
+
+	/**
+	 * 是否记录真实Connection的状态，只设置发生变化的属性
+	 */
+	private boolean connectionStateTracking;
+
+	/**
+	 * 自动提交时，语句关闭后是否立即归还真实Connection
+	 */
+	private boolean releaseAfterStatement;
+
+	/**
+	 * 语句需要在多个数据源上执行时，是否并行获取真实Connection
+	 */
+	private boolean parallelAcquire;
+
+	/**
+	 * 预热时每个数据源同时打开的连接数量
+	 */
+	private int warmUpConnections = 1;
+
+	/**
+	 * 预热时每个数据源的连接上预编译的sql，key为数据源key
+	 */
+	private Map<String, List<String>> warmUpStatements;
+
+	/**
+	 * 预热时检查连接是否可用的超时时间(秒)
+	 */
+	private int warmUpValidationTimeout = 3;
+
+	private volatile boolean ready;
+
+	private volatile Map<String, Long> warmUpTimes = Collections.emptyMap();
+
+	private final ConnectionState.Tracker connectionStateTracker = new ConnectionState.Tracker();
+
+	/**
+	 * 设置为true时，连接按照dsKey的顺序获取与提交，多个数据源上的写操作按照dsKey的顺序在当前线程中依次执行，
+	 * 并发的请求以相同的顺序在各个数据库上加锁，避免跨数据库的死锁
+	 * 
+	 * @param orderedLocking
+	 */
+	public void setOrderedLocking(boolean orderedLocking) {
+		this.orderedLocking = orderedLocking;
+	}
+
+	public boolean isOrderedLocking() {
+		return orderedLocking;
+	}
+
+	/**
+	 * 设置为true时，记录每个物理连接最后一次设置的autoCommit,readOnly,transactionIsolation,holdability,catalog，
+	 * 再次获得该连接时只设置发生变化的属性，减少与数据库的交互。<br>
+	 * 只对从 {@link ShardPool} 借出的连接生效，其他连接池归还连接时可能重置这些属性，每次都设置。
+	 * 要求应用不直接修改真实Connection的这些属性
+	 * 
+	 * @param connectionStateTracking
+	 */
+	public void setConnectionStateTracking(boolean connectionStateTracking) {
+		this.connectionStateTracking = connectionStateTracking;
+	}
+
+	public boolean isConnectionStateTracking() {
+		return connectionStateTracking;
+	}
+
+	/**
+	 * 设置为true时，自动提交的连接中，PreparedStatement关闭后(或者再次执行前)，其使用的真实Connection立即归还连接池，
+	 * 下次使用时重新获取，减少一个请求访问多个数据源时占用的连接数量。<br>
+	 * 通过 {@link DALConnection#getRealConnection(String, boolean)}
+	 * 直接获得的Connection在DALConnection关闭时才归还。没有表信息的sql(例如 select last_insert_id())
+	 * 不能保证使用上一条sql的Connection
+	 * 
+	 * @param releaseAfterStatement
+	 */
+	public void setReleaseAfterStatement(boolean releaseAfterStatement) {
+		this.releaseAfterStatement = releaseAfterStatement;
+	}
+
+	public boolean isReleaseAfterStatement() {
+		return releaseAfterStatement;
+	}
+
+	/**
+	 * 设置为true时，语句需要在多个数据源上执行时，执行前并行获取所有还没有获取的真实Connection，不再在第一次使用时依次获取。
+	 * 获取的时间计入语句的queryTimeout，有一个获取失败或超时时，关闭已经获取的Connection。orderedLocking为true时不使用
+	 * 
+	 * @param parallelAcquire
+	 */
+	public void setParallelAcquire(boolean parallelAcquire) {
+		this.parallelAcquire = parallelAcquire;
+	}
+
+	public boolean isParallelAcquire() {
+		return parallelAcquire;
+	}
+
+	public void setWarmUpConnections(int warmUpConnections) {
+		this.warmUpConnections = warmUpConnections;
+	}
+
+	/**
+	 * 设置预热时需要预编译的sql，sql中使用真实表名称
+	 * 
+	 * @param warmUpStatements
+	 *            key为数据源key
+	 */
+	public void setWarmUpStatements(Map<String, List<String>> warmUpStatements) {
+		this.warmUpStatements = warmUpStatements;
+	}
+
+	public void setWarmUpValidationTimeout(int warmUpValidationTimeout) {
+		this.warmUpValidationTimeout = warmUpValidationTimeout;
+	}
+
+	/**
+	 * 预热所有数据源，可以作为init-method。每个物理数据源以及 {@link ReplicaGroup}
+	 * 的每个读库同时打开warmUpConnections个连接，所有连接并行打开，检查连接是否可用，
+	 * 在每个连接上预编译warmUpStatements中的sql，全部完成后关闭连接归还连接池。全部成功后 {@link #isReady()} 返回true
+	 * 
+	 * @throws SQLException
+	 *             有连接预热失败时抛出，其他连接的异常按照数据源的顺序通过
+	 *             {@link SQLException#setNextException(SQLException)}追加
+	 */
+	public void warmUp() throws SQLException {
+		this.ready = false;
+		// 共用物理服务器的数据源只预热一次，预编译所有数据源的sql
+		Map<String, List<String>> serverMap = new LinkedHashMap<String, List<String>>();
+		for (String dsKey : this.getPhysicalDsKeys()) {
+			String server = this.getServerKey(dsKey);
+			List<String> sqls = serverMap.get(server);
+			if (sqls == null) {
+				sqls = new ArrayList<String>();
+				serverMap.put(server, sqls);
+			}
+			if (this.warmUpStatements != null
+			        && this.warmUpStatements.get(dsKey) != null) {
+				sqls.addAll(this.warmUpStatements.get(dsKey));
+			}
+		}
+		List<WarmUpTarget> targets = new ArrayList<WarmUpTarget>();
+		for (Entry<String, List<String>> e : serverMap.entrySet()) {
+			targets.add(new WarmUpTarget(e.getKey(), e.getKey(), null, e
+			        .getValue()));
+			ReplicaGroup group = this.getReplicaGroup(e.getKey());
+			if (group != null) {
+				for (Replica replica : group.getReplicas()) {
+					targets.add(new WarmUpTarget(e.getKey() + "."
+					        + replica.getName(), e.getKey(), replica
+					        .getDataSource(), e.getValue()));
+				}
+			}
+		}
+		List<WarmUpTarget> slots = new ArrayList<WarmUpTarget>();
+		for (WarmUpTarget target : targets) {
+			for (int i = 0; i < Math.max(1, this.warmUpConnections); i++) {
+				slots.add(target);
+			}
+		}
+		// 所有连接都打开后才关闭，连接池中才会有warmUpConnections个可用的连接
+		final List<Connection> cons = Collections
+		        .synchronizedList(new ArrayList<Connection>(slots.size()));
+		final long begin = System.currentTimeMillis();
+		List<Long> times = null;
+		SQLException error = null;
+		try {
+			times = new ShardExecutor().invokeAll(slots,
+			        new ShardExecutor.ShardTask<WarmUpTarget, Long>() {
+
+				        public Long execute(WarmUpTarget item)
+				                throws SQLException {
+					        try {
+						        warmUp(item, cons);
+					        }
+					        catch (SQLException e) {
+						        throw new SQLException("warm up [ " + item.key
+						                + " ] failed: " + e.getMessage(), e
+						                .getSQLState(), e.getErrorCode(), e);
+					        }
+					        return System.currentTimeMillis() - begin;
+				        }
+			        });
+		}
+		catch (SQLException e) {
+			error = e;
+		}
+		for (Connection con : cons) {
+			try {
+				con.close();
+			}
+			catch (SQLException e) {
+				error = ShardExecutor.chain(error, e);
+			}
+		}
+		if (error != null) {
+			throw error;
+		}
+		Map<String, Long> map = new LinkedHashMap<String, Long>();
+		for (int i = 0; i < slots.size(); i++) {
+			Long time = map.get(slots.get(i).key);
+			if (time == null || time < times.get(i)) {
+				map.put(slots.get(i).key, times.get(i));
+			}
+		}
+		this.warmUpTimes = Collections.unmodifiableMap(map);
+		this.ready = true;
+	}
+
+	/**
+	 * 打开一个连接，检查是否可用并预编译sql，连接加入cons，由调用者关闭
+	 */
+	private void warmUp(WarmUpTarget target, List<Connection> cons)
+	        throws SQLException {
+		Connection con;
+		if (target.replicaDataSource != null) {
+			con = target.replicaDataSource.getConnection();
+		}
+		else {
+			con = this.getRealConnection(target.dsKey, false);
+		}
+		cons.add(con);
+		if (!con.isValid(this.warmUpValidationTimeout)) {
+			throw new SQLException("connection of [ " + target.key
+			        + " ] is not valid");
+		}
+		for (String sql : target.sqls) {
+			con.prepareStatement(sql).close();
+		}
+	}
+
+	/**
+	 * @return {@link #warmUp()} 是否已经成功完成
+	 */
+	public boolean isReady() {
+		return ready;
+	}
+
+	/**
+	 * @return 每个物理数据源与读库的预热耗时(毫秒)，key为数据源key，读库为 数据源key.读库名称
+	 */
+	public Map<String, Long> getWarmUpTimes() {
+		return warmUpTimes;
+	}
+
+	/**
+	 * @param con
+	 *            真实Connection
+	 * @return 没有开启connectionStateTracking或者不是从ShardPool借出的连接时，返回默认状态
+	 */
+	ConnectionState getConnectionState(Connection con) {
+		if (this.connectionStateTracking) {
+			ConnectionState state = this.connectionStateTracker.get(con);
+			if (state != null) {
+				return state;
+			}
+		}
+		return new ConnectionState();
+	}
+
+	/**
+	 * 删除真实Connection的状态记录，下次使用时重新设置
+	 * 
+	 * @param con
+	 */
+	void removeConnectionState(Connection con) {
+		if (this.connectionStateTracking) {
+			this.connectionStateTracker.remove(con);
+		}
+	}
+
+	/**
+	 * 使用内置的连接池，数据源key与数据源的对应关系使用连接池中的设置，连接池的指标记录在 {@link #getMetrics()}
+	 * 
+	 * @param shardPool
+	 *            已经调用过 {@link ShardPool#init()} 的连接池
+	 */
+	public void setShardPool(ShardPool shardPool) {
+		this.shardPool = shardPool;
+		shardPool.setMetrics(this.metrics);
+		this.setDataSourceMap(shardPool.getDataSourceMap());
+	}
+
+	public ShardPool getShardPool() {
+		return shardPool;
+	}
+
+	/**
+	 * 设置每个数据源的熔断器，获取真实Connection与执行语句前检查熔断器，熔断器打开时直接失败，熔断器的指标记录在
+	 * {@link #getMetrics()}。共用物理服务器的数据源使用服务器的熔断器，default_ds使用对应同一个数据源的其他key的熔断器
+	 * 
+	 * @param circuitBreakers
+	 */
+	public void setCircuitBreakers(CircuitBreakers circuitBreakers) {
+		this.circuitBreakers = circuitBreakers;
+		circuitBreakers.setMetrics(this.metrics);
+	}
+
+	public CircuitBreakers getCircuitBreakers() {
+		return circuitBreakers;
+	}
+
+	/**
+	 * 设置每个数据源的自适应并发数量限制，执行中的语句数量超过限制时等待或拒绝，当前的限制记录在 {@link #getMetrics()}
+	 * 
+	 * @param concurrencyLimiters
+	 */
+	public void setConcurrencyLimiters(ConcurrencyLimiters concurrencyLimiters) {
+		this.concurrencyLimiters = concurrencyLimiters;
+		concurrencyLimiters.setMetrics(this.metrics);
+	}
+
+	public ConcurrencyLimiters getConcurrencyLimiters() {
+		return concurrencyLimiters;
+	}
+
+	/**
+	 * 设置只读语句遇到临时错误时的重试策略，重试次数记录在 {@link #getMetrics()}
+	 * 
+	 * @param retryPolicy
+	 */
+	public void setRetryPolicy(RetryPolicy retryPolicy) {
+		this.retryPolicy = retryPolicy;
+	}
+
+	public RetryPolicy getRetryPolicy() {
+		return retryPolicy;
+	}
+
+	/**
+	 * @return 按照数据源记录的运行指标
+	 */
+	public DALMetrics getMetrics() {
+		return metrics;
+	}
+
+	/**
+	 * 多数据源分步提交的日志，为null时不记录
+	 */
+	private CommitJournal commitJournal;
+
+	/**
+	 * 设置多数据源分步提交的日志，需要先调用 {@link CommitJournal#init()}
+	 * 
+	 * @param commitJournal
+	 */
+	public void setCommitJournal(CommitJournal commitJournal) {
+		this.commitJournal = commitJournal;
+	}
+
+	public CommitJournal getCommitJournal() {
+		return commitJournal;
+	}
+
+	/**
+	 * 设置为true时，使用了多个数据源的连接在
+	 * {@link halo.dal.DALFactory#getExecutorService()}
+	 * 中并行执行commit,rollback,close，等待全部完成后返回，有失败时按照数据源的使用顺序抛出异常。只使用了一个数据源时在当前线程中执行
+	 * 
+	 * @param parallelCompletion
+	 */
+	public void setParallelCompletion(boolean parallelCompletion) {
+		this.parallelCompletion = parallelCompletion;
+	}
+
+	public boolean isParallelCompletion() {
+		return parallelCompletion;
+	}
+
+	public void setAutoCommitReadFromReplica(boolean autoCommitReadFromReplica) {
+		this.autoCommitReadFromReplica = autoCommitReadFromReplica;
+	}
+
+	public boolean isAutoCommitReadFromReplica() {
+		return autoCommitReadFromReplica;
+	}
+
 	public void setDebugConnection(boolean debugConnection) {
 		this.debugConnection = debugConnection;
 	}
@@ -37,17 +465,133 @@ public class DALDataSource implements DataSource {
 	}
 
 	private DataSource getCurrentDataSource() {
-		String name = DALCurrentStatus.getDsKey();
-		DataSource ds = this.dataSourceMap.get(name);
+		return this.getDataSource(DALCurrentStatus.getDsKey());
+	}
+
+	private DataSource getDataSource(String dsKey) {
+		DataSource ds = this.dataSourceMap.get(this.getServerKey(dsKey));
 		if (ds == null) {
-			throw new DALRunTimeException("no datasource forKey [ " + name
+			throw new DALRunTimeException("no datasource forKey [ " + dsKey
 			        + " ]");
 		}
 		return ds;
 	}
 
 	public Connection getCurrentConnection() throws SQLException {
-		return this.getCurrentDataSource().getConnection();
+		return this.getRealConnection(DALCurrentStatus.getDsKey());
+	}
+
+	/**
+	 * 获得指定数据源的真实Connection
+	 * 
+	 * @param dsKey
+	 *            数据源key
+	 * @return
+	 * @throws SQLException
+	 */
+	public Connection getRealConnection(String dsKey) throws SQLException {
+		return this.getDataSource(dsKey).getConnection();
+	}
+
+	/**
+	 * 获得指定数据源的真实Connection。数据源为 {@link ReplicaGroup}并且read=true时，返回读库的Connection
+	 * 
+	 * @param dsKey
+	 *            数据源key
+	 * @param read
+	 *            是否是只读操作
+	 * @return
+	 * @throws SQLException
+	 */
+	public Connection getRealConnection(String dsKey, boolean read)
+	        throws SQLException {
+		DataSource ds = this.getDataSource(dsKey);
+		CircuitBreakers breakers = this.circuitBreakers;
+		// 读库的可用性由读库组的健康检查处理，读库的失败不计入主库的熔断器
+		if (breakers == null || (read && ds instanceof ReplicaGroup)) {
+			return this.getConnection(ds, read);
+		}
+		String server = this.getPhysicalKey(dsKey);
+		breakers.acquire(server);
+		long begin = System.currentTimeMillis();
+		try {
+			Connection con = this.getConnection(ds, read);
+			breakers.onSuccess(server, System.currentTimeMillis() - begin);
+			return con;
+		}
+		catch (SQLException e) {
+			breakers.onError(server, System.currentTimeMillis() - begin, e);
+			throw e;
+		}
+	}
+
+	private Connection getConnection(DataSource ds, boolean read)
+	        throws SQLException {
+		if (read && ds instanceof ReplicaGroup) {
+			return ((ReplicaGroup) ds).getReadConnection();
+		}
+		return ds.getConnection();
+	}
+
+	/**
+	 * @param dsKey
+	 * @return 数据源是否配置了读库
+	 */
+	public boolean isReplicated(String dsKey) {
+		return this.dataSourceMap.get(this.getServerKey(dsKey)) instanceof ReplicaGroup;
+	}
+
+	/**
+	 * @param dsKey
+	 * @return 数据源没有配置读库时返回null
+	 */
+	public ReplicaGroup getReplicaGroup(String dsKey) {
+		DataSource ds = this.dataSourceMap.get(this.getServerKey(dsKey));
+		if (ds instanceof ReplicaGroup) {
+			return (ReplicaGroup) ds;
+		}
+		return null;
+	}
+
+	/**
+	 * 获得所有真实数据源的key，多个key对应同一个真实数据源时(例如default_ds)，只返回其中一个key，按照key排序。
+	 * 配置了serverSchemaMap时，返回其中的所有数据源key，不再返回被映射的服务器的key
+	 * 
+	 * @return
+	 */
+	public List<String> getPhysicalDsKeys() {
+		List<String> list = this.physicalDsKeys;
+		if (list == null) {
+			Map<DataSource, String> map = new IdentityHashMap<DataSource, String>();
+			Set<DataSource> servers = Collections
+			        .newSetFromMap(new IdentityHashMap<DataSource, Boolean>());
+			list = new ArrayList<String>();
+			if (this.serverSchemaMap != null) {
+				for (Entry<String, ServerSchema> e : this.serverSchemaMap
+				        .entrySet()) {
+					servers.add(this.getDataSource(e.getKey()));
+					list.add(e.getKey());
+				}
+			}
+			List<String> keys = new ArrayList<String>(
+			        this.dataSourceMap.keySet());
+			Collections.sort(keys);
+			for (String key : keys) {
+				DataSource ds = this.dataSourceMap.get(key);
+				if (servers.contains(ds)) {
+					continue;
+				}
+				String old = map.get(ds);
+				if (old == null || old.equals(DSKEY_DEFAULT)) {
+					map.put(ds, key);
+				}
+			}
+			list.addAll(map.values());
+			Collections.sort(list);
+			list = Collections.unmodifiableList(list);
+			this.physicalDsKeys = list;
+		}
+		return list;
 	}
 
 	/**
@@ -58,6 +602,81 @@ public class DALDataSource implements DataSource {
 	 */
 	public void setDataSourceMap(Map<String, DataSource> dataSourceMap) {
 		this.dataSourceMap = dataSourceMap;
+		this.physicalDsKeys = null;
+		this.defaultPhysicalKey = findDefaultPhysicalKey(dataSourceMap);
+	}
+
+	/**
+	 * @return 与default_ds对应同一个数据源的其他key中按照key排序的第一个，与 {@link #getPhysicalDsKeys()}
+	 *         的选择相同；没有时返回default_ds
+	 */
+	private static String findDefaultPhysicalKey(
+	        Map<String, DataSource> dataSourceMap) {
+		DataSource ds = dataSourceMap.get(DSKEY_DEFAULT);
+		String physicalKey = null;
+		for (Entry<String, DataSource> e : dataSourceMap.entrySet()) {
+			if (e.getValue() != ds || e.getKey().equals(DSKEY_DEFAULT)) {
+				continue;
+			}
+			if (physicalKey == null || e.getKey().compareTo(physicalKey) < 0) {
+				physicalKey = e.getKey();
+			}
+		}
+		return physicalKey == null ? DSKEY_DEFAULT : physicalKey;
+	}
+
+	/**
+	 * 设置数据源key对应的物理服务器与schema。同一个服务器上的多个schema共用一个连接，sql中的表名称使用 schema.真实表，
+	 * 同一个服务器上多个schema的事务成为一个本地事务
+	 * 
+	 * @param serverSchemaMap
+	 *            key为数据源key
+	 */
+	public void setServerSchemaMap(Map<String, ServerSchema> serverSchemaMap) {
+		this.serverSchemaMap = serverSchemaMap;
+		this.physicalDsKeys = null;
+	}
+
+	/**
+	 * @param dsKey
+	 * @return 数据源key对应的物理服务器的key，没有配置时返回dsKey
+	 */
+	public String getServerKey(String dsKey) {
+		if (this.serverSchemaMap == null) {
+			return dsKey;
+		}
+		ServerSchema serverSchema = this.serverSchemaMap.get(dsKey);
+		if (serverSchema == null) {
+			return dsKey;
+		}
+		return serverSchema.getServer();
+	}
+
+	/**
+	 * @param dsKey
+	 * @return 熔断器与并发限制使用的key，为物理服务器的key，default_ds与其他key对应同一个数据源时使用其他key
+	 */
+	String getPhysicalKey(String dsKey) {
+		String server = this.getServerKey(dsKey);
+		if (!DSKEY_DEFAULT.equals(server)) {
+			return server;
+		}
+		return this.defaultPhysicalKey;
+	}
+
+	/**
+	 * @param dsKey
+	 * @return 数据源key对应的schema，没有配置时返回null
+	 */
+	public String getSchema(String dsKey) {
+		if (this.serverSchemaMap == null) {
+			return null;
+		}
+		ServerSchema serverSchema = this.serverSchemaMap.get(dsKey);
+		if (serverSchema == null) {
+			return null;
+		}
+		return serverSchema.getSchema();
 	}
 
 	public Connection getConnection() throws SQLException {
@@ -92,4 +711,31 @@ public class DALDataSource implements DataSource {
 	public <T> T unwrap(Class<T> iface) throws SQLException {
 		return this.getCurrentDataSource().unwrap(iface);
 	}
+	/**
+	 * 需要预热的主库或读库
+	 */
+	private static class WarmUpTarget {
+
+		/**
+		 * 主库为数据源key，读库为 数据源key.读库名称
+		 */
+		final String key;
+
+		final String dsKey;
+
+		/**
+		 * 主库时为null
+		 */
+		final DataSource replicaDataSource;
+
+		final List<String> sqls;
+
+		WarmUpTarget(String key, String dsKey, DataSource replicaDataSource,
+		        List<String> sqls) {
+			this.key = key;
+			this.dsKey = dsKey;
+			this.replicaDataSource = replicaDataSource;
+			this.sqls = sqls;
+		}
+	}
 }
\ No newline at end of file
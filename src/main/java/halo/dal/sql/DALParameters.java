@@ -169,6 +169,7 @@ public class DALParameters {
      *            参数信息，包括参数，以及参数长度等其他参数信息
      */
     public void set(int methodEncode, int parameterIndex, Object[] argInfo) {
+        values = null;
         parameterMap.put(parameterIndex, argInfo[0]);
         methodArgMap.put(parameterIndex, argInfo);
         methodEncodeMap.put(parameterIndex, methodEncode);
@@ -184,7 +185,8 @@ public class DALParameters {
         methodArgMap.clear();
         methodEncodeMap.clear();
         parameterMap.clear();
-        values.clear();
+        valuesMap.clear();
+        values = null;
     }
 
     public List<Object> getValues() {
@@ -198,14 +200,36 @@ public class DALParameters {
             throws SQLException {
         Set<Entry<Integer, Object[]>> set = methodArgMap.entrySet();
         for (Entry<Integer, Object[]> e : set) {
-            this.setParameter(e.getKey(), e.getValue(), ps);
+            this.setParameter(e.getKey(), methodEncodeMap.get(e.getKey()),
+                    e.getValue(), ps);
+        }
+    }
+
+    /**
+     * 只设置部分参数，用于一条sql拆分为多条sql执行的情况
+     * 
+     * @param ps
+     * @param parameterIndexes
+     *            parameterIndexes[i]为真实PreparedStatement中第i+1个参数对应的原始参数位置
+     * @throws SQLException
+     */
+    public void initRealPreparedStatement(PreparedStatement ps,
+            int[] parameterIndexes) throws SQLException {
+        if (parameterIndexes == null) {
+            this.initRealPreparedStatement(ps);
+            return;
+        }
+        Integer index;
+        for (int i = 0; i < parameterIndexes.length; i++) {
+            index = parameterIndexes[i];
+            this.setParameter(i + 1, methodEncodeMap.get(index),
+                    methodArgMap.get(index), ps);
         }
     }
 
     @SuppressWarnings("deprecation")
-    private void setParameter(Integer i, Object[] objs, PreparedStatement ps)
-            throws SQLException {
-        int methodEncode = methodEncodeMap.get(i);
+    private void setParameter(int i, int methodEncode, Object[] objs,
+            PreparedStatement ps) throws SQLException {
         switch (methodEncode) {
             case MN_SETNULL_I_I:
                 ps.setNull(i, (Integer) objs[0]);
@@ -4,11 +4,25 @@ import halo.dal.DALCurrentStatus;
 import halo.dal.DALCustomInfo;
 import halo.dal.DALFactory;
 import halo.dal.DALRunTimeException;
+import halo.dal.analysis.BindingTableRule;
+import halo.dal.analysis.ColumnExper;
+import halo.dal.analysis.InValueSQLInfo;
+import halo.dal.analysis.MultiPartitionParser;
 import halo.dal.analysis.ParsedTableInfo;
 import halo.dal.analysis.PartitionParser;
 import halo.dal.analysis.PartitionTableInfo;
+import halo.dal.analysis.SQLAnalyzer;
+import halo.dal.analysis.SQLExpressionSymbol;
 import halo.dal.analysis.SQLInfo;
 import halo.dal.analysis.SQLStruct;
+import halo.dal.analysis.ScatterPartitionParser;
+import halo.dal.metrics.DALMetrics;
+import halo.dal.metrics.LockErrors;
+import halo.dal.sql.breaker.CircuitBreakers;
+import halo.dal.sql.limit.ConcurrencyLimiter;
+import halo.dal.sql.limit.ConcurrencyLimiters;
+import halo.dal.sql.replica.ReplicaConnection;
+import halo.dal.sql.replica.ReplicaGroup;
 
 import java.io.InputStream;
 import java.io.Reader;
@@ -27,15 +41,25 @@ import java.sql.ResultSet;
 import java.sql.ResultSetMetaData;
 import java.sql.RowId;
 import java.sql.SQLException;
+import java.sql.SQLTimeoutException;
 import java.sql.SQLWarning;
 import java.sql.SQLXML;
 import java.sql.Statement;
 import java.sql.Time;
 import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Calendar;
+import java.util.Collection;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Set;
+import java.util.TreeMap;
 
 /**
  * 代理PreparedStatement,负责对预处理方式进行sql分析，对于Statement的直接处理方式，不进行sql分析
@@ -44,8 +68,16 @@ import java.util.Map;
  */
 public class DALPreparedStatement implements PreparedStatement {
 
+	/**
+	 * 逻辑sql
+	 */
 	private String sql = null;
 
+	/**
+	 * 解析后在真实数据源上执行的sql
+	 */
+	private String realSql = null;
+
 	private DALConnection dalConnection = null;
 
 	private PreparedStatement ps = null;
@@ -70,6 +102,11 @@ public class DALPreparedStatement implements PreparedStatement {
 
 	private int queryTimeout = 0;
 
+	/**
+	 * 由queryTimeout计算的整条语句的截止时间(毫秒)，获取Connection、每个真实语句以及重试只使用剩余的时间。0表示没有截止时间
+	 */
+	private long deadline;
+
 	private String cursorName = null;
 
 	private int fetchDirection = 0;
@@ -80,6 +117,68 @@ public class DALPreparedStatement implements PreparedStatement {
 
 	private final DALParameters dalParameters = new DALParameters();
 
+	/**
+	 * 需要在多个数据源上执行时，每个数据源上的语句。只在一个数据源上执行时为null
+	 */
+	private List<ShardStatement> shardStatements = null;
+
+	private int shardUpdateCount = -1;
+
+	/**
+	 * 在多个数据源上执行的是否是广播表的写操作
+	 */
+	private boolean broadcast;
+
+	/**
+	 * 是否是在所有分区上执行的update或delete
+	 */
+	private boolean scatter;
+
+	/**
+	 * 在多个数据源上执行更新后，每条sql的更新数量
+	 */
+	private ShardUpdateCounts shardUpdateCounts;
+
+	private ResultSet shardResultSet = null;
+
+	/**
+	 * 拆分多行insert时，每一行所在的ShardStatement的位置，用于按照原始行的顺序返回自增主键
+	 */
+	private int[] insertRowShards;
+
+	/**
+	 * 当前执行的sql是否使用读库
+	 */
+	private boolean read;
+
+	/**
+	 * 当前执行的sql是否是select语句
+	 */
+	private boolean select;
+
+	/**
+	 * 当前执行的sql是否开启对冲读
+	 */
+	private boolean hedged;
+
+	/**
+	 * 对冲查询胜出时使用的语句与返回的结果，{@link #getResultSet()}等方法使用此语句
+	 */
+	private PreparedStatement hedgeStatement;
+
+	private ResultSet hedgeResultSet;
+
+	/**
+	 * 只在一个数据源上执行时使用的真实Connection
+	 */
+	private Connection realConnection;
+
+	/**
+	 * 上一次执行时使用的真实Connection，关闭真实PreparedStatement后交给DALConnection释放
+	 */
+	private final List<Connection> acquiredConnections = new ArrayList<Connection>(
+	        2);
+
 	private int createMethodByCon = 0;
 
 	public static final int CREATE_METHOD_BY_CON_S = 1;
@@ -94,19 +193,113 @@ public class DALPreparedStatement implements PreparedStatement {
 
 	public static final int CREATE_METHOD_BY_CON_S_I_I_I = 6;
 
+	private static final Set<String> AGGREGATE_FUNCTIONS = new HashSet<String>(
+	        Arrays.asList("count", "sum", "avg", "min", "max", "group_concat"));
+
 	public void setCreateMethodByCon(int createMethodByCon) {
 		this.createMethodByCon = createMethodByCon;
 	}
 
 	private void initRealPreparedStatement() throws SQLException {
 		Connection con = null;
+		this.deadline = 0;
+		if (this.queryTimeout > 0) {
+			this.deadline = System.currentTimeMillis() + this.queryTimeout
+			        * 1000L;
+		}
 		try {
-			con = this.dalConnection.getCurrentConnection();
+			con = this.dalConnection.acquireRealConnection(
+			        DALCurrentStatus.getDsKey(), this.read);
+			this.acquiredConnections.add(con);
 		}
 		catch (DALRunTimeException e) {
 			throw new DALRunTimeException(e.getMessage() + " for sql: "
 			        + this.sql);
 		}
+		this.realConnection = con;
+		ps = this.createRealPreparedStatement(con, this.realSql,
+		        DALCurrentStatus.getDsKey());
+	}
+
+	/**
+	 * 在需要执行的每个数据源上创建真正的PreparedStatement
+	 * 
+	 * @throws SQLException
+	 */
+	private void initShardPreparedStatements() throws SQLException {
+		Connection con;
+		DALDataSource dalDataSource = this.dalConnection.getDalDataSource();
+		this.deadline = 0;
+		if (this.queryTimeout > 0) {
+			this.deadline = System.currentTimeMillis() + this.queryTimeout
+			        * 1000L;
+		}
+		// 按照服务器key的顺序获取连接，每个连接只获取一次，同一个服务器的语句共用
+		Map<String, Connection> orderedConMap = null;
+		if (dalDataSource.isOrderedLocking()) {
+			Map<String, String> serverDsKeyMap = new TreeMap<String, String>();
+			for (ShardStatement shardStatement : this.shardStatements) {
+				String serverKey = dalDataSource.getServerKey(shardStatement
+				        .getDsKey());
+				if (!serverDsKeyMap.containsKey(serverKey)) {
+					serverDsKeyMap.put(serverKey, shardStatement.getDsKey());
+				}
+			}
+			orderedConMap = new HashMap<String, Connection>(
+			        serverDsKeyMap.size());
+			for (Entry<String, String> e : serverDsKeyMap.entrySet()) {
+				try {
+					con = this.dalConnection.acquireRealConnection(
+					        e.getValue(), this.read);
+				}
+				catch (DALRunTimeException ex) {
+					throw new DALRunTimeException(ex.getMessage()
+					        + " for sql: " + this.sql);
+				}
+				this.acquiredConnections.add(con);
+				orderedConMap.put(e.getKey(), con);
+			}
+		}
+		// 并行获取所有数据源的连接，获取的时间计入queryTimeout
+		else if (dalDataSource.isParallelAcquire()
+		        && this.shardStatements.size() > 1) {
+			Set<String> dsKeys = new LinkedHashSet<String>();
+			for (ShardStatement shardStatement : this.shardStatements) {
+				dsKeys.add(shardStatement.getDsKey());
+			}
+			this.dalConnection.prepareRealConnections(dsKeys, this.read,
+			        this.deadline);
+		}
+		for (ShardStatement shardStatement : this.shardStatements) {
+			String serverKey = dalDataSource.getServerKey(shardStatement
+			        .getDsKey());
+			if (orderedConMap != null) {
+				con = orderedConMap.get(serverKey);
+			}
+			else {
+				try {
+					con = this.dalConnection.acquireRealConnection(
+					        shardStatement.getDsKey(), this.read);
+					this.acquiredConnections.add(con);
+				}
+				catch (DALRunTimeException e) {
+					throw new DALRunTimeException(e.getMessage()
+					        + " for sql: " + shardStatement.getSql());
+				}
+			}
+			shardStatement.setConnectionKey(serverKey);
+			shardStatement.setReplica(con instanceof ReplicaConnection);
+			shardStatement.setPs(this.createRealPreparedStatement(con,
+			        shardStatement.getSql(), shardStatement.getDsKey()));
+			this.initPreparedStatement(shardStatement.getPs(),
+			        shardStatement.getParameterIndexes());
+		}
+		ps = this.shardStatements.get(0).getPs();
+	}
+
+	private PreparedStatement createRealPreparedStatement(Connection con,
+	        String sql, String dsKey) throws SQLException {
+		PreparedStatement ps = null;
 		switch (this.createMethodByCon) {
 			case CREATE_METHOD_BY_CON_S:
 				ps = con.prepareStatement(sql);
@@ -131,9 +324,9 @@ public class DALPreparedStatement implements PreparedStatement {
 		}
 		if (ps == null) {
 			throw new DALRunTimeException(
-			        "can not create PreparedStatement for dsKey "
-			                + DALCurrentStatus.getDsKey());
+			        "can not create PreparedStatement for dsKey " + dsKey);
 		}
+		return ps;
 	}
 
 	/**
@@ -142,6 +335,24 @@ public class DALPreparedStatement implements PreparedStatement {
 	 * @throws SQLException
 	 */
 	private void prepare() throws SQLException {
+		// 先获取本次使用的Connection，再释放上一次使用的Connection，重复执行时可以继续使用同一个Connection
+		List<Connection> previous = null;
+		if (!this.acquiredConnections.isEmpty()) {
+			previous = new ArrayList<Connection>(this.acquiredConnections);
+			this.acquiredConnections.clear();
+		}
+		try {
+			this.prepareRealStatements();
+		}
+		finally {
+			if (previous != null) {
+				this.dalConnection.releaseRealConnections(previous);
+			}
+		}
+	}
+
+	private void prepareRealStatements() throws SQLException {
+		this.doCloseRealStatements();
 		DALFactory dalFactory = DALFactory.getDefault();
 		List<Object> values = dalParameters.getValues();
 		Map<String, Object> context = new HashMap<String, Object>();
@@ -152,7 +363,169 @@ public class DALPreparedStatement implements PreparedStatement {
 			        values.toArray(new Object[values.size()]), context);
 		}
 		this.parsePartition(sqlStruct, sqlInfo);
+		this.read = this.isReadRoute(sqlStruct);
+		this.select = sqlStruct.isSelect();
+		this.hedged = this.read && this.isHedged(sqlStruct);
+		if (this.shardStatements != null) {
+			if (sqlStruct.isWrite()) {
+				for (ShardStatement shardStatement : this.shardStatements) {
+					this.dalConnection.markWrite(shardStatement.getDsKey());
+				}
+			}
+			this.initShardPreparedStatements();
+			return;
+		}
+		if (sqlStruct.isWrite()) {
+			this.dalConnection.markWrite(DALCurrentStatus.getDsKey());
+		}
 		this.initRealPreparedStatement();
+		this.initPreparedStatement(ps, null);
+	}
+
+	/**
+	 * 通过 {@link DALCurrentStatus#setHedgedRead(boolean)} 或者
+	 * {@link DALFactory#setHedgedTables(List)} 开启对冲读
+	 */
+	private boolean isHedged(SQLStruct sqlStruct) {
+		if (DALCurrentStatus.isHedgedRead()) {
+			return true;
+		}
+		if (!sqlStruct.isCanParse()) {
+			return false;
+		}
+		DALFactory dalFactory = DALFactory.getDefault();
+		for (String table : sqlStruct.getTableNames()) {
+			if (dalFactory.isHedgedTable(table)) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * 只读连接中的select语句可以使用读库，自动提交的连接中的select语句也可以使用读库(不需要调用setReadOnly(true))。
+	 * 没有表信息的sql(例如 select last_insert_id())需要使用上一次的连接，加锁的select(for update)需要使用主库
+	 * 
+	 * @param sqlStruct
+	 * @return 是否使用读库
+	 * @throws SQLException
+	 */
+	private boolean isReadRoute(SQLStruct sqlStruct) throws SQLException {
+		if (!sqlStruct.isCanParse() || !sqlStruct.isSelect()
+		        || isLockingRead(this.sql)) {
+			return false;
+		}
+		if (this.dalConnection.isReadOnly()) {
+			return true;
+		}
+		return this.dalConnection.getAutoCommit()
+		        && this.dalConnection.getDalDataSource()
+		                .isAutoCommitReadFromReplica();
+	}
+
+	/**
+	 * 跳过字符串与注释，按单词查找 for update, for share, lock in share mode，
+	 * 后面可以有 nowait, skip locked 以及注释
+	 * 
+	 * @param sql
+	 * @return 是否是加锁的select
+	 */
+	private static boolean isLockingRead(String sql) {
+		List<String> tokens = ShardSQLBuilder.tokenize(sql);
+		for (int i = 0; i + 1 < tokens.size(); i++) {
+			if ("for".equals(tokens.get(i))
+			        && ("update".equals(tokens.get(i + 1)) || "share"
+			                .equals(tokens.get(i + 1)))) {
+				return true;
+			}
+			if (i + 3 < tokens.size() && "lock".equals(tokens.get(i))
+			        && "in".equals(tokens.get(i + 1))
+			        && "share".equals(tokens.get(i + 2))
+			        && "mode".equals(tokens.get(i + 3))) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * 查询拆分到多个分区执行时，只是按顺序连接各个分区的结果，跨分区的排序、分组、聚合与limit的结果是错误的
+	 * 
+	 * @param sql
+	 * @return sql中第一个不能跨分区执行的子句，没有时返回null
+	 */
+	private static String findCrossPartitionClause(String sql) {
+		List<String> tokens = ShardSQLBuilder.tokenize(sql);
+		String token;
+		String next;
+		for (int i = 0; i < tokens.size(); i++) {
+			token = tokens.get(i);
+			next = i + 1 < tokens.size() ? tokens.get(i + 1) : null;
+			if (("order".equals(token) || "group".equals(token))
+			        && "by".equals(next)) {
+				return token + " by";
+			}
+			if ("limit".equals(token) || "having".equals(token)
+			        || "distinct".equals(token)) {
+				return token;
+			}
+			if ("(".equals(next) && AGGREGATE_FUNCTIONS.contains(token)) {
+				return token + "()";
+			}
+		}
+		return null;
+	}
+
+	/**
+	 * 拆分为多条sql的查询不能包含跨分区的排序、分组、聚合与limit，不支持时抛出异常，不返回错误的结果
+	 */
+	private void checkCrossPartitionQuery(SQLStruct sqlStruct,
+	        int partitionCount) {
+		if (!sqlStruct.isSelect() || partitionCount <= 1) {
+			return;
+		}
+		String clause = findCrossPartitionClause(this.sql);
+		if (clause != null) {
+			throw new DALRunTimeException(clause
+			        + " is not supported when query spans " + partitionCount
+			        + " partitions for sql: " + this.sql);
+		}
+	}
+
+	/**
+	 * 同一个线程中按顺序执行的语句，开始执行时使用剩余的queryTimeout
+	 * 
+	 * @param shardStatement
+	 * @throws SQLException
+	 *             已经超过截止时间
+	 */
+	private void applyDeadline(ShardStatement shardStatement)
+	        throws SQLException {
+		if (this.deadline == 0) {
+			return;
+		}
+		if (this.deadline <= System.currentTimeMillis()) {
+			throw new SQLTimeoutException("statement exceed queryTimeout "
+			        + this.queryTimeout + "s before executing on [ "
+			        + shardStatement.getDsKey() + " ] for sql: " + this.sql);
+		}
+		shardStatement.getPs().setQueryTimeout(
+		        this.getRemainingQueryTimeout());
+	}
+
+	/**
+	 * @return 减去获取Connection与之前执行的时间后剩余的queryTimeout(秒)，至少为1秒
+	 */
+	private int getRemainingQueryTimeout() {
+		if (this.deadline == 0) {
+			return this.queryTimeout;
+		}
+		long remaining = this.deadline - System.currentTimeMillis();
+		return (int) Math.max(1, (remaining + 999) / 1000);
+	}
+
+	private void initPreparedStatement(PreparedStatement ps,
+	        int[] parameterIndexes) throws SQLException {
 		if (this.maxFieldSize != 0) {
 			ps.setMaxFieldSize(maxFieldSize);
 		}
@@ -163,7 +536,7 @@ public class DALPreparedStatement implements PreparedStatement {
 			ps.setEscapeProcessing(escapeProcessing);
 		}
 		if (this.queryTimeout != 0) {
-			ps.setQueryTimeout(queryTimeout);
+			ps.setQueryTimeout(this.getRemainingQueryTimeout());
 		}
 		if (this.cursorName != null) {
 			ps.setCursorName(cursorName);
@@ -177,7 +550,208 @@ public class DALPreparedStatement implements PreparedStatement {
 		if (!this.poolable) {
 			ps.setPoolable(poolable);
 		}
-		this.dalParameters.initRealPreparedStatement(ps);
+		this.dalParameters.initRealPreparedStatement(ps, parameterIndexes);
+	}
+
+	/**
+	 * 关闭上一次执行时创建的真实PreparedStatement
+	 * 
+	 * @throws SQLException
+	 */
+	private void closeRealStatements() throws SQLException {
+		try {
+			this.doCloseRealStatements();
+		}
+		finally {
+			if (!this.acquiredConnections.isEmpty()) {
+				try {
+					this.dalConnection
+					        .releaseRealConnections(this.acquiredConnections);
+				}
+				finally {
+					this.acquiredConnections.clear();
+				}
+			}
+		}
+	}
+
+	private void doCloseRealStatements() throws SQLException {
+		if (this.hedgeResultSet != null) {
+			// 关闭对冲查询的结果时同时关闭对冲使用的语句与连接
+			HedgedQuery.closeQuietly(this.hedgeResultSet, null, null);
+			this.hedgeStatement = null;
+			this.hedgeResultSet = null;
+		}
+		if (this.shardStatements != null) {
+			SQLException first = null;
+			for (ShardStatement shardStatement : this.shardStatements) {
+				if (shardStatement.getPs() == null) {
+					continue;
+				}
+				try {
+					shardStatement.getPs().close();
+				}
+				catch (SQLException e) {
+					first = ShardExecutor.chain(first, e);
+				}
+			}
+			this.shardStatements = null;
+			this.shardResultSet = null;
+			this.insertRowShards = null;
+			this.broadcast = false;
+			this.scatter = false;
+			this.shardUpdateCounts = null;
+			this.ps = null;
+			if (first != null) {
+				throw first;
+			}
+		}
+		if (this.ps != null) {
+			PreparedStatement realPs = this.ps;
+			this.ps = null;
+			realPs.close();
+		}
+	}
+
+	/**
+	 * 在多个数据源上并行执行更新操作。广播表需要每个数据源的更新结果相同，返回其中一个数据源的更新数量;
+	 * 其他情况返回所有数据源更新数量的和。<br>
+	 * 自动提交的连接中，检查更新数量时每个数据源已经各自提交，抛出异常也无法回滚，
+	 * 广播表的数据可能已经不一致，因此写入广播表时请使用事务
+	 * 
+	 * @return 更新的记录数量
+	 * @throws SQLException
+	 */
+	private int executeShardUpdate() throws SQLException {
+		ShardExecutor.ShardTask<ShardStatement, Integer> task = new ShardExecutor.CancelableShardTask<ShardStatement, Integer>() {
+
+			public Integer execute(ShardStatement item) throws SQLException {
+				applyDeadline(item);
+				long begin = beforeExecute(item.getDsKey(),
+				        item.isReplica());
+				try {
+					item.setUpdateCount(item.getPs().executeUpdate());
+				}
+				catch (SQLException e) {
+					onError(e, item.getDsKey(), item.isReplica(), begin);
+					throw e;
+				}
+				afterExecute(item.getDsKey(), item.isReplica(), begin);
+				return item.getUpdateCount();
+			}
+
+			public void cancel(ShardStatement item) throws SQLException {
+				item.getPs().cancel();
+			}
+		};
+		List<Integer> counts;
+		// 按照dsKey的顺序加锁，避免与其他请求形成跨数据库的死锁
+		if (this.dalConnection.getDalDataSource().isOrderedLocking()) {
+			counts = ShardExecutor.invokeInDsKeyOrder(this.shardStatements,
+			        task);
+		}
+		else {
+			ShardExecutor shardExecutor = new ShardExecutor();
+			shardExecutor.setDeadline(this.deadline);
+			shardExecutor.setFailFast(true);
+			counts = shardExecutor.invokeByDataSource(this.shardStatements,
+			        task, this.scatter ? DALFactory.getDefault()
+			                .getScatterParallelism() : 0);
+		}
+		if (!this.broadcast) {
+			int sum = 0;
+			for (int count : counts) {
+				sum += count;
+			}
+			this.shardUpdateCount = sum;
+			this.shardUpdateCounts = new ShardUpdateCounts(
+			        this.shardStatements, sum);
+			return sum;
+		}
+		int count = counts.get(0);
+		for (int i = 1; i < counts.size(); i++) {
+			if (counts.get(i) != count) {
+				StringBuilder sb = new StringBuilder(
+				        "update count of broadcast table is different on datasources ");
+				for (ShardStatement shardStatement : this.shardStatements) {
+					sb.append("[ ").append(shardStatement.getDsKey())
+					        .append("=").append(shardStatement.getUpdateCount())
+					        .append(" ]");
+				}
+				sb.append(" for sql: ").append(this.sql);
+				if (this.dalConnection.getAutoCommit()) {
+					sb.append(" (autocommit, updates are already committed)");
+				}
+				throw new SQLException(sb.toString());
+			}
+		}
+		this.shardUpdateCount = count;
+		this.shardUpdateCounts = new ShardUpdateCounts(this.shardStatements,
+		        count);
+		return count;
+	}
+
+	/**
+	 * 在多个数据源上并行执行查询，将结果连接为一个ResultSet。允许部分结果时，只连接成功返回的ResultSet。<br>
+	 * 开启orderedLocking时，加锁的select与更新一样按照dsKey的顺序依次执行，不使用部分结果
+	 * 
+	 * @return
+	 * @throws SQLException
+	 */
+	private ResultSet executeShardQuery() throws SQLException {
+		ShardExecutor.ShardTask<ShardStatement, ResultSet> task = new ShardExecutor.CancelableShardTask<ShardStatement, ResultSet>() {
+
+			public ResultSet execute(ShardStatement item) throws SQLException {
+				applyDeadline(item);
+				long begin = beforeExecute(item.getDsKey(),
+				        item.isReplica());
+				ResultSet rs;
+				try {
+					rs = item.getPs().executeQuery();
+				}
+				catch (SQLException e) {
+					onError(e, item.getDsKey(), item.isReplica(), begin);
+					throw e;
+				}
+				afterExecute(item.getDsKey(), item.isReplica(), begin);
+				return rs;
+			}
+
+			public void cancel(ShardStatement item) throws SQLException {
+				item.getPs().cancel();
+			}
+		};
+		// 加锁的select按照dsKey的顺序加锁，避免与其他请求形成跨数据库的死锁
+		if (this.dalConnection.getDalDataSource().isOrderedLocking()
+		        && isLockingRead(this.sql)) {
+			this.shardResultSet = new UnionResultSet(
+			        ShardExecutor.invokeInDsKeyOrder(this.shardStatements, task),
+			        this);
+			return this.shardResultSet;
+		}
+		boolean partial = DALCurrentStatus.isPartialResults();
+		ShardExecutor shardExecutor = new ShardExecutor();
+		shardExecutor.setDeadline(this.deadline);
+		shardExecutor.setFailFast(!partial);
+		shardExecutor.setPartial(partial);
+		List<ResultSet> resultSets = shardExecutor.invokeByDataSource(
+		        this.shardStatements, task);
+		if (!partial) {
+			this.shardResultSet = new UnionResultSet(resultSets, this);
+			return this.shardResultSet;
+		}
+		List<ResultSet> succeeded = new ArrayList<ResultSet>(
+		        resultSets.size());
+		for (ResultSet rs : resultSets) {
+			if (rs != null) {
+				succeeded.add(rs);
+			}
+		}
+		UnionResultSet unionResultSet = new UnionResultSet(succeeded, this);
+		unionResultSet.setPartialResult(new PartialResult(
+		        this.shardStatements, shardExecutor.getFailures()));
+		this.shardResultSet = unionResultSet;
+		return this.shardResultSet;
 	}
 
 	/**
@@ -189,65 +763,497 @@ public class DALPreparedStatement implements PreparedStatement {
 	 */
 	private void parsePartition(SQLStruct sqlStruct, SQLInfo sqlInfo)
 	        throws SQLException {
+		this.realSql = this.sql;
+		// 当不需要进行解析时，什么也不做，直接使用上一次使用的解析结果
+		if (!sqlStruct.isCanParse()) {
+			return;
+		}
+		DALFactory dalFactory = DALFactory.getDefault();
 		DALCustomInfo dalCustomInfo = DALCurrentStatus.getCustomInfo();
+		// 通过代码指定数据源与表名称，进行设定
+		if (dalCustomInfo != null) {
+			ParsedTableInfo parsedTableInfo = new ParsedTableInfo();
+			for (String table : sqlStruct.getTableNames()) {
+				parsedTableInfo.setRealTable(table,
+				        dalCustomInfo.getRealTable(table));
+			}
+			parsedTableInfo.setSchema(this.dalConnection.getDalDataSource()
+			        .getSchema(dalCustomInfo.getDsKey()));
+			DALCurrentStatus.setDsKey(dalCustomInfo.getDsKey());
+			this.realSql = dalFactory.getSqlAnalyzer().outPutSQL(this.sql,
+			        sqlStruct, sqlInfo, parsedTableInfo);
+			return;
+		}
+		ConnectionStatus connectionStatus = new ConnectionStatus();
+		connectionStatus.setAutoCommit(this.dalConnection.getAutoCommit());
+		connectionStatus.setReadOnly(this.dalConnection.isReadOnly());
+		// 指定在所有分区上执行的update与delete
+		if (DALCurrentStatus.isScatterWrite()
+		        && (sqlStruct.getSqlOp() == SQLStruct.SQLOP_UPDATE || sqlStruct
+		                .getSqlOp() == SQLStruct.SQLOP_DELETE)) {
+			this.splitScatter(sqlStruct, sqlInfo, connectionStatus);
+			return;
+		}
+		Route route;
+		if (sqlStruct.getInsertRowCount() > 1 && sqlInfo != null) {
+			route = this.routeInsertRows(sqlStruct, sqlInfo,
+			        connectionStatus);
+			// 多行数据路由到了多个数据源或表，已经拆分为多条sql
+			if (route == null) {
+				return;
+			}
+		}
+		else if (sqlStruct.isHasInExper() && sqlInfo != null) {
+			route = this.routeInList(sqlStruct, sqlInfo, connectionStatus);
+			// in中的值路由到了多个数据源或表，已经拆分为多条sql
+			if (route == null) {
+				return;
+			}
+		}
+		else {
+			route = this.route(sqlStruct, sqlInfo, connectionStatus, null,
+			        null);
+		}
+		// 范围查询路由到了多个数据源或表
+		if (route.multiInfos != null) {
+			this.splitMulti(sqlStruct, sqlInfo, connectionStatus, route);
+			return;
+		}
+		// 写入的表(insert update delete的第一个表)是广播表时，需要在所有数据源上执行
+		boolean broadcastWrite = sqlStruct.isWrite()
+		        && !sqlStruct.getTableNames().isEmpty()
+		        && dalFactory.isBroadcastTable(sqlStruct.getTableNames()
+		                .get(0));
+		// 如果不需要解析路由，就使用默认数据源;否则设置解析后的数据源
+		if (!broadcastWrite && !route.parsedMap.isEmpty()) {
+			DALCurrentStatus.setDsKey(route.getDsKey());
+		}
+		// 在有进行解析的条件下，获得解析后指定表的sql语句
+		if (route.isRewrite()) {
+			this.realSql = dalFactory.getSqlAnalyzer().outPutSQL(this.sql,
+			        sqlStruct, sqlInfo, route.parsedTableInfo);
+		}
+		if (broadcastWrite) {
+			DALDataSource dalDataSource = this.dalConnection.getDalDataSource();
+			List<String> dsKeys = dalDataSource.getPhysicalDsKeys();
+			this.shardStatements = new ArrayList<ShardStatement>(
+			        dsKeys.size());
+			String schema;
+			String shardSql;
+			for (String dsKey : dsKeys) {
+				// 共用服务器的数据源，表名称需要使用各自的schema
+				schema = dalDataSource.getSchema(dsKey);
+				if (schema == null) {
+					shardSql = this.realSql;
+				}
+				else {
+					shardSql = dalFactory.getSqlAnalyzer().outPutSQL(this.sql,
+					        sqlStruct, sqlInfo,
+					        route.parsedTableInfo.copyWithSchema(schema));
+				}
+				this.shardStatements.add(new ShardStatement(dsKey, shardSql));
+			}
+			this.broadcast = true;
+		}
+	}
+
+	/**
+	 * 对sql中的表调用解析器，获得表对应的数据源与真实表
+	 * 
+	 * @param sqlStruct
+	 * @param sqlInfo
+	 * @param connectionStatus
+	 * @param fixedTable
+	 *            已经确定分区的表，不再调用解析器，可以为null
+	 * @param fixedInfo
+	 *            fixedTable的分区
+	 * @return 路由结果
+	 */
+	private Route route(SQLStruct sqlStruct, SQLInfo sqlInfo,
+	        ConnectionStatus connectionStatus, String fixedTable,
+	        PartitionTableInfo fixedInfo) {
 		DALFactory dalFactory = DALFactory.getDefault();
-		ParsedTableInfo parsedTableInfo = new ParsedTableInfo();
-		boolean hasParser = true;
-		if (sqlStruct.isCanParse()) {
-			if (dalCustomInfo == null) {
-				ConnectionStatus connectionStatus = new ConnectionStatus();
-				connectionStatus.setAutoCommit(this.dalConnection
-				        .getAutoCommit());
-				connectionStatus.setReadOnly(this.dalConnection.isReadOnly());
-				PartitionParser parser;
-				PartitionTableInfo partitionTableInfo = null;
-				for (String table : sqlStruct.getTableNames()) {
-					parser = dalFactory.getPartitionParserFactory()
-					        .getParser(table);
-					if (parser == null) {
-						hasParser = false;
+		BindingTableRule bindingTableRule = dalFactory.getBindingTableRule();
+		Route route = new Route();
+		PartitionParser parser;
+		PartitionTableInfo partitionTableInfo;
+		// 没有解析器，需要等待同组绑定表解析结果的表
+		List<String> bindingWaitTables = null;
+		for (String table : sqlStruct.getTableNames()) {
+			if (route.parsedMap.containsKey(table)) {
+				continue;
+			}
+			// 广播表在每个数据源都存在，使用其他表路由的数据源
+			if (dalFactory.isBroadcastTable(table)) {
+				continue;
+			}
+			if (table.equals(fixedTable)) {
+				this.addPartitionTableInfo(route, table, fixedInfo);
+				continue;
+			}
+			// 同组的绑定表已经解析过，直接使用解析结果，不再调用解析器
+			partitionTableInfo = bindingTableRule.getPartitionTableInfo(table,
+			        route.parsedMap);
+			if (partitionTableInfo == null) {
+				parser = dalFactory.getPartitionParserFactory()
+				        .getParser(table);
+				if (parser == null) {
+					if (bindingTableRule.getGroup(table) == null) {
+						route.hasParser = false;
 					}
 					else {
-						// 存在解析器时，进行解析
-						partitionTableInfo = parser.parse(table, sqlInfo,
-						        connectionStatus);
-						if (partitionTableInfo == null) {
-							throw new DALRunTimeException(
-							        "partitionTableInfo return from "
-							                + parser.getClass().getName()
-							                + " can not be null : " + table);
+						if (bindingWaitTables == null) {
+							bindingWaitTables = new ArrayList<String>(2);
 						}
-						parsedTableInfo.setRealTable(table,
-						        partitionTableInfo.getRealTable());
+						bindingWaitTables.add(table);
 					}
+					continue;
+				}
+				// 存在解析器时，进行解析
+				if (parser instanceof MultiPartitionParser) {
+					partitionTableInfo = this.parseMulti(
+					        (MultiPartitionParser) parser, route, table,
+					        sqlInfo, connectionStatus);
+				}
+				else {
+					partitionTableInfo = parser.parse(table, sqlInfo,
+					        connectionStatus);
 				}
-				// 如果不需要解析路由，就设置默认数据源
 				if (partitionTableInfo == null) {
-//					DALCurrentStatus.setDefaultDsKey();
+					throw new DALRunTimeException(
+					        "partitionTableInfo return from "
+					                + parser.getClass().getName()
+					                + " can not be null : " + table);
+				}
+			}
+			this.addPartitionTableInfo(route, table, partitionTableInfo);
+		}
+		if (bindingWaitTables != null) {
+			for (String table : bindingWaitTables) {
+				partitionTableInfo = bindingTableRule.getPartitionTableInfo(
+				        table, route.parsedMap);
+				if (partitionTableInfo == null) {
+					route.hasParser = false;
 				}
-				// 设置解析后的数据源
 				else {
-					DALCurrentStatus.setDsKey(partitionTableInfo.getDsName());
+					this.addPartitionTableInfo(route, table,
+					        partitionTableInfo);
 				}
 			}
-			// 通过代码指定数据源与表名称，进行设定
-			else {
-				for (String table : sqlStruct.getTableNames()) {
-					parsedTableInfo.setRealTable(table,
-					        dalCustomInfo.getRealTable(table));
+		}
+		route.parsedTableInfo.setSchema(this.dalConnection.getDalDataSource()
+		        .getSchema(route.getDsKey()));
+		return route;
+	}
+
+	/**
+	 * 调用可以返回多个分区的解析器，返回多个分区时，记录到路由结果中，返回第一个分区
+	 * 
+	 * @return 第一个分区
+	 */
+	private PartitionTableInfo parseMulti(MultiPartitionParser parser,
+	        Route route, String table, SQLInfo sqlInfo,
+	        ConnectionStatus connectionStatus) {
+		List<PartitionTableInfo> infos = parser.parseMulti(table, sqlInfo,
+		        connectionStatus);
+		if (infos == null || infos.isEmpty()) {
+			return null;
+		}
+		if (infos.size() > 1) {
+			if (route.multiInfos != null) {
+				throw new DALRunTimeException("table [ " + route.multiTable
+				        + " ] and table [ " + table
+				        + " ] both route to multiple partitions for sql: "
+				        + this.sql);
+			}
+			route.multiTable = table;
+			route.multiInfos = infos;
+		}
+		return infos.get(0);
+	}
+
+	/**
+	 * 范围查询路由到多个分区时，为每个分区创建一条sql
+	 * 
+	 * @param sqlStruct
+	 * @param sqlInfo
+	 * @param connectionStatus
+	 * @param route
+	 *            包含多个分区的路由结果
+	 */
+	private void splitMulti(SQLStruct sqlStruct, SQLInfo sqlInfo,
+	        ConnectionStatus connectionStatus, Route route) {
+		this.checkCrossPartitionQuery(sqlStruct, route.multiInfos.size());
+		SQLAnalyzer sqlAnalyzer = DALFactory.getDefault().getSqlAnalyzer();
+		this.shardStatements = new ArrayList<ShardStatement>(
+		        route.multiInfos.size());
+		Route partRoute;
+		String shardSql;
+		for (PartitionTableInfo info : route.multiInfos) {
+			partRoute = this.route(sqlStruct, sqlInfo, connectionStatus,
+			        route.multiTable, info);
+			shardSql = this.sql;
+			if (partRoute.isRewrite()) {
+				shardSql = sqlAnalyzer.outPutSQL(this.sql, sqlStruct,
+				        sqlInfo, partRoute.parsedTableInfo);
+			}
+			this.shardStatements.add(new ShardStatement(partRoute
+			        .getDsKey(), shardSql));
+		}
+		DALCurrentStatus.setDsKey(this.shardStatements.get(0).getDsKey());
+	}
+
+	/**
+	 * 在表的所有分区上执行update或delete，表的解析器需要实现 {@link ScatterPartitionParser}
+	 * 
+	 * @param sqlStruct
+	 * @param sqlInfo
+	 * @param connectionStatus
+	 */
+	private void splitScatter(SQLStruct sqlStruct, SQLInfo sqlInfo,
+	        ConnectionStatus connectionStatus) {
+		String table = sqlStruct.getTableNames().get(0);
+		PartitionParser parser = DALFactory.getDefault()
+		        .getPartitionParserFactory().getParser(table);
+		if (!(parser instanceof ScatterPartitionParser)) {
+			throw new DALRunTimeException("parser of table [ " + table
+			        + " ] must implement "
+			        + ScatterPartitionParser.class.getName()
+			        + " for scatter write sql: " + this.sql);
+		}
+		List<PartitionTableInfo> infos = ((ScatterPartitionParser) parser)
+		        .getAllPartitions(table);
+		if (infos == null || infos.isEmpty()) {
+			throw new DALRunTimeException("no partition of table [ " + table
+			        + " ] for scatter write sql: " + this.sql);
+		}
+		Route route = new Route();
+		route.multiTable = table;
+		route.multiInfos = infos;
+		this.splitMulti(sqlStruct, sqlInfo, connectionStatus, route);
+		this.scatter = true;
+	}
+
+	/**
+	 * 对 column in (?,?,...) 中的每个值分别进行路由。如果in中的值路由到多个数据源或表，按照路由结果将sql拆分为多条sql，
+	 * 每条sql的in中只包含路由到此数据源与表的值
+	 * 
+	 * @param sqlStruct
+	 * @param sqlInfo
+	 * @param connectionStatus
+	 * @return 没有拆分时返回路由结果，拆分为多条sql时返回null
+	 */
+	private Route routeInList(SQLStruct sqlStruct, SQLInfo sqlInfo,
+	        ConnectionStatus connectionStatus) {
+		List<Object> values = this.dalParameters.getValues();
+		Route first = null;
+		int fromIndex = 1;
+		int paramCount;
+		for (ColumnExper columnExper : sqlStruct.getColumnExpers()) {
+			paramCount = columnExper.getParamCount();
+			if (columnExper.getSqlExpressionSymbol() == SQLExpressionSymbol.IN) {
+				Map<String, Route> groupMap = new LinkedHashMap<String, Route>(
+				        4);
+				Route route;
+				Route group;
+				int parameterIndex;
+				for (int i = 0; i < paramCount; i++) {
+					parameterIndex = fromIndex + i;
+					route = this.route(sqlStruct, new InValueSQLInfo(sqlInfo,
+					        columnExper.getColumn(), fromIndex, paramCount,
+					        parameterIndex, values.get(parameterIndex - 1)),
+					        connectionStatus, null, null);
+					group = groupMap.get(route.getKey());
+					if (group == null) {
+						group = route;
+						groupMap.put(route.getKey(), route);
+					}
+					group.addParameterIndex(parameterIndex);
+				}
+				if (groupMap.size() > 1) {
+					this.splitInList(sqlStruct, sqlInfo, groupMap.values(),
+					        fromIndex, paramCount, values.size());
+					return null;
+				}
+				if (first == null) {
+					first = groupMap.values().iterator().next();
 				}
-				DALCurrentStatus.setDsKey(dalCustomInfo.getDsKey());
 			}
-			// 在有进行解析的条件下，获得解析后指定表的sql语句
-			if (hasParser) {
-				this.sql = dalFactory.getSqlAnalyzer().outPutSQL(sql,
-				        sqlStruct,
-				        sqlInfo, parsedTableInfo);
+			fromIndex += paramCount;
+		}
+		return first;
+	}
+
+	/**
+	 * 按照in中值的路由结果，为每个数据源与表创建一条sql，sql的in中只包含路由到此数据源与表的值
+	 * 
+	 * @param sqlStruct
+	 * @param sqlInfo
+	 * @param groups
+	 *            每个数据源与表的路由结果
+	 * @param fromIndex
+	 *            in中第一个参数的位置
+	 * @param paramCount
+	 *            in中参数的数量
+	 * @param totalParamCount
+	 *            sql中参数的数量
+	 */
+	private void splitInList(SQLStruct sqlStruct, SQLInfo sqlInfo,
+	        Collection<Route> groups, int fromIndex, int paramCount,
+	        int totalParamCount) {
+		this.checkCrossPartitionQuery(sqlStruct, groups.size());
+		SQLAnalyzer sqlAnalyzer = DALFactory.getDefault().getSqlAnalyzer();
+		int[] placeholders = ShardSQLBuilder.findPlaceholders(this.sql);
+		this.shardStatements = new ArrayList<ShardStatement>(groups.size());
+		String shardSql;
+		int[] parameterIndexes;
+		int size;
+		int idx;
+		ShardStatement shardStatement;
+		for (Route group : groups) {
+			size = group.parameterCount;
+			shardSql = ShardSQLBuilder.rewriteInList(this.sql, placeholders,
+			        fromIndex, paramCount, size);
+			if (group.isRewrite()) {
+				shardSql = sqlAnalyzer.outPutSQL(shardSql, sqlStruct, sqlInfo,
+				        group.parsedTableInfo);
+			}
+			parameterIndexes = new int[totalParamCount - paramCount + size];
+			idx = 0;
+			for (int i = 1; i < fromIndex; i++) {
+				parameterIndexes[idx++] = i;
 			}
+			System.arraycopy(group.parameterIndexes, 0, parameterIndexes,
+			        idx, size);
+			idx += size;
+			for (int i = fromIndex + paramCount; i <= totalParamCount; i++) {
+				parameterIndexes[idx++] = i;
+			}
+			shardStatement = new ShardStatement(group.getDsKey(), shardSql);
+			shardStatement.setParameterIndexes(parameterIndexes);
+			this.shardStatements.add(shardStatement);
 		}
-		else {
-			// 当不需要进行解析时，什么也不做，直接使用上一次使用的解析结果
+		DALCurrentStatus.setDsKey(this.shardStatements.get(0).getDsKey());
+	}
+
+	/**
+	 * 对 insert ... values (?,?),(?,?) 中的每一行分别进行路由。如果多行数据路由到多个数据源或表，按照路由结果将sql拆分为多条sql，
+	 * 每条sql只包含路由到此数据源与表的行，values之后的参数(例如 on duplicate key update c=?)每条sql都包含
+	 * 
+	 * @param sqlStruct
+	 * @param sqlInfo
+	 * @param connectionStatus
+	 * @return 没有拆分时返回路由结果，拆分为多条sql时返回null
+	 */
+	private Route routeInsertRows(SQLStruct sqlStruct, SQLInfo sqlInfo,
+	        ConnectionStatus connectionStatus) {
+		List<Object> values = this.dalParameters.getValues();
+		int rowCount = sqlStruct.getInsertRowCount();
+		int[] placeholders = ShardSQLBuilder.findPlaceholders(this.sql);
+		// values之后的参数(例如 on duplicate key update c=?)在每个分区的sql中都需要
+		int valuesEnd = ShardSQLBuilder.findInsertValuesEnd(this.sql,
+		        placeholders, rowCount);
+		int valuesParamCount = 0;
+		while (valuesParamCount < placeholders.length
+		        && placeholders[valuesParamCount] < valuesEnd) {
+			valuesParamCount++;
+		}
+		if (values.size() != placeholders.length
+		        || valuesParamCount % rowCount != 0) {
+			throw new DALRunTimeException("parameter count " + values.size()
+			        + " does not match " + rowCount + " rows for sql: "
+			        + this.sql);
+		}
+		int rowParamCount = valuesParamCount / rowCount;
+		SQLAnalyzer sqlAnalyzer = DALFactory.getDefault().getSqlAnalyzer();
+		Map<String, Integer> groupIndexMap = new HashMap<String, Integer>(4);
+		List<Route> groups = new ArrayList<Route>(4);
+		int[] rowShards = new int[rowCount];
+		Integer groupIndex;
+		Route route;
+		SQLInfo rowInfo;
+		int from;
+		for (int row = 0; row < rowCount; row++) {
+			from = row * rowParamCount;
+			rowInfo = sqlAnalyzer.analyse(this.sql, sqlStruct, values
+			        .subList(from, from + rowParamCount).toArray(),
+			        new HashMap<String, Object>());
+			route = this.route(sqlStruct, rowInfo, connectionStatus, null,
+			        null);
+			groupIndex = groupIndexMap.get(route.getKey());
+			if (groupIndex == null) {
+				groupIndex = groups.size();
+				groupIndexMap.put(route.getKey(), groupIndex);
+				groups.add(route);
+			}
+			rowShards[row] = groupIndex;
+			for (int i = 1; i <= rowParamCount; i++) {
+				groups.get(groupIndex).addParameterIndex(from + i);
+			}
+		}
+		if (groups.size() == 1) {
+			return groups.get(0);
+		}
+		this.shardStatements = new ArrayList<ShardStatement>(groups.size());
+		String shardSql;
+		int[] parameterIndexes;
+		ShardStatement shardStatement;
+		for (Route group : groups) {
+			shardSql = ShardSQLBuilder.rewriteInsertRows(this.sql,
+			        placeholders, valuesEnd, rowParamCount,
+			        group.parameterCount / rowParamCount);
+			for (int i = valuesParamCount + 1; i <= placeholders.length; i++) {
+				group.addParameterIndex(i);
+			}
+			if (group.isRewrite()) {
+				shardSql = sqlAnalyzer.outPutSQL(shardSql, sqlStruct,
+				        sqlInfo, group.parsedTableInfo);
+			}
+			parameterIndexes = new int[group.parameterCount];
+			System.arraycopy(group.parameterIndexes, 0, parameterIndexes, 0,
+			        group.parameterCount);
+			shardStatement = new ShardStatement(group.getDsKey(), shardSql);
+			shardStatement.setParameterIndexes(parameterIndexes);
+			this.shardStatements.add(shardStatement);
+		}
+		this.insertRowShards = rowShards;
+		DALCurrentStatus.setDsKey(this.shardStatements.get(0).getDsKey());
+		return null;
+	}
+
+	/**
+	 * 保存表的解析结果，同一条sql中的表必须路由到同一个数据源
+	 * 
+	 * @param route
+	 * @param table
+	 * @param partitionTableInfo
+	 */
+	private void addPartitionTableInfo(Route route, String table,
+	        PartitionTableInfo partitionTableInfo) {
+		Map<String, PartitionTableInfo> parsedMap = route.parsedMap;
+		if (!parsedMap.isEmpty()) {
+			Entry<String, PartitionTableInfo> first = parsedMap.entrySet()
+			        .iterator().next();
+			if (!isSameDsName(first.getValue().getDsName(),
+			        partitionTableInfo.getDsName())) {
+				throw new DALRunTimeException("table [ " + first.getKey()
+				        + " ] route to datasource [ "
+				        + first.getValue().getDsName() + " ] but table [ "
+				        + table + " ] route to datasource [ "
+				        + partitionTableInfo.getDsName() + " ] for sql: "
+				        + this.sql);
+			}
+		}
+		parsedMap.put(table, partitionTableInfo);
+		route.parsedTableInfo.setRealTable(table,
+		        partitionTableInfo.getRealTable());
+	}
+
+	private static boolean isSameDsName(String dsName, String otherDsName) {
+		if (dsName == null) {
+			return otherDsName == null;
 		}
+		return dsName.equals(otherDsName);
 	}
 
 	private void prepare(String sql) throws SQLException {
@@ -263,8 +1269,20 @@ public class DALPreparedStatement implements PreparedStatement {
 
 	private void reset() {
 		this.sql = null;
+		this.realSql = null;
 		this.dalConnection = null;
 		this.ps = null;
+		this.hedgeStatement = null;
+		this.hedgeResultSet = null;
+		this.shardStatements = null;
+		this.shardUpdateCount = -1;
+		this.broadcast = false;
+		this.shardResultSet = null;
+		this.insertRowShards = null;
+		this.scatter = false;
+		this.shardUpdateCounts = null;
+		this.read = false;
+		this.select = false;
 		this.autoGeneratedKeys = Statement.NO_GENERATED_KEYS;
 		this.columnIndexes = null;
 		this.columnNames = null;
@@ -293,9 +1311,11 @@ public class DALPreparedStatement implements PreparedStatement {
 	}
 
 	public void close() throws SQLException {
-		this.reset();
-		if (ps != null) {
-			ps.close();
+		try {
+			this.closeRealStatements();
+		}
+		finally {
+			this.reset();
 		}
 	}
 
@@ -340,12 +1360,23 @@ public class DALPreparedStatement implements PreparedStatement {
 	}
 
 	public void cancel() throws SQLException {
+		if (this.shardStatements != null) {
+			for (ShardStatement shardStatement : this.shardStatements) {
+				if (shardStatement.getPs() != null) {
+					shardStatement.getPs().cancel();
+				}
+			}
+			return;
+		}
 		if (ps != null) {
 			ps.cancel();
 		}
 	}
 
 	public SQLWarning getWarnings() throws SQLException {
+		if (this.hedgeStatement != null) {
+			return this.hedgeStatement.getWarnings();
+		}
 		if (ps != null) {
 			return ps.getWarnings();
 		}
@@ -353,6 +1384,9 @@ public class DALPreparedStatement implements PreparedStatement {
 	}
 
 	public void clearWarnings() throws SQLException {
+		if (this.hedgeStatement != null) {
+			this.hedgeStatement.clearWarnings();
+		}
 		if (ps != null) {
 			ps.clearWarnings();
 		}
@@ -371,12 +1405,21 @@ public class DALPreparedStatement implements PreparedStatement {
 	}
 
 	public ResultSet getResultSet() throws SQLException {
+		if (this.shardStatements != null) {
+			return this.shardResultSet;
+		}
+		if (this.hedgeStatement != null) {
+			return this.hedgeResultSet;
+		}
 		this.assertPs();
 		return ps.getResultSet();
 	}
 
 	public int getUpdateCount() throws SQLException {
 		this.assertPs();
+		if (this.shardStatements != null) {
+			return this.shardUpdateCount;
+		}
 		return ps.getUpdateCount();
 	}
 
@@ -439,6 +1482,15 @@ public class DALPreparedStatement implements PreparedStatement {
 
 	public ResultSet getGeneratedKeys() throws SQLException {
 		this.assertPs();
+		// 拆分后的多行insert，按照原始行的顺序合并各个数据源返回的自增主键
+		if (this.insertRowShards != null) {
+			List<ResultSet> resultSets = new ArrayList<ResultSet>(
+			        this.shardStatements.size());
+			for (ShardStatement shardStatement : this.shardStatements) {
+				resultSets.add(shardStatement.getPs().getGeneratedKeys());
+			}
+			return new UnionResultSet(resultSets, this.insertRowShards, this);
+		}
 		return ps.getGeneratedKeys();
 	}
 
@@ -499,24 +1551,265 @@ public class DALPreparedStatement implements PreparedStatement {
 		return this.poolable;
 	}
 
+	/**
+	 * iface为 {@link ShardUpdateCounts} 时，返回最后一次在多个数据源或表上执行更新时每条sql的更新数量
+	 */
 	public <T> T unwrap(Class<T> iface) throws SQLException {
+		if (iface == ShardUpdateCounts.class) {
+			if (this.shardUpdateCounts == null) {
+				throw new SQLException(
+				        "no update executed on multiple shards");
+			}
+			return iface.cast(this.shardUpdateCounts);
+		}
 		this.assertPs();
 		return ps.unwrap(iface);
 	}
 
 	public boolean isWrapperFor(Class<?> iface) throws SQLException {
+		if (iface == ShardUpdateCounts.class) {
+			return this.shardUpdateCounts != null;
+		}
 		this.assertPs();
 		return ps.isWrapperFor(iface);
 	}
 
 	public ResultSet executeQuery() throws SQLException {
 		this.prepare();
-		return ps.executeQuery();
+		if (this.shardStatements != null) {
+			return this.executeShardQuery();
+		}
+		String dsKey = DALCurrentStatus.getDsKey();
+		for (int retry = 0;; retry++) {
+			long begin = this.beforeExecute(dsKey, this.isReplica());
+			ResultSet rs;
+			try {
+				if (this.hedged
+				        && this.realConnection instanceof ReplicaConnection) {
+					rs = this.executeHedgedQuery(dsKey);
+				}
+				else {
+					rs = ps.executeQuery();
+				}
+			}
+			catch (SQLException e) {
+				this.onError(e, dsKey, this.isReplica(), begin);
+				if (this.prepareRetry(e, dsKey, retry)) {
+					continue;
+				}
+				throw e;
+			}
+			this.afterExecute(dsKey, this.isReplica(), begin);
+			return rs;
+		}
 	}
 
 	public int executeUpdate() throws SQLException {
 		this.prepare();
-		return ps.executeUpdate();
+		if (this.shardStatements != null) {
+			return this.executeShardUpdate();
+		}
+		String dsKey = DALCurrentStatus.getDsKey();
+		long begin = this.beforeExecute(dsKey, this.isReplica());
+		int count;
+		try {
+			count = ps.executeUpdate();
+		}
+		catch (SQLException e) {
+			this.onError(e, dsKey, this.isReplica(), begin);
+			throw e;
+		}
+		this.afterExecute(dsKey, this.isReplica(), begin);
+		return count;
+	}
+
+	/**
+	 * 在读库上执行查询，超过读库组的p95耗时没有返回时，在另一个读库上再次查询
+	 */
+	private ResultSet executeHedgedQuery(final String dsKey)
+	        throws SQLException {
+		DALDataSource dalDataSource = this.dalConnection.getDalDataSource();
+		ReplicaGroup group = dalDataSource.getReplicaGroup(dsKey);
+		if (group == null || group.getReplicas().length < 2) {
+			return ps.executeQuery();
+		}
+		HedgedQuery query = new HedgedQuery(group, dalDataSource.getMetrics(),
+		        dsKey) {
+
+			@Override
+			PreparedStatement prepareHedge(Connection con)
+			        throws SQLException {
+				PreparedStatement hedge = createRealPreparedStatement(con,
+				        realSql, dsKey);
+				initPreparedStatement(hedge, null);
+				return hedge;
+			}
+		};
+		ResultSet rs = query.execute(ps,
+		        ((ReplicaConnection) this.realConnection).getReplica());
+		if (query.getStatement() != ps) {
+			this.hedgeStatement = query.getStatement();
+			this.hedgeResultSet = rs;
+		}
+		return rs;
+	}
+
+	/**
+	 * 自动提交的只读语句遇到临时错误时，等待重试间隔后在新的Connection上重新创建语句。写操作、事务中的语句以及加锁的select不重试
+	 * 
+	 * @param e
+	 *            语句执行失败的异常
+	 * @param dsKey
+	 * @param retry
+	 *            已经重试的次数
+	 * @return 是否重试
+	 * @throws SQLException
+	 *             重新获取Connection失败
+	 */
+	private boolean prepareRetry(SQLException e, String dsKey, int retry)
+	        throws SQLException {
+		DALDataSource dalDataSource = this.dalConnection.getDalDataSource();
+		RetryPolicy retryPolicy = dalDataSource.getRetryPolicy();
+		if (retryPolicy == null || retry >= retryPolicy.getMaxRetries()
+		        || !this.select || isLockingRead(this.sql)
+		        || !this.dalConnection.getAutoCommit()
+		        || !retryPolicy.isRetryable(e)) {
+			return false;
+		}
+		long backoff = retryPolicy.getBackoff(retry);
+		if (this.deadline > 0
+		        && System.currentTimeMillis() + backoff >= this.deadline) {
+			return false;
+		}
+		if (backoff > 0) {
+			try {
+				Thread.sleep(backoff);
+			}
+			catch (InterruptedException ie) {
+				Thread.currentThread().interrupt();
+				return false;
+			}
+		}
+		try {
+			ps.close();
+		}
+		catch (SQLException ex) {
+			// 失败的语句关闭时可能也会失败
+		}
+		Connection con = this.dalConnection.reconnectRealConnection(dsKey,
+		        this.read, this.realConnection);
+		int idx = this.acquiredConnections.indexOf(this.realConnection);
+		if (idx >= 0) {
+			this.acquiredConnections.set(idx, con);
+		}
+		else {
+			this.acquiredConnections.add(con);
+		}
+		this.realConnection = con;
+		ps = this.createRealPreparedStatement(con, this.realSql, dsKey);
+		this.initPreparedStatement(ps, null);
+		dalDataSource.getMetrics().getCounter(DALMetrics.RETRY, dsKey).inc();
+		return true;
+	}
+
+	/**
+	 * 在数据源上执行语句前检查熔断器，获取并发许可
+	 * 
+	 * @param dsKey
+	 * @param replica
+	 *            是否在读库上执行，读库上的语句不检查熔断器
+	 * @return 开始执行的时间
+	 * @throws SQLException
+	 *             熔断器打开或者超过并发数量限制
+	 */
+	private long beforeExecute(String dsKey, boolean replica)
+	        throws SQLException {
+		DALDataSource dalDataSource = this.dalConnection.getDalDataSource();
+		CircuitBreakers breakers = this.getCircuitBreakers(replica);
+		ConcurrencyLimiters limiters = dalDataSource.getConcurrencyLimiters();
+		if (breakers != null || limiters != null) {
+			String key = dalDataSource.getPhysicalKey(dsKey);
+			// 先取得并发许可，熔断器半开时放行的探测请求不会因为并发限制被丢弃
+			ConcurrencyLimiter limiter = null;
+			if (limiters != null) {
+				limiter = limiters.getLimiter(key);
+				limiter.acquire();
+			}
+			if (breakers != null) {
+				try {
+					breakers.acquire(key);
+				}
+				catch (SQLException e) {
+					if (limiter != null) {
+						limiter.cancel();
+					}
+					throw e;
+				}
+			}
+		}
+		return System.currentTimeMillis();
+	}
+
+	private void afterExecute(String dsKey, boolean replica, long begin) {
+		DALDataSource dalDataSource = this.dalConnection.getDalDataSource();
+		CircuitBreakers breakers = this.getCircuitBreakers(replica);
+		ConcurrencyLimiters limiters = dalDataSource.getConcurrencyLimiters();
+		if (breakers != null || limiters != null) {
+			String key = dalDataSource.getPhysicalKey(dsKey);
+			long elapsed = System.currentTimeMillis() - begin;
+			if (breakers != null) {
+				breakers.onSuccess(key, elapsed);
+			}
+			if (limiters != null) {
+				limiters.getLimiter(key).release(elapsed, false);
+			}
+		}
+	}
+
+	/**
+	 * 记录数据源上的锁等待超时与死锁、熔断器的失败，释放并发许可
+	 * 
+	 * @param e
+	 * @param dsKey
+	 * @param replica
+	 *            是否在读库上执行
+	 * @param begin
+	 *            开始执行的时间
+	 */
+	private void onError(SQLException e, String dsKey, boolean replica,
+	        long begin) {
+		DALDataSource dalDataSource = this.dalConnection.getDalDataSource();
+		LockErrors.record(dalDataSource.getMetrics(), dsKey, e);
+		CircuitBreakers breakers = this.getCircuitBreakers(replica);
+		ConcurrencyLimiters limiters = dalDataSource.getConcurrencyLimiters();
+		if (breakers != null || limiters != null) {
+			String key = dalDataSource.getPhysicalKey(dsKey);
+			long elapsed = System.currentTimeMillis() - begin;
+			if (breakers != null) {
+				breakers.onError(key, elapsed, e);
+			}
+			if (limiters != null) {
+				limiters.getLimiter(key).release(elapsed,
+				        CircuitBreakers.isFailure(e));
+			}
+		}
+	}
+
+	/**
+	 * 读库的可用性由读库组的健康检查处理，读库上的语句不计入主库的熔断器
+	 */
+	private CircuitBreakers getCircuitBreakers(boolean replica) {
+		if (replica) {
+			return null;
+		}
+		return this.dalConnection.getDalDataSource().getCircuitBreakers();
+	}
+
+	/**
+	 * @return 只在一个数据源上执行时，是否使用读库的Connection
+	 */
+	private boolean isReplica() {
+		return this.realConnection instanceof ReplicaConnection;
 	}
 
 	public void setNull(int parameterIndex, int sqlType) throws SQLException {
@@ -629,7 +1922,31 @@ public class DALPreparedStatement implements PreparedStatement {
 
 	public boolean execute() throws SQLException {
 		this.prepare();
-		return ps.execute();
+		if (this.shardStatements != null) {
+			if (this.select) {
+				this.executeShardQuery();
+				return true;
+			}
+			this.executeShardUpdate();
+			return false;
+		}
+		String dsKey = DALCurrentStatus.getDsKey();
+		for (int retry = 0;; retry++) {
+			long begin = this.beforeExecute(dsKey, this.isReplica());
+			boolean result;
+			try {
+				result = ps.execute();
+			}
+			catch (SQLException e) {
+				this.onError(e, dsKey, this.isReplica(), begin);
+				if (this.prepareRetry(e, dsKey, retry)) {
+					continue;
+				}
+				throw e;
+			}
+			this.afterExecute(dsKey, this.isReplica(), begin);
+			return result;
+		}
 	}
 
 	public void addBatch() throws SQLException {
@@ -663,6 +1980,9 @@ public class DALPreparedStatement implements PreparedStatement {
 	}
 
 	public ResultSetMetaData getMetaData() throws SQLException {
+		if (this.hedgeStatement != null) {
+			return this.hedgeStatement.getMetaData();
+		}
 		this.assertPs();
 		return ps.getMetaData();
 	}
@@ -843,4 +2163,83 @@ public class DALPreparedStatement implements PreparedStatement {
 	public void setDalConnection(DALConnection dalConnection) {
 		this.dalConnection = dalConnection;
 	}
+
+	/**
+	 * sql中的表的路由结果
+	 */
+	private static class Route {
+
+		final Map<String, PartitionTableInfo> parsedMap = new LinkedHashMap<String, PartitionTableInfo>(
+		        4);
+
+		final ParsedTableInfo parsedTableInfo = new ParsedTableInfo();
+
+		boolean hasParser = true;
+
+		/**
+		 * 路由到多个分区的表
+		 */
+		String multiTable;
+
+		/**
+		 * multiTable的所有分区，只有一个分区时为null
+		 */
+		List<PartitionTableInfo> multiInfos;
+
+		/**
+		 * 路由到此结果的参数位置，in中的参数或者insert中的多行参数
+		 */
+		int[] parameterIndexes;
+
+		int parameterCount;
+
+		private String key;
+
+		/**
+		 * @return 第一个表的数据源，没有解析结果时为默认数据源
+		 */
+		String getDsKey() {
+			if (parsedMap.isEmpty()) {
+				return DALDataSource.DSKEY_DEFAULT;
+			}
+			String dsKey = parsedMap.values().iterator().next().getDsName();
+			if (dsKey == null) {
+				return DALDataSource.DSKEY_DEFAULT;
+			}
+			return dsKey;
+		}
+
+		/**
+		 * @return 是否需要改写sql中的表名称，存在解析结果或者数据源对应schema时需要改写
+		 */
+		boolean isRewrite() {
+			return hasParser || parsedTableInfo.getSchema() != null;
+		}
+
+		/**
+		 * @return 数据源与所有真实表组成的key，相同key的路由结果可以在一条sql中执行
+		 */
+		String getKey() {
+			if (key == null) {
+				StringBuilder sb = new StringBuilder(this.getDsKey());
+				for (PartitionTableInfo info : parsedMap.values()) {
+					sb.append(',').append(info.getRealTable());
+				}
+				key = sb.toString();
+			}
+			return key;
+		}
+
+		void addParameterIndex(int parameterIndex) {
+			if (parameterIndexes == null) {
+				parameterIndexes = new int[4];
+			}
+			else if (parameterCount == parameterIndexes.length) {
+				int[] tmp = new int[parameterCount * 2];
+				System.arraycopy(parameterIndexes, 0, tmp, 0, parameterCount);
+				parameterIndexes = tmp;
+			}
+			parameterIndexes[parameterCount++] = parameterIndex;
+		}
+	}
 }
@@ -0,0 +1,350 @@
+package halo.dal.sql;
+
+import halo.dal.DALFactory;
+import halo.dal.metrics.DALMetrics;
+import halo.dal.sql.replica.Replica;
+import halo.dal.sql.replica.ReplicaGroup;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * 读库上的对冲查询。查询超过读库组的p95耗时没有返回时，在另一个读库上执行同样的查询，使用先返回的结果，
+ * 通过 {@link java.sql.Statement#cancel()} 取消另一个查询。输掉的查询在自己的线程中关闭结果与对冲使用的连接。
+ * 对冲查询胜出时，等待第一次查询结束后再返回，避免第一次查询与同一个连接上的后续语句并发
+ */
+abstract class HedgedQuery {
+
+	private static final int PRIMARY = 0;
+
+	private static final int HEDGE = 1;
+
+	/**
+	 * 调用者放弃等待
+	 */
+	private static final int ABANDONED = 2;
+
+	private final ReplicaGroup group;
+
+	private final DALMetrics metrics;
+
+	private final String dsKey;
+
+	/**
+	 * 先返回结果的查询，由查询线程设置，调用者根据此值获取结果，与查询完成的通知顺序无关
+	 */
+	private final AtomicInteger winner = new AtomicInteger(-1);
+
+	/**
+	 * 胜出的查询的结果，调用者放弃等待时由调用者或查询线程关闭
+	 */
+	private final AtomicReference<ResultSet> result = new AtomicReference<ResultSet>();
+
+	private volatile boolean abandoned;
+
+	/**
+	 * 返回的结果对应的语句
+	 */
+	private PreparedStatement statement;
+
+	private final CompletionService<ResultSet> completionService = new ExecutorCompletionService<ResultSet>(
+	        DALFactory.getDefault().getExecutorService());
+
+	HedgedQuery(ReplicaGroup group, DALMetrics metrics, String dsKey) {
+		this.group = group;
+		this.metrics = metrics;
+		this.dsKey = dsKey;
+	}
+
+	/**
+	 * 在对冲读使用的连接上创建并设置参数
+	 */
+	abstract PreparedStatement prepareHedge(Connection con)
+	        throws SQLException;
+
+	/**
+	 * @param primary
+	 *            第一次查询的语句
+	 * @param replica
+	 *            第一次查询使用的读库
+	 * @return 先返回的查询结果
+	 * @throws SQLException
+	 *             两个查询都失败时抛出
+	 */
+	ResultSet execute(PreparedStatement primary, Replica replica)
+	        throws SQLException {
+		this.statement = primary;
+		long begin = System.currentTimeMillis();
+		long delay = this.group.getHedgeDelay();
+		// 耗时样本不足时不使用对冲读
+		if (delay < 0) {
+			ResultSet rs = primary.executeQuery();
+			this.group.recordReadLatency(System.currentTimeMillis() - begin);
+			return rs;
+		}
+		Future<ResultSet> primaryFuture = this.submit(PRIMARY, primary, null);
+		PreparedStatement hedge = null;
+		Future<ResultSet> hedgeFuture = null;
+		try {
+			ResultSet rs = this.get(primaryFuture, delay);
+			if (rs != null) {
+				this.group.recordReadLatency(System.currentTimeMillis() - begin);
+				return rs;
+			}
+			Connection con = null;
+			if (this.group.tryAcquireHedge()) {
+				con = this.group.getHedgeConnection(replica);
+			}
+			if (con != null) {
+				try {
+					hedge = this.prepareHedge(con);
+				}
+				catch (SQLException e) {
+					con.close();
+				}
+			}
+			if (hedge == null) {
+				rs = this.get(primaryFuture, 0);
+				this.group.recordReadLatency(System.currentTimeMillis() - begin);
+				return rs;
+			}
+			this.metrics.getCounter(DALMetrics.HEDGE_FIRED, this.dsKey).inc();
+			hedgeFuture = this.submit(HEDGE, hedge, con);
+			for (int i = 0; i < 2; i++) {
+				this.completionService.take();
+				// 输掉的查询可能先完成，结果为null，只使用胜出的查询的结果
+				int idx = this.winner.get();
+				if (idx != PRIMARY && idx != HEDGE) {
+					continue;
+				}
+				rs = this.get(idx == PRIMARY ? primaryFuture : hedgeFuture, 0);
+				this.cancel(idx == PRIMARY ? hedge : primary);
+				if (idx == HEDGE) {
+					this.metrics.getCounter(DALMetrics.HEDGE_WON, this.dsKey)
+					        .inc();
+					this.statement = hedge;
+					this.awaitPrimary(primaryFuture, primary);
+				}
+				this.group.recordReadLatency(System.currentTimeMillis() - begin);
+				return rs;
+			}
+			// 两个查询都失败
+			SQLException first = null;
+			try {
+				this.get(primaryFuture, 0);
+			}
+			catch (SQLException e) {
+				first = e;
+			}
+			try {
+				this.get(hedgeFuture, 0);
+			}
+			catch (SQLException e) {
+				first = ShardExecutor.chain(first, e);
+			}
+			throw first;
+		}
+		catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			this.abandon(primary, hedge, hedgeFuture);
+			throw new SQLException("interrupted when waiting for query on "
+			        + this.dsKey, e);
+		}
+	}
+
+	/**
+	 * @return 返回的结果对应的语句，对冲查询胜出时为对冲查询的语句
+	 */
+	PreparedStatement getStatement() {
+		return this.statement;
+	}
+
+	/**
+	 * 对冲查询胜出后等待第一次查询结束，超过hedgeCancelWait时关闭第一次查询的语句
+	 */
+	private void awaitPrimary(Future<ResultSet> primaryFuture,
+	        PreparedStatement primary) {
+		boolean interrupted = false;
+		try {
+			primaryFuture.get(this.group.getHedgeCancelWait(),
+			        TimeUnit.MILLISECONDS);
+			return;
+		}
+		catch (ExecutionException e) {
+			// 取消后查询失败
+			return;
+		}
+		catch (TimeoutException e) {
+		}
+		catch (InterruptedException e) {
+			interrupted = true;
+		}
+		closeQuietly(null, primary, null);
+		if (interrupted) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	/**
+	 * @param timeout
+	 *            等待时间(毫秒)，0表示一直等待
+	 * @return 超时时返回null
+	 */
+	private ResultSet get(Future<ResultSet> future, long timeout)
+	        throws SQLException, InterruptedException {
+		try {
+			if (timeout > 0) {
+				return future.get(timeout, TimeUnit.MILLISECONDS);
+			}
+			return future.get();
+		}
+		catch (TimeoutException e) {
+			return null;
+		}
+		catch (ExecutionException e) {
+			throw ShardExecutor.toSQLException(e.getCause());
+		}
+	}
+
+	private Future<ResultSet> submit(final int idx, final PreparedStatement ps,
+	        final Connection con) {
+		return this.completionService.submit(new Callable<ResultSet>() {
+
+			public ResultSet call() throws Exception {
+				return attempt(idx, ps, con);
+			}
+		});
+	}
+
+	private ResultSet attempt(int idx, PreparedStatement ps, Connection con)
+	        throws SQLException {
+		// 调用者已经放弃等待时不再执行
+		if (this.abandoned) {
+			if (con != null) {
+				closeQuietly(null, ps, con);
+			}
+			return null;
+		}
+		ResultSet rs;
+		try {
+			rs = ps.executeQuery();
+		}
+		catch (SQLException e) {
+			if (con != null) {
+				closeQuietly(null, ps, con);
+			}
+			throw e;
+		}
+		if (this.winner.compareAndSet(-1, idx)) {
+			if (con != null) {
+				rs = new HedgeResultSet(rs, ps, con);
+			}
+			this.result.set(rs);
+			if (this.abandoned) {
+				this.closeResult();
+			}
+			return rs;
+		}
+		// 另一个查询已经返回
+		closeQuietly(rs, con == null ? null : ps, con);
+		return null;
+	}
+
+	private void cancel(PreparedStatement ps) {
+		try {
+			ps.cancel();
+		}
+		catch (SQLException e) {
+			// 取消失败时等待查询完成后关闭
+		}
+	}
+
+	/**
+	 * 调用者放弃等待时，取消还在执行的查询，关闭胜出的查询的结果。之后完成的查询在自己的线程中关闭结果
+	 */
+	private void abandon(PreparedStatement primary, PreparedStatement hedge,
+	        Future<ResultSet> hedgeFuture) {
+		this.abandoned = true;
+		this.winner.compareAndSet(-1, ABANDONED);
+		int idx = this.winner.get();
+		if (idx != PRIMARY) {
+			this.cancel(primary);
+		}
+		if (hedge != null && idx != HEDGE && !hedgeFuture.isDone()) {
+			this.cancel(hedge);
+		}
+		this.closeResult();
+	}
+
+	private void closeResult() {
+		closeQuietly(this.result.getAndSet(null), null, null);
+	}
+
+	static void closeQuietly(ResultSet rs, PreparedStatement ps, Connection con) {
+		try {
+			if (rs != null) {
+				rs.close();
+			}
+		}
+		catch (SQLException e) {
+		}
+		try {
+			if (ps != null) {
+				ps.close();
+			}
+		}
+		catch (SQLException e) {
+		}
+		try {
+			if (con != null) {
+				con.close();
+			}
+		}
+		catch (SQLException e) {
+		}
+	}
+
+	/**
+	 * 对冲查询返回的结果，关闭时关闭对冲使用的语句与连接
+	 */
+	private static class HedgeResultSet extends ResultSetWrapper {
+
+		private final PreparedStatement ps;
+
+		private final Connection con;
+
+		private boolean closed;
+
+		HedgeResultSet(ResultSet rs, PreparedStatement ps, Connection con) {
+			super(rs);
+			this.ps = ps;
+			this.con = con;
+		}
+
+		@Override
+		public void close() throws SQLException {
+			// 调用者关闭结果后，关闭DALPreparedStatement时还会再次关闭
+			if (this.closed) {
+				return;
+			}
+			this.closed = true;
+			try {
+				super.close();
+			}
+			finally {
+				closeQuietly(null, this.ps, this.con);
+			}
+		}
+	}
+}
@@ -0,0 +1,122 @@
+package halo.dal.sql;
+
+import java.sql.SQLException;
+import java.sql.SQLTimeoutException;
+import java.sql.SQLWarning;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+
+/**
+ * 允许部分结果的查询在多个数据源上执行时，没有返回结果的数据源。通过
+ * {@link java.sql.ResultSet#unwrap(Class)} 获得
+ */
+public class PartialResult {
+
+	private final int shardCount;
+
+	private final String[] dsKeys;
+
+	private final String[] sqls;
+
+	private final SQLException[] exceptions;
+
+	PartialResult(List<ShardStatement> shardStatements,
+	        Map<Integer, SQLException> failures) {
+		this.shardCount = shardStatements.size();
+		int size = failures.size();
+		this.dsKeys = new String[size];
+		this.sqls = new String[size];
+		this.exceptions = new SQLException[size];
+		int i = 0;
+		ShardStatement shardStatement;
+		for (Entry<Integer, SQLException> e : failures.entrySet()) {
+			shardStatement = shardStatements.get(e.getKey());
+			this.dsKeys[i] = shardStatement.getDsKey();
+			this.sqls[i] = shardStatement.getSql();
+			this.exceptions[i] = e.getValue();
+			i++;
+		}
+	}
+
+	/**
+	 * @return 查询需要执行的sql数量
+	 */
+	public int getShardCount() {
+		return shardCount;
+	}
+
+	/**
+	 * @return 所有sql都返回了结果
+	 */
+	public boolean isComplete() {
+		return exceptions.length == 0;
+	}
+
+	/**
+	 * @return 没有返回结果的sql数量
+	 */
+	public int size() {
+		return exceptions.length;
+	}
+
+	public String getDsKey(int index) {
+		return dsKeys[index];
+	}
+
+	/**
+	 * @param index
+	 * @return 在数据源上执行的真实sql
+	 */
+	public String getSql(int index) {
+		return sqls[index];
+	}
+
+	public SQLException getException(int index) {
+		return exceptions[index];
+	}
+
+	/**
+	 * @param index
+	 * @return true:超过截止时间没有返回，false:执行失败
+	 */
+	public boolean isTimedOut(int index) {
+		return exceptions[index] instanceof SQLTimeoutException;
+	}
+
+	/**
+	 * @return 每个没有返回结果的sql对应一个SQLWarning，没有时返回null
+	 */
+	SQLWarning toWarnings() {
+		SQLWarning first = null;
+		for (int i = 0; i < exceptions.length; i++) {
+			SQLWarning warning = new SQLWarning((this.isTimedOut(i) ? "timeout"
+			        : "failed")
+			        + " on [ "
+			        + dsKeys[i]
+			        + " ] "
+			        + exceptions[i].getMessage(), exceptions[i].getSQLState(),
+			        exceptions[i].getErrorCode(), exceptions[i]);
+			if (first == null) {
+				first = warning;
+			}
+			else {
+				first.setNextWarning(warning);
+			}
+		}
+		return first;
+	}
+
+	@Override
+	public String toString() {
+		StringBuilder sb = new StringBuilder();
+		sb.append(shardCount - exceptions.length).append("/")
+		        .append(shardCount);
+		for (int i = 0; i < exceptions.length; i++) {
+			sb.append(" [ ").append(dsKeys[i]).append(" ").append(sqls[i])
+			        .append(this.isTimedOut(i) ? " timeout" : " failed")
+			        .append(" ]");
+		}
+		return sb.toString();
+	}
+}
@@ -0,0 +1,104 @@
+package halo.dal.sql;
+
+import halo.dal.sql.breaker.CircuitOpenException;
+
+import java.sql.SQLException;
+import java.sql.SQLRecoverableException;
+import java.sql.SQLTimeoutException;
+import java.sql.SQLTransientConnectionException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * 只读语句遇到临时错误时的重试策略，通过 {@link DALDataSource#setRetryPolicy(RetryPolicy)} 设置。<br>
+ * 只重试自动提交、在一个数据源上执行、没有加锁的select语句，写操作与事务中的语句不重试。
+ * 重试前关闭失败的真实Connection，使用读库时优先使用其他可用的读库。重试的间隔随重试次数增加并加入随机值，不超过语句的queryTimeout
+ */
+public class RetryPolicy {
+
+	/**
+	 * 最大重试次数
+	 */
+	private int maxRetries = 2;
+
+	/**
+	 * 第一次重试的间隔(毫秒)，之后每次加倍
+	 */
+	private long initialBackoff = 10;
+
+	/**
+	 * 重试间隔的上限(毫秒)
+	 */
+	private long maxBackoff = 200;
+
+	/**
+	 * 可以重试的SQLState前缀，默认为连接异常(08)与序列化失败(40001)
+	 */
+	private List<String> sqlStates = Arrays.asList("08", "40001");
+
+	private final Random random = new Random();
+
+	public void setMaxRetries(int maxRetries) {
+		this.maxRetries = maxRetries;
+	}
+
+	public int getMaxRetries() {
+		return maxRetries;
+	}
+
+	public void setInitialBackoff(long initialBackoff) {
+		this.initialBackoff = initialBackoff;
+	}
+
+	public void setMaxBackoff(long maxBackoff) {
+		this.maxBackoff = maxBackoff;
+	}
+
+	public void setSqlStates(List<String> sqlStates) {
+		this.sqlStates = new ArrayList<String>(sqlStates);
+	}
+
+	/**
+	 * 超时、熔断器打开不重试。连接异常以及SQLState以sqlStates中的值开头的异常重试
+	 * 
+	 * @param e
+	 * @return 是否可以重试
+	 */
+	public boolean isRetryable(SQLException e) {
+		if (e instanceof SQLTimeoutException
+		        || e instanceof CircuitOpenException) {
+			return false;
+		}
+		if (e instanceof SQLTransientConnectionException
+		        || e instanceof SQLRecoverableException) {
+			return true;
+		}
+		String state = e.getSQLState();
+		if (state == null) {
+			return false;
+		}
+		for (String prefix : this.sqlStates) {
+			if (state.startsWith(prefix)) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * @param retry
+	 *            第几次重试，从0开始
+	 * @return 重试前等待的时间(毫秒)，在 [间隔/2, 间隔] 之间随机
+	 */
+	public long getBackoff(int retry) {
+		long backoff = this.initialBackoff << Math.min(retry, 20);
+		backoff = Math.min(this.maxBackoff, backoff);
+		if (backoff <= 1) {
+			return Math.max(0, backoff);
+		}
+		long half = backoff / 2;
+		return half + (long) (this.random.nextDouble() * (backoff - half));
+	}
+}
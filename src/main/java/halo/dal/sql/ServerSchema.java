@@ -0,0 +1,36 @@
+package halo.dal.sql;
+
+/**
+ * 数据源key对应的物理服务器与schema。server为 {@link DALDataSource#setDataSourceMap(java.util.Map)}
+ * 中的key，同一个服务器上的多个schema共用服务器的连接
+ */
+public class ServerSchema {
+
+	private String server;
+
+	private String schema;
+
+	public ServerSchema() {
+	}
+
+	public ServerSchema(String server, String schema) {
+		this.server = server;
+		this.schema = schema;
+	}
+
+	public String getServer() {
+		return server;
+	}
+
+	public void setServer(String server) {
+		this.server = server;
+	}
+
+	public String getSchema() {
+		return schema;
+	}
+
+	public void setSchema(String schema) {
+		this.schema = schema;
+	}
+}
@@ -0,0 +1,525 @@
+package halo.dal.sql;
+
+import halo.dal.DALFactory;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.SQLTimeoutException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.TreeMap;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+/**
+ * 在多个数据源上并行执行操作。只有一个操作时，在当前线程中执行，不使用线程池。<br>
+ * 所有操作执行完成后才返回，返回结果的顺序与操作的顺序相同。有操作失败时，按照操作的顺序抛出失败的异常，其他异常通过
+ * {@link SQLException#setNextException(SQLException)}追加。<br>
+ * 设置failFast后，有操作失败或者超过截止时间时，还没有开始的操作不再执行，正在执行的 {@link CancelableShardTask}
+ * 被取消，导致取消的异常放在最前面。<br>
+ * 允许部分结果时，操作失败不影响其他操作，超过截止时间时才取消，失败的操作通过 {@link #getFailures()} 获得，结果为null。<br>
+ * 抛出异常时，已经成功的操作返回的 {@link ResultSet} 被关闭
+ */
+public class ShardExecutor {
+
+	/**
+	 * 在某个数据源上执行的操作
+	 *
+	 * @param <E>
+	 *            操作对象
+	 * @param <T>
+	 *            操作结果
+	 */
+	public interface ShardTask<E, T> {
+
+		T execute(E item) throws SQLException;
+	}
+
+	/**
+	 * 可以被取消的操作
+	 */
+	public interface CancelableShardTask<E, T> extends ShardTask<E, T> {
+
+		/**
+		 * 其他操作失败或者超过截止时间时，由等待结果的线程调用，取消正在执行的操作
+		 * 
+		 * @param item
+		 * @throws SQLException
+		 */
+		void cancel(E item) throws SQLException;
+	}
+
+	private static final int STATE_RUNNING = 1;
+
+	private static final int STATE_DONE = 2;
+
+	private final ExecutorService executorService;
+
+	/**
+	 * 等待所有操作完成的截止时间(毫秒)，0表示不限制
+	 */
+	private long deadline;
+
+	/**
+	 * 有操作失败时是否取消其他操作
+	 */
+	private boolean failFast;
+
+	/**
+	 * 是否允许部分操作失败
+	 */
+	private boolean partial;
+
+	/**
+	 * 允许部分结果时，失败的操作在items中的位置与异常
+	 */
+	private Map<Integer, SQLException> failures = new TreeMap<Integer, SQLException>();
+
+	public ShardExecutor() {
+		this(DALFactory.getDefault().getExecutorService());
+	}
+
+	public ShardExecutor(ExecutorService executorService) {
+		this.executorService = executorService;
+	}
+
+	/**
+	 * @param deadline
+	 *            截止时间(毫秒)，超过时取消正在执行的操作并抛出 {@link SQLTimeoutException}
+	 *            。只有一个操作时不使用线程池，由操作自己控制超时
+	 */
+	public void setDeadline(long deadline) {
+		this.deadline = deadline;
+	}
+
+	/**
+	 * @param failFast
+	 *            true:有操作失败时，还没有开始的操作不再执行，正在执行的 {@link CancelableShardTask}
+	 *            被取消，用于查询与更新语句。false:所有操作都执行完成，用于提交、回滚、关闭等必须在每个数据源上执行的操作
+	 */
+	public void setFailFast(boolean failFast) {
+		this.failFast = failFast;
+	}
+
+	/**
+	 * @param partial
+	 *            true:有操作成功时不抛出异常，失败的操作的结果为null。所有操作都失败时仍然抛出异常
+	 */
+	public void setPartial(boolean partial) {
+		this.partial = partial;
+	}
+
+	/**
+	 * @return 允许部分结果时，失败的操作在items中的位置与异常。超过截止时间之后失败的操作为
+	 *         {@link SQLTimeoutException}
+	 */
+	public Map<Integer, SQLException> getFailures() {
+		return failures;
+	}
+
+	/**
+	 * 并行执行所有操作，等待全部完成
+	 *
+	 * @param items
+	 *            操作对象
+	 * @param task
+	 *            需要执行的操作
+	 * @return 与items顺序相同的执行结果
+	 * @throws SQLException
+	 */
+	public <E, T> List<T> invokeAll(List<E> items, ShardTask<E, T> task)
+	        throws SQLException {
+		List<T> results = this.execute(items, task);
+		this.checkPartial(items.size());
+		return results;
+	}
+
+	private <E, T> List<T> execute(final List<E> items,
+	        final ShardTask<E, T> task) throws SQLException {
+		List<T> results = new ArrayList<T>(items.size());
+		if (items.size() == 1) {
+			results.add(task.execute(items.get(0)));
+			return results;
+		}
+		final AtomicBoolean cancelled = new AtomicBoolean();
+		final AtomicIntegerArray states = new AtomicIntegerArray(items.size());
+		CompletionService<T> completionService = new ExecutorCompletionService<T>(
+		        this.executorService);
+		Map<Future<T>, Integer> indexMap = new HashMap<Future<T>, Integer>();
+		for (int i = 0; i < items.size(); i++) {
+			final int idx = i;
+			indexMap.put(completionService.submit(new Callable<T>() {
+
+				public T call() throws Exception {
+					states.set(idx, STATE_RUNNING);
+					try {
+						if (cancelled.get()) {
+							throw new SQLException(
+							        "shard task cancelled before execution");
+						}
+						return task.execute(items.get(idx));
+					}
+					finally {
+						states.set(idx, STATE_DONE);
+					}
+				}
+			}), idx);
+		}
+		Object[] values = new Object[items.size()];
+		SQLException[] errors = new SQLException[items.size()];
+		// 快速失败时，导致取消的异常放在最前面
+		SQLException cause = null;
+		int remaining = items.size();
+		while (remaining > 0) {
+			Future<T> future;
+			try {
+				if (this.deadline > 0 && !cancelled.get()) {
+					future = completionService.poll(Math.max(0, this.deadline
+					        - System.currentTimeMillis()), TimeUnit.MILLISECONDS);
+					if (future == null) {
+						if (!this.partial) {
+							cause = new SQLTimeoutException(
+							        "shard tasks exceed deadline");
+						}
+						this.cancel(items, task, cancelled, states);
+						continue;
+					}
+				}
+				else {
+					future = completionService.take();
+				}
+			}
+			catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				if (this.failFast) {
+					this.cancel(items, task, cancelled, states);
+				}
+				closeResults(values);
+				throw chain(chain(cause, new SQLException(
+				        "interrupted when waiting for shard result", e)),
+				        chainInOrder(errors));
+			}
+			remaining--;
+			int idx = indexMap.get(future);
+			try {
+				values[idx] = future.get();
+			}
+			catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				errors[idx] = new SQLException(
+				        "interrupted when waiting for shard result", e);
+			}
+			catch (ExecutionException e) {
+				SQLException ex = toSQLException(e.getCause());
+				if (this.partial) {
+					this.failures.put(idx, this.toFailure(ex));
+				}
+				else if (this.failFast && cause == null) {
+					cause = ex;
+					this.cancel(items, task, cancelled, states);
+				}
+				else {
+					errors[idx] = ex;
+				}
+			}
+		}
+		SQLException first = chain(cause, chainInOrder(errors));
+		if (first != null) {
+			closeResults(values);
+			throw first;
+		}
+		for (Object value : values) {
+			@SuppressWarnings("unchecked")
+			T t = (T) value;
+			results.add(t);
+		}
+		return results;
+	}
+
+	/**
+	 * 按照操作的顺序连接异常
+	 */
+	private static SQLException chainInOrder(SQLException[] errors) {
+		SQLException first = null;
+		for (SQLException e : errors) {
+			if (e != null) {
+				first = chain(first, e);
+			}
+		}
+		return first;
+	}
+
+	/**
+	 * 超过截止时间之后的失败作为超时
+	 */
+	private SQLException toFailure(SQLException e) {
+		if (this.deadline > 0 && System.currentTimeMillis() >= this.deadline
+		        && !(e instanceof SQLTimeoutException)) {
+			return new SQLTimeoutException("shard task exceed deadline: "
+			        + e.getMessage(), e.getSQLState(), e.getErrorCode(), e);
+		}
+		return e;
+	}
+
+	/**
+	 * 所有操作都失败时抛出异常
+	 */
+	private void checkPartial(int size) throws SQLException {
+		if (size == 0 || this.failures.size() < size) {
+			return;
+		}
+		SQLException first = null;
+		for (SQLException e : this.failures.values()) {
+			first = chain(first, e);
+		}
+		throw first;
+	}
+
+	/**
+	 * 没有开始的操作不再执行，取消正在执行的操作
+	 */
+	private <E, T> void cancel(List<E> items, ShardTask<E, T> task,
+	        AtomicBoolean cancelled, AtomicIntegerArray states) {
+		if (!cancelled.compareAndSet(false, true)
+		        || !(task instanceof CancelableShardTask)) {
+			return;
+		}
+		CancelableShardTask<E, T> cancelable = (CancelableShardTask<E, T>) task;
+		for (int i = 0; i < items.size(); i++) {
+			if (states.get(i) == STATE_RUNNING) {
+				try {
+					cancelable.cancel(items.get(i));
+				}
+				catch (SQLException e) {
+					// 取消失败时等待操作自己结束
+				}
+			}
+		}
+	}
+
+	/**
+	 * 不同数据源上的语句并行执行，同一个数据源上的多个语句使用同一个Connection，在同一个线程中按顺序执行
+	 * 
+	 * @param items
+	 *            需要执行的语句
+	 * @param task
+	 *            需要执行的操作
+	 * @return 与items顺序相同的执行结果
+	 * @throws SQLException
+	 */
+	public <T> List<T> invokeByDataSource(List<ShardStatement> items,
+	        ShardTask<ShardStatement, T> task) throws SQLException {
+		return this.invokeByDataSource(items, task, 0);
+	}
+
+	/**
+	 * 不同数据源上的语句并行执行，同一个数据源上的多个语句使用同一个Connection，在同一个线程中按顺序执行。
+	 * 按照 {@link ShardStatement#getConnectionKey()} 分组，共用物理服务器连接的多个数据源的语句也在同一个线程中执行
+	 * 
+	 * @param items
+	 *            需要执行的语句
+	 * @param task
+	 *            需要执行的操作
+	 * @param maxParallelism
+	 *            同时执行的最大线程数量，数据源数量超过此值时，多个数据源在同一个线程中按顺序执行。0表示不限制
+	 * @return 与items顺序相同的执行结果
+	 * @throws SQLException
+	 */
+	public <T> List<T> invokeByDataSource(final List<ShardStatement> items,
+	        final ShardTask<ShardStatement, T> task, int maxParallelism)
+	        throws SQLException {
+		Map<String, List<Integer>> groupMap = new LinkedHashMap<String, List<Integer>>();
+		List<Integer> group;
+		for (int i = 0; i < items.size(); i++) {
+			group = groupMap.get(items.get(i).getConnectionKey());
+			if (group == null) {
+				group = new ArrayList<Integer>(2);
+				groupMap.put(items.get(i).getConnectionKey(), group);
+			}
+			group.add(i);
+		}
+		if (groupMap.size() == items.size()
+		        && (maxParallelism <= 0 || items.size() <= maxParallelism)) {
+			return this.invokeAll(items, task);
+		}
+		List<List<Integer>> lanes = new ArrayList<List<Integer>>(
+		        groupMap.values());
+		if (maxParallelism > 0 && lanes.size() > maxParallelism) {
+			List<List<Integer>> merged = new ArrayList<List<Integer>>(
+			        maxParallelism);
+			for (int i = 0; i < lanes.size(); i++) {
+				if (i < maxParallelism) {
+					merged.add(new ArrayList<Integer>(lanes.get(i)));
+				}
+				else {
+					merged.get(i % maxParallelism).addAll(lanes.get(i));
+				}
+			}
+			lanes = merged;
+		}
+		final Object[] results = new Object[items.size()];
+		final Map<Integer, SQLException> itemFailures = new TreeMap<Integer, SQLException>();
+		// 每个线程正在执行的语句，取消时只取消正在执行的语句，之后的语句不再执行
+		final Map<List<Integer>, Integer> runningMap = new IdentityHashMap<List<Integer>, Integer>();
+		final List<List<Integer>> laneList = lanes;
+		CancelableShardTask<List<Integer>, Void> laneTask = new CancelableShardTask<List<Integer>, Void>() {
+
+			public Void execute(List<Integer> item) throws SQLException {
+				for (int idx : item) {
+					synchronized (runningMap) {
+						if (runningMap.get(item) != null
+						        && runningMap.get(item) < 0) {
+							throw new SQLException(
+							        "shard task cancelled before execution");
+						}
+						runningMap.put(item, idx);
+					}
+					try {
+						results[idx] = task.execute(items.get(idx));
+					}
+					catch (SQLException e) {
+						if (!partial) {
+							throw e;
+						}
+						synchronized (itemFailures) {
+							itemFailures.put(idx, toFailure(e));
+						}
+					}
+				}
+				return null;
+			}
+
+			public void cancel(List<Integer> item) throws SQLException {
+				Integer idx;
+				synchronized (runningMap) {
+					idx = runningMap.put(item, -1);
+				}
+				if (idx != null && idx >= 0
+				        && task instanceof CancelableShardTask) {
+					((CancelableShardTask<ShardStatement, T>) task)
+					        .cancel(items.get(idx));
+				}
+			}
+		};
+		try {
+			this.execute(laneList, laneTask);
+		}
+		catch (SQLException e) {
+			closeResults(results);
+			throw e;
+		}
+		if (this.partial) {
+			// 没有开始执行的语句使用所在线程的异常
+			for (Entry<Integer, SQLException> e : this.failures.entrySet()) {
+				for (int idx : laneList.get(e.getKey())) {
+					if (results[idx] == null && !itemFailures.containsKey(idx)) {
+						itemFailures.put(idx, e.getValue());
+					}
+				}
+			}
+			this.failures = itemFailures;
+			this.checkPartial(items.size());
+		}
+		List<T> list = new ArrayList<T>(results.length);
+		for (Object result : results) {
+			@SuppressWarnings("unchecked")
+			T t = (T) result;
+			list.add(t);
+		}
+		return list;
+	}
+
+	/**
+	 * 在当前线程中按照dsKey的顺序依次执行，有失败时停止执行并抛出异常
+	 * 
+	 * @param items
+	 *            需要执行的语句
+	 * @param task
+	 *            需要执行的操作
+	 * @return 与items顺序相同的执行结果
+	 * @throws SQLException
+	 */
+	public static <T> List<T> invokeInDsKeyOrder(
+	        final List<ShardStatement> items,
+	        ShardTask<ShardStatement, T> task) throws SQLException {
+		Integer[] order = new Integer[items.size()];
+		for (int i = 0; i < order.length; i++) {
+			order[i] = i;
+		}
+		Arrays.sort(order, new Comparator<Integer>() {
+
+			public int compare(Integer o1, Integer o2) {
+				return items.get(o1).getDsKey().compareTo(
+				        items.get(o2).getDsKey());
+			}
+		});
+		Object[] results = new Object[order.length];
+		try {
+			for (int idx : order) {
+				results[idx] = task.execute(items.get(idx));
+			}
+		}
+		catch (SQLException e) {
+			closeResults(results);
+			throw e;
+		}
+		List<T> list = new ArrayList<T>(results.length);
+		for (Object result : results) {
+			@SuppressWarnings("unchecked")
+			T t = (T) result;
+			list.add(t);
+		}
+		return list;
+	}
+
+	/**
+	 * 抛出异常时关闭已经得到的查询结果，调用者不会再得到这些结果
+	 */
+	private static void closeResults(Object[] values) {
+		for (Object value : values) {
+			if (value instanceof ResultSet) {
+				try {
+					((ResultSet) value).close();
+				}
+				catch (SQLException e) {
+					// 关闭失败时连接归还后释放
+				}
+			}
+		}
+	}
+
+	static SQLException chain(SQLException first, SQLException e) {
+		if (first == null) {
+			return e;
+		}
+		if (e == null) {
+			return first;
+		}
+		first.setNextException(e);
+		return first;
+	}
+
+	static SQLException toSQLException(Throwable e) {
+		if (e instanceof SQLException) {
+			return (SQLException) e;
+		}
+		if (e instanceof RuntimeException && e.getCause() instanceof SQLException) {
+			return (SQLException) e.getCause();
+		}
+		return new SQLException(e.getMessage(), e);
+	}
+}
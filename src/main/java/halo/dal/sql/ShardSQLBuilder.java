@@ -0,0 +1,218 @@
+package halo.dal.sql;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 一条sql拆分为多条sql时，改写sql中的参数
+ */
+public class ShardSQLBuilder {
+
+	private ShardSQLBuilder() {
+	}
+
+	/**
+	 * 获得sql中所有参数(?)的位置，忽略字符串中的?
+	 * 
+	 * @param sql
+	 * @return 每个参数在sql中的位置
+	 */
+	public static int[] findPlaceholders(String sql) {
+		int count = 0;
+		int[] positions = new int[8];
+		boolean quoted = false;
+		char c;
+		for (int i = 0; i < sql.length(); i++) {
+			c = sql.charAt(i);
+			if (c == '\'') {
+				quoted = !quoted;
+			}
+			else if (c == '?' && !quoted) {
+				if (count == positions.length) {
+					int[] tmp = new int[count * 2];
+					System.arraycopy(positions, 0, tmp, 0, count);
+					positions = tmp;
+				}
+				positions[count++] = i;
+			}
+		}
+		int[] result = new int[count];
+		System.arraycopy(positions, 0, result, 0, count);
+		return result;
+	}
+
+	/**
+	 * 改写 in (?,?,...) 中参数的数量
+	 * 
+	 * @param sql
+	 * @param placeholders
+	 *            {@link #findPlaceholders(String)}的结果
+	 * @param fromIndex
+	 *            in中第一个参数的位置，从1开始
+	 * @param paramCount
+	 *            in中原有的参数数量
+	 * @param newParamCount
+	 *            改写后in中的参数数量
+	 * @return 改写后的sql
+	 */
+	public static String rewriteInList(String sql, int[] placeholders,
+	        int fromIndex, int paramCount, int newParamCount) {
+		int begin = placeholders[fromIndex - 1];
+		int end = placeholders[fromIndex + paramCount - 2] + 1;
+		StringBuilder sb = new StringBuilder(sql.length());
+		sb.append(sql, 0, begin);
+		appendPlaceholders(sb, newParamCount);
+		sb.append(sql, end, sql.length());
+		return sb.toString();
+	}
+
+	/**
+	 * 获得 insert ... values (?,?),(?,?) 中values部分结束的位置，之后可以有 on duplicate key update
+	 * 等其他带参数的sql
+	 * 
+	 * @param sql
+	 * @param placeholders
+	 *            {@link #findPlaceholders(String)}的结果
+	 * @param rowCount
+	 *            values中的行数
+	 * @return 最后一行的)之后的位置
+	 */
+	public static int findInsertValuesEnd(String sql, int[] placeholders,
+	        int rowCount) {
+		int depth = 0;
+		int rows = 0;
+		boolean quoted = false;
+		char c;
+		for (int i = sql.lastIndexOf('(', placeholders[0]); i < sql.length(); i++) {
+			c = sql.charAt(i);
+			if (c == '\'') {
+				quoted = !quoted;
+			}
+			else if (quoted) {
+				continue;
+			}
+			else if (c == '(') {
+				depth++;
+			}
+			else if (c == ')' && --depth == 0 && ++rows == rowCount) {
+				return i + 1;
+			}
+		}
+		return sql.length();
+	}
+
+	/**
+	 * 改写 insert ... values (?,?),(?,?) 中的行数，values中只能是参数
+	 * 
+	 * @param sql
+	 * @param placeholders
+	 *            {@link #findPlaceholders(String)}的结果
+	 * @param valuesEnd
+	 *            {@link #findInsertValuesEnd(String, int[], int)}的结果
+	 * @param rowParamCount
+	 *            每行参数的数量
+	 * @param newRowCount
+	 *            改写后的行数
+	 * @return 改写后的sql
+	 */
+	public static String rewriteInsertRows(String sql, int[] placeholders,
+	        int valuesEnd, int rowParamCount, int newRowCount) {
+		int begin = sql.lastIndexOf('(', placeholders[0]);
+		int end = valuesEnd;
+		StringBuilder sb = new StringBuilder(begin + newRowCount
+		        * (rowParamCount * 2 + 2) + sql.length() - end);
+		sb.append(sql, 0, begin);
+		for (int i = 0; i < newRowCount; i++) {
+			if (i > 0) {
+				sb.append(',');
+			}
+			sb.append('(');
+			appendPlaceholders(sb, rowParamCount);
+			sb.append(')');
+		}
+		sb.append(sql, end, sql.length());
+		return sb.toString();
+	}
+
+	/**
+	 * 把sql拆分为小写的单词与符号，跳过注释，字符串与`包含的名称只保留引号作为一个符号
+	 * 
+	 * @param sql
+	 * @return 单词与符号
+	 */
+	static List<String> tokenize(String sql) {
+		List<String> tokens = new ArrayList<String>();
+		int len = sql.length();
+		int i = 0;
+		char c;
+		while (i < len) {
+			c = sql.charAt(i);
+			if (c == '\'' || c == '"' || c == '`') {
+				tokens.add(String.valueOf(c));
+				i = skipQuoted(sql, i, c);
+			}
+			else if (c == '/' && i + 1 < len && sql.charAt(i + 1) == '*') {
+				int end = sql.indexOf("*/", i + 2);
+				i = end < 0 ? len : end + 2;
+			}
+			else if (c == '#' || (c == '-' && sql.startsWith("--", i))) {
+				int end = sql.indexOf('\n', i);
+				i = end < 0 ? len : end + 1;
+			}
+			else if (isWordChar(c)) {
+				int start = i;
+				while (i < len && isWordChar(sql.charAt(i))) {
+					i++;
+				}
+				tokens.add(sql.substring(start, i).toLowerCase());
+			}
+			else {
+				if (!Character.isWhitespace(c)) {
+					tokens.add(String.valueOf(c));
+				}
+				i++;
+			}
+		}
+		return tokens;
+	}
+
+	private static boolean isWordChar(char c) {
+		return Character.isLetterOrDigit(c) || c == '_';
+	}
+
+	/**
+	 * @return 引号结束后的位置
+	 */
+	private static int skipQuoted(String sql, int start, char quote) {
+		int len = sql.length();
+		int i = start + 1;
+		char c;
+		while (i < len) {
+			c = sql.charAt(i);
+			if (c == '\\' && quote != '`') {
+				i += 2;
+			}
+			else if (c == quote) {
+				if (i + 1 < len && sql.charAt(i + 1) == quote) {
+					i += 2;
+				}
+				else {
+					return i + 1;
+				}
+			}
+			else {
+				i++;
+			}
+		}
+		return len;
+	}
+
+	static void appendPlaceholders(StringBuilder sb, int count) {
+		for (int i = 0; i < count; i++) {
+			if (i > 0) {
+				sb.append(',');
+			}
+			sb.append('?');
+		}
+	}
+}
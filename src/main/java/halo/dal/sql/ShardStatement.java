@@ -0,0 +1,100 @@
+package halo.dal.sql;
+
+import java.sql.PreparedStatement;
+
+/**
+ * 一条逻辑sql在某个数据源上执行的真实语句。当一条sql需要在多个数据源上执行时，每个数据源对应一个ShardStatement
+ */
+public class ShardStatement {
+
+	/**
+	 * 数据源key
+	 */
+	private final String dsKey;
+
+	/**
+	 * 在此数据源上执行的sql
+	 */
+	private final String sql;
+
+	/**
+	 * 真实的PreparedStatement
+	 */
+	private PreparedStatement ps;
+
+	/**
+	 * 此语句使用的参数在原始参数中的位置，为null时使用全部参数
+	 */
+	private int[] parameterIndexes;
+
+	private int updateCount = -1;
+
+	/**
+	 * 使用的真实Connection的key，多个数据源共用一个物理服务器的连接时为服务器的key
+	 */
+	private String connectionKey;
+
+	/**
+	 * 是否使用读库的Connection
+	 */
+	private boolean replica;
+
+	public ShardStatement(String dsKey, String sql) {
+		this.dsKey = dsKey;
+		this.sql = sql;
+	}
+
+	public String getDsKey() {
+		return dsKey;
+	}
+
+	/**
+	 * @return 没有设置时返回dsKey
+	 */
+	public String getConnectionKey() {
+		if (connectionKey == null) {
+			return dsKey;
+		}
+		return connectionKey;
+	}
+
+	public void setConnectionKey(String connectionKey) {
+		this.connectionKey = connectionKey;
+	}
+
+	public boolean isReplica() {
+		return replica;
+	}
+
+	public void setReplica(boolean replica) {
+		this.replica = replica;
+	}
+
+	public String getSql() {
+		return sql;
+	}
+
+	public PreparedStatement getPs() {
+		return ps;
+	}
+
+	public void setPs(PreparedStatement ps) {
+		this.ps = ps;
+	}
+
+	public int[] getParameterIndexes() {
+		return parameterIndexes;
+	}
+
+	public void setParameterIndexes(int[] parameterIndexes) {
+		this.parameterIndexes = parameterIndexes;
+	}
+
+	public int getUpdateCount() {
+		return updateCount;
+	}
+
+	public void setUpdateCount(int updateCount) {
+		this.updateCount = updateCount;
+	}
+}
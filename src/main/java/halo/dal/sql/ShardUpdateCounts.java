@@ -0,0 +1,73 @@
+package halo.dal.sql;
+
+import java.util.List;
+
+/**
+ * sql在多个数据源或表上执行时，每条sql的更新数量。通过
+ * {@link java.sql.PreparedStatement#unwrap(Class)} 获得
+ */
+public class ShardUpdateCounts {
+
+	private final String[] dsKeys;
+
+	private final String[] sqls;
+
+	private final int[] updateCounts;
+
+	private final int total;
+
+	ShardUpdateCounts(List<ShardStatement> shardStatements, int total) {
+		int size = shardStatements.size();
+		this.dsKeys = new String[size];
+		this.sqls = new String[size];
+		this.updateCounts = new int[size];
+		ShardStatement shardStatement;
+		for (int i = 0; i < size; i++) {
+			shardStatement = shardStatements.get(i);
+			this.dsKeys[i] = shardStatement.getDsKey();
+			this.sqls[i] = shardStatement.getSql();
+			this.updateCounts[i] = shardStatement.getUpdateCount();
+		}
+		this.total = total;
+	}
+
+	/**
+	 * @return 执行的sql数量
+	 */
+	public int size() {
+		return updateCounts.length;
+	}
+
+	public String getDsKey(int index) {
+		return dsKeys[index];
+	}
+
+	/**
+	 * @param index
+	 * @return 在数据源上执行的真实sql
+	 */
+	public String getSql(int index) {
+		return sqls[index];
+	}
+
+	public int getUpdateCount(int index) {
+		return updateCounts[index];
+	}
+
+	/**
+	 * @return executeUpdate() 返回的更新数量
+	 */
+	public int getTotal() {
+		return total;
+	}
+
+	@Override
+	public String toString() {
+		StringBuilder sb = new StringBuilder();
+		for (int i = 0; i < updateCounts.length; i++) {
+			sb.append("[ ").append(dsKeys[i]).append(" ").append(sqls[i])
+			        .append(" = ").append(updateCounts[i]).append(" ]");
+		}
+		return sb.toString();
+	}
+}
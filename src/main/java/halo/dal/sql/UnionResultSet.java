@@ -0,0 +1,248 @@
+package halo.dal.sql;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.SQLWarning;
+import java.sql.Statement;
+import java.util.List;
+
+/**
+ * 将多个数据源返回的ResultSet按顺序连接为一个ResultSet，只支持向前遍历。<br>
+ * 各个ResultSet之间不进行排序与合并，order by 只在每个ResultSet内部有效。<br>
+ * 指定order时，第n行从第order[n]个ResultSet中读取，用于按照原始行的顺序合并拆分后的insert返回的自增主键
+ */
+public class UnionResultSet extends ResultSetWrapper {
+
+	private final List<ResultSet> resultSets;
+
+	private final Statement statement;
+
+	/**
+	 * 每一行所在的ResultSet的位置，为null时按顺序连接
+	 */
+	private final int[] order;
+
+	private int index;
+
+	private int row;
+
+	private boolean afterLast;
+
+	private boolean closed;
+
+	/**
+	 * 允许部分结果时没有返回结果的数据源
+	 */
+	private PartialResult partialResult;
+
+	private SQLWarning partialWarnings;
+
+	/**
+	 * @param resultSets
+	 *            至少包含一个ResultSet
+	 * @param statement
+	 *            创建此ResultSet的Statement
+	 */
+	public UnionResultSet(List<ResultSet> resultSets, Statement statement) {
+		this(resultSets, null, statement);
+	}
+
+	/**
+	 * @param resultSets
+	 *            至少包含一个ResultSet
+	 * @param order
+	 *            每一行所在的ResultSet的位置，为null时按顺序连接
+	 * @param statement
+	 *            创建此ResultSet的Statement
+	 */
+	public UnionResultSet(List<ResultSet> resultSets, int[] order,
+	        Statement statement) {
+		super(resultSets.get(0));
+		this.resultSets = resultSets;
+		this.order = order;
+		this.statement = statement;
+	}
+
+	public List<ResultSet> getResultSets() {
+		return resultSets;
+	}
+
+	void setPartialResult(PartialResult partialResult) {
+		this.partialResult = partialResult;
+		this.partialWarnings = partialResult.toWarnings();
+	}
+
+	/**
+	 * 允许部分结果时，没有返回结果的数据源作为SQLWarning
+	 */
+	@Override
+	public SQLWarning getWarnings() throws SQLException {
+		if (this.partialWarnings != null) {
+			return this.partialWarnings;
+		}
+		return super.getWarnings();
+	}
+
+	@Override
+	public void clearWarnings() throws SQLException {
+		this.partialWarnings = null;
+		super.clearWarnings();
+	}
+
+	/**
+	 * 允许部分结果时，iface为 {@link PartialResult} 返回没有返回结果的数据源
+	 */
+	@Override
+	public boolean isWrapperFor(Class<?> iface) throws SQLException {
+		if (iface == PartialResult.class) {
+			return this.partialResult != null;
+		}
+		return super.isWrapperFor(iface);
+	}
+
+	@Override
+	public <T> T unwrap(Class<T> iface) throws SQLException {
+		if (iface == PartialResult.class) {
+			if (this.partialResult == null) {
+				throw new SQLException("partial result is not enabled");
+			}
+			return iface.cast(this.partialResult);
+		}
+		return super.unwrap(iface);
+	}
+
+	@Override
+	public boolean next() throws SQLException {
+		if (this.afterLast) {
+			return false;
+		}
+		if (this.order != null) {
+			if (this.row >= this.order.length) {
+				this.afterLast = true;
+				return false;
+			}
+			this.index = this.order[this.row];
+			rs = this.resultSets.get(this.index);
+			if (!rs.next()) {
+				throw new SQLException("ResultSet at index " + this.index
+				        + " has no row for row " + (this.row + 1));
+			}
+			this.row++;
+			return true;
+		}
+		while (true) {
+			if (rs.next()) {
+				this.row++;
+				return true;
+			}
+			if (this.index + 1 >= this.resultSets.size()) {
+				this.afterLast = true;
+				return false;
+			}
+			this.index++;
+			rs = this.resultSets.get(this.index);
+		}
+	}
+
+	@Override
+	public void close() throws SQLException {
+		if (this.closed) {
+			return;
+		}
+		this.closed = true;
+		SQLException first = null;
+		for (ResultSet resultSet : this.resultSets) {
+			try {
+				resultSet.close();
+			}
+			catch (SQLException e) {
+				first = ShardExecutor.chain(first, e);
+			}
+		}
+		if (first != null) {
+			throw first;
+		}
+	}
+
+	@Override
+	public boolean isClosed() throws SQLException {
+		return this.closed;
+	}
+
+	@Override
+	public Statement getStatement() throws SQLException {
+		return this.statement;
+	}
+
+	@Override
+	public int getRow() throws SQLException {
+		if (this.afterLast) {
+			return 0;
+		}
+		return this.row;
+	}
+
+	@Override
+	public int getType() throws SQLException {
+		return ResultSet.TYPE_FORWARD_ONLY;
+	}
+
+	@Override
+	public boolean isBeforeFirst() throws SQLException {
+		return this.row == 0 && !this.afterLast;
+	}
+
+	@Override
+	public boolean isAfterLast() throws SQLException {
+		return this.afterLast && this.row > 0;
+	}
+
+	@Override
+	public boolean isFirst() throws SQLException {
+		return this.row == 1 && !this.afterLast;
+	}
+
+	@Override
+	public boolean isLast() throws SQLException {
+		throw forwardOnly();
+	}
+
+	@Override
+	public boolean absolute(int row) throws SQLException {
+		throw forwardOnly();
+	}
+
+	@Override
+	public boolean relative(int rows) throws SQLException {
+		throw forwardOnly();
+	}
+
+	@Override
+	public boolean previous() throws SQLException {
+		throw forwardOnly();
+	}
+
+	@Override
+	public boolean first() throws SQLException {
+		throw forwardOnly();
+	}
+
+	@Override
+	public boolean last() throws SQLException {
+		throw forwardOnly();
+	}
+
+	@Override
+	public void beforeFirst() throws SQLException {
+		throw forwardOnly();
+	}
+
+	@Override
+	public void afterLast() throws SQLException {
+		throw forwardOnly();
+	}
+
+	private static SQLException forwardOnly() {
+		return new SQLException("UnionResultSet only supports next()");
+	}
+}
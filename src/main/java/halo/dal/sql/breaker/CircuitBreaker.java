@@ -0,0 +1,155 @@
+package halo.dal.sql.breaker;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 一个数据源的熔断器。关闭状态下统计最近一个窗口内的调用次数、失败次数与慢调用次数，失败率或慢调用率超过阈值时打开；
+ * 打开状态下所有调用直接失败；打开超过openInterval后进入半开状态，只允许一个探测调用，探测成功时关闭，失败时重新打开。<br>
+ * 状态与计数都使用原子变量，不加锁
+ */
+public class CircuitBreaker {
+
+	public static final int CLOSED = 0;
+
+	public static final int OPEN = 1;
+
+	public static final int HALF_OPEN = 2;
+
+	private final String dsKey;
+
+	private final CircuitBreakers config;
+
+	private final AtomicInteger state = new AtomicInteger(CLOSED);
+
+	/**
+	 * 最近一次打开或者允许探测调用的时间
+	 */
+	private final AtomicLong stateTime = new AtomicLong();
+
+	private final AtomicLong windowStart = new AtomicLong(
+	        System.currentTimeMillis());
+
+	private final AtomicInteger calls = new AtomicInteger();
+
+	private final AtomicInteger failures = new AtomicInteger();
+
+	private final AtomicInteger slowCalls = new AtomicInteger();
+
+	CircuitBreaker(String dsKey, CircuitBreakers config) {
+		this.dsKey = dsKey;
+		this.config = config;
+	}
+
+	public String getDsKey() {
+		return dsKey;
+	}
+
+	/**
+	 * @return {@link #CLOSED}, {@link #OPEN}, {@link #HALF_OPEN}
+	 */
+	public int getState() {
+		return state.get();
+	}
+
+	/**
+	 * 调用前检查是否允许访问数据源
+	 * 
+	 * @return false:熔断器打开，需要直接失败
+	 */
+	public boolean tryAcquire() {
+		int current = state.get();
+		if (current == CLOSED) {
+			return true;
+		}
+		long now = System.currentTimeMillis();
+		long time = stateTime.get();
+		if (now - time < config.getOpenInterval()) {
+			return false;
+		}
+		// 打开超过openInterval，或者上一个探测调用没有返回结果，允许一个探测调用
+		if (!stateTime.compareAndSet(time, now)) {
+			return false;
+		}
+		if (current == OPEN) {
+			state.compareAndSet(OPEN, HALF_OPEN);
+		}
+		return true;
+	}
+
+	/**
+	 * 记录一次调用的结果
+	 * 
+	 * @param elapsed
+	 *            耗时(毫秒)
+	 * @param failed
+	 *            是否是数据源不可用导致的失败
+	 */
+	public void record(long elapsed, boolean failed) {
+		long slowCallDuration = config.getSlowCallDuration();
+		boolean slow = slowCallDuration > 0 && elapsed >= slowCallDuration;
+		int current = state.get();
+		if (current == HALF_OPEN) {
+			if (failed || slow) {
+				this.open();
+			}
+			else if (state.compareAndSet(HALF_OPEN, CLOSED)) {
+				this.resetWindow(System.currentTimeMillis());
+			}
+			return;
+		}
+		if (current == OPEN) {
+			return;
+		}
+		long now = System.currentTimeMillis();
+		long start = windowStart.get();
+		if (now - start >= config.getWindowSize()
+		        && windowStart.compareAndSet(start, now)) {
+			calls.set(0);
+			failures.set(0);
+			slowCalls.set(0);
+		}
+		int c = calls.incrementAndGet();
+		int f = failed ? failures.incrementAndGet() : failures.get();
+		int s = slow ? slowCalls.incrementAndGet() : slowCalls.get();
+		if (c < config.getMinimumCalls()) {
+			return;
+		}
+		if ((failed && f >= c * config.getFailureRateThreshold())
+		        || (slow && s >= c * config.getSlowCallRateThreshold())) {
+			this.open();
+		}
+	}
+
+	private void open() {
+		int current = state.get();
+		if (current == OPEN) {
+			return;
+		}
+		stateTime.set(System.currentTimeMillis());
+		if (state.compareAndSet(current, OPEN)) {
+			config.onOpen(this);
+		}
+	}
+
+	private void resetWindow(long now) {
+		windowStart.set(now);
+		calls.set(0);
+		failures.set(0);
+		slowCalls.set(0);
+	}
+
+	/**
+	 * @return 当前窗口内的调用次数
+	 */
+	public int getCalls() {
+		return calls.get();
+	}
+
+	/**
+	 * @return 当前窗口内的失败次数
+	 */
+	public int getFailures() {
+		return failures.get();
+	}
+}
@@ -0,0 +1,186 @@
+package halo.dal.sql.breaker;
+
+import halo.dal.metrics.DALMetrics;
+
+import java.sql.SQLException;
+import java.sql.SQLNonTransientConnectionException;
+import java.sql.SQLTimeoutException;
+import java.sql.SQLTransientConnectionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * 每个数据源一个 {@link CircuitBreaker}，所有熔断器使用相同的配置。通过
+ * {@link halo.dal.sql.DALDataSource#setCircuitBreakers(CircuitBreakers)} 设置后，获取真实Connection与执行语句前检查熔断器，
+ * 熔断器打开时抛出 {@link CircuitOpenException}。<br>
+ * 只有连接异常与超时计为失败，sql错误、主键冲突等数据库可以正常返回的异常计为成功
+ */
+public class CircuitBreakers {
+
+	/**
+	 * 失败率阈值
+	 */
+	private double failureRateThreshold = 0.5;
+
+	/**
+	 * 耗时超过此值(毫秒)的调用为慢调用，小于等于0时不统计慢调用
+	 */
+	private long slowCallDuration = 0;
+
+	/**
+	 * 慢调用率阈值
+	 */
+	private double slowCallRateThreshold = 0.8;
+
+	/**
+	 * 窗口内的调用次数达到此值时才计算失败率与慢调用率
+	 */
+	private int minimumCalls = 20;
+
+	/**
+	 * 统计窗口的长度(毫秒)
+	 */
+	private long windowSize = 10000;
+
+	/**
+	 * 打开后经过此时间(毫秒)进入半开状态
+	 */
+	private long openInterval = 5000;
+
+	private volatile DALMetrics metrics = new DALMetrics();
+
+	private final ConcurrentMap<String, CircuitBreaker> breakerMap = new ConcurrentHashMap<String, CircuitBreaker>();
+
+	public void setFailureRateThreshold(double failureRateThreshold) {
+		this.failureRateThreshold = failureRateThreshold;
+	}
+
+	public double getFailureRateThreshold() {
+		return failureRateThreshold;
+	}
+
+	public void setSlowCallDuration(long slowCallDuration) {
+		this.slowCallDuration = slowCallDuration;
+	}
+
+	public long getSlowCallDuration() {
+		return slowCallDuration;
+	}
+
+	public void setSlowCallRateThreshold(double slowCallRateThreshold) {
+		this.slowCallRateThreshold = slowCallRateThreshold;
+	}
+
+	public double getSlowCallRateThreshold() {
+		return slowCallRateThreshold;
+	}
+
+	public void setMinimumCalls(int minimumCalls) {
+		this.minimumCalls = minimumCalls;
+	}
+
+	public int getMinimumCalls() {
+		return minimumCalls;
+	}
+
+	public void setWindowSize(long windowSize) {
+		this.windowSize = windowSize;
+	}
+
+	public long getWindowSize() {
+		return windowSize;
+	}
+
+	public void setOpenInterval(long openInterval) {
+		this.openInterval = openInterval;
+	}
+
+	public long getOpenInterval() {
+		return openInterval;
+	}
+
+	/**
+	 * 记录熔断器打开次数与拒绝次数的指标，由
+	 * {@link halo.dal.sql.DALDataSource#setCircuitBreakers(CircuitBreakers)} 设置为DALDataSource的指标
+	 * 
+	 * @param metrics
+	 */
+	public void setMetrics(DALMetrics metrics) {
+		this.metrics = metrics;
+	}
+
+	/**
+	 * @param dsKey
+	 * @return 不存在时创建
+	 */
+	public CircuitBreaker getBreaker(String dsKey) {
+		CircuitBreaker breaker = breakerMap.get(dsKey);
+		if (breaker == null) {
+			breaker = new CircuitBreaker(dsKey, this);
+			CircuitBreaker old = breakerMap.putIfAbsent(dsKey, breaker);
+			if (old != null) {
+				breaker = old;
+			}
+		}
+		return breaker;
+	}
+
+	/**
+	 * 访问数据源前调用
+	 * 
+	 * @param dsKey
+	 * @throws CircuitOpenException
+	 *             熔断器打开
+	 */
+	public void acquire(String dsKey) throws CircuitOpenException {
+		if (!this.getBreaker(dsKey).tryAcquire()) {
+			metrics.getCounter(DALMetrics.CIRCUIT_REJECTED, dsKey).inc();
+			throw new CircuitOpenException(dsKey);
+		}
+	}
+
+	/**
+	 * 访问数据源成功后调用
+	 * 
+	 * @param dsKey
+	 * @param elapsed
+	 *            耗时(毫秒)
+	 */
+	public void onSuccess(String dsKey, long elapsed) {
+		this.getBreaker(dsKey).record(elapsed, false);
+	}
+
+	/**
+	 * 访问数据源失败后调用
+	 * 
+	 * @param dsKey
+	 * @param elapsed
+	 *            耗时(毫秒)
+	 * @param e
+	 */
+	public void onError(String dsKey, long elapsed, SQLException e) {
+		this.getBreaker(dsKey).record(elapsed, isFailure(e));
+	}
+
+	void onOpen(CircuitBreaker breaker) {
+		metrics.getCounter(DALMetrics.CIRCUIT_OPEN, breaker.getDsKey()).inc();
+	}
+
+	/**
+	 * @return 是否是连接失败或超时，SQLState为08开头或者HYT00,HYT01
+	 */
+	public static boolean isFailure(SQLException e) {
+		if (e instanceof CircuitOpenException) {
+			return false;
+		}
+		if (e instanceof SQLTransientConnectionException
+		        || e instanceof SQLNonTransientConnectionException
+		        || e instanceof SQLTimeoutException) {
+			return true;
+		}
+		String state = e.getSQLState();
+		return state != null
+		        && (state.startsWith("08") || state.equals("HYT00") || state
+		                .equals("HYT01"));
+	}
+}
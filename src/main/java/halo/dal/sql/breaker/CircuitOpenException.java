@@ -0,0 +1,22 @@
+package halo.dal.sql.breaker;
+
+import java.sql.SQLTransientConnectionException;
+
+/**
+ * 数据源的熔断器打开时，不访问数据库，直接抛出此异常
+ */
+public class CircuitOpenException extends SQLTransientConnectionException {
+
+	private static final long serialVersionUID = 1L;
+
+	private final String dsKey;
+
+	public CircuitOpenException(String dsKey) {
+		super("circuit breaker of [ " + dsKey + " ] is open", "08001");
+		this.dsKey = dsKey;
+	}
+
+	public String getDsKey() {
+		return dsKey;
+	}
+}
@@ -0,0 +1,334 @@
+package halo.dal.sql.journal;
+
+import halo.dal.DALRunTimeException;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.zip.CRC32;
+
+/**
+ * 多数据源分步提交的日志。提交前记录事务需要提交的数据源，每个数据源提交后记录结果，全部完成后记录结束。<br>
+ * 日志写入内存映射文件，写入后即使进程崩溃也不会丢失，由后台线程每隔flushInterval毫秒统一刷盘，提交过程中不进行同步fsync。<br>
+ * 启动时扫描已有的日志，没有结束或者只有部分数据源提交成功的事务可以通过 {@link #getIncompleteCommits()}
+ * 获得，也可以使用 {@link CommitJournalRecovery} 查看。人工处理后调用 {@link #resolve(long)}
+ * 记录已处理，重启后不再报告。<br>
+ * 超过maxSegments的旧日志文件会被删除，但是从最早的未处理事务开始的日志文件会一直保留
+ */
+public class CommitJournal {
+
+	static final Charset UTF8 = Charset.forName("UTF-8");
+
+	static final byte TYPE_BEGIN = 1;
+
+	static final byte TYPE_SHARD_COMMITTED = 2;
+
+	static final byte TYPE_SHARD_FAILED = 3;
+
+	static final byte TYPE_END = 4;
+
+	static final byte TYPE_RESOLVED = 5;
+
+	static final String FILE_PREFIX = "dal-journal-";
+
+	static final String FILE_SUFFIX = ".log";
+
+	/**
+	 * 记录长度之后的固定部分: type(1) txId(8) time(8) crc(4)
+	 */
+	static final int RECORD_FIXED_SIZE = 21;
+
+	private String dir;
+
+	/**
+	 * 每个日志文件的大小
+	 */
+	private int segmentSize = 16 * 1024 * 1024;
+
+	/**
+	 * 保留的日志文件数量
+	 */
+	private int maxSegments = 8;
+
+	/**
+	 * 刷盘的间隔，毫秒
+	 */
+	private long flushInterval = 10;
+
+	private final AtomicLong txIdGenerator = new AtomicLong(
+	        System.currentTimeMillis() * 1000);
+
+	private final CRC32 crc32 = new CRC32();
+
+	private long segmentSeq;
+
+	private RandomAccessFile file;
+
+	private volatile MappedByteBuffer buffer;
+
+	private volatile boolean dirty;
+
+	private volatile boolean running;
+
+	private Thread flushThread;
+
+	private List<IncompleteCommit> incompleteCommits;
+
+	/**
+	 * 正在提交以及没有处理的事务，value为开始记录所在的日志文件序号，这些文件不能删除
+	 */
+	private final Map<Long, Long> unresolvedMap = new HashMap<Long, Long>();
+
+	/**
+	 * 正在提交并且有数据源提交失败的事务
+	 */
+	private final Set<Long> failedTxIds = new HashSet<Long>();
+
+	public void setDir(String dir) {
+		this.dir = dir;
+	}
+
+	public String getDir() {
+		return dir;
+	}
+
+	public void setSegmentSize(int segmentSize) {
+		this.segmentSize = segmentSize;
+	}
+
+	public void setMaxSegments(int maxSegments) {
+		this.maxSegments = maxSegments;
+	}
+
+	public void setFlushInterval(long flushInterval) {
+		this.flushInterval = flushInterval;
+	}
+
+	/**
+	 * 扫描已有的日志，创建新的日志文件，启动刷盘线程
+	 *
+	 * @throws IOException
+	 */
+	public synchronized void init() throws IOException {
+		File dirFile = new File(this.dir);
+		if (!dirFile.exists() && !dirFile.mkdirs()) {
+			throw new IOException("can not create journal dir " + this.dir);
+		}
+		this.incompleteCommits = new CopyOnWriteArrayList<IncompleteCommit>(
+		        CommitJournalRecovery.scan(dirFile));
+		this.unresolvedMap.clear();
+		this.failedTxIds.clear();
+		for (IncompleteCommit incompleteCommit : this.incompleteCommits) {
+			this.unresolvedMap.put(incompleteCommit.getTxId(),
+			        incompleteCommit.getSegmentSeq());
+		}
+		File[] segments = CommitJournalRecovery.listSegments(dirFile);
+		if (segments.length > 0) {
+			this.segmentSeq = CommitJournalRecovery
+			        .getSegmentSeq(segments[segments.length - 1]);
+		}
+		this.openNextSegment();
+		this.running = true;
+		this.flushThread = new Thread(new Runnable() {
+
+			public void run() {
+				while (running) {
+					try {
+						Thread.sleep(flushInterval);
+					}
+					catch (InterruptedException e) {
+						break;
+					}
+					flush();
+				}
+			}
+		}, "halo-dal-journal-flush");
+		this.flushThread.setDaemon(true);
+		this.flushThread.start();
+	}
+
+	/**
+	 * 停止刷盘线程，刷盘并关闭日志文件
+	 *
+	 * @throws IOException
+	 */
+	public synchronized void destroy() throws IOException {
+		this.running = false;
+		if (this.flushThread != null) {
+			this.flushThread.interrupt();
+			this.flushThread = null;
+		}
+		if (this.buffer != null) {
+			this.buffer.force();
+			this.buffer = null;
+		}
+		if (this.file != null) {
+			this.file.close();
+			this.file = null;
+		}
+	}
+
+	/**
+	 * @return 启动时扫描到的没有结束或者只有部分数据源提交成功的事务，不包括之后调用了
+	 *         {@link #resolve(long)} 的事务
+	 */
+	public List<IncompleteCommit> getIncompleteCommits() {
+		return incompleteCommits;
+	}
+
+	/**
+	 * 记录开始提交
+	 *
+	 * @param dsKeys
+	 *            需要提交的数据源
+	 * @return 事务id
+	 */
+	public long begin(Collection<String> dsKeys) {
+		long txId = this.txIdGenerator.incrementAndGet();
+		StringBuilder sb = new StringBuilder();
+		for (String dsKey : dsKeys) {
+			if (sb.length() > 0) {
+				sb.append(',');
+			}
+			sb.append(dsKey);
+		}
+		synchronized (this) {
+			this.append(TYPE_BEGIN, txId, sb.toString());
+			this.unresolvedMap.put(txId, this.segmentSeq);
+		}
+		return txId;
+	}
+
+	public void shardCommitted(long txId, String dsKey) {
+		this.append(TYPE_SHARD_COMMITTED, txId, dsKey);
+	}
+
+	public synchronized void shardFailed(long txId, String dsKey) {
+		this.append(TYPE_SHARD_FAILED, txId, dsKey);
+		this.failedTxIds.add(txId);
+	}
+
+	/**
+	 * 记录提交结束，无论是否全部成功。有数据源提交失败的事务需要调用 {@link #resolve(long)}
+	 *
+	 * @param txId
+	 */
+	public synchronized void end(long txId) {
+		this.append(TYPE_END, txId, "");
+		if (!this.failedTxIds.remove(txId)) {
+			this.unresolvedMap.remove(txId);
+		}
+	}
+
+	/**
+	 * 记录没有完成的事务已经人工处理，之后扫描日志时不再报告，开始记录所在的日志文件也可以删除
+	 *
+	 * @param txId
+	 */
+	public synchronized void resolve(long txId) {
+		this.append(TYPE_RESOLVED, txId, "");
+		this.unresolvedMap.remove(txId);
+		for (IncompleteCommit incompleteCommit : this.incompleteCommits) {
+			if (incompleteCommit.getTxId() == txId) {
+				this.incompleteCommits.remove(incompleteCommit);
+			}
+		}
+	}
+
+	/**
+	 * 把已经写入的日志刷到磁盘
+	 */
+	public void flush() {
+		MappedByteBuffer buf = this.buffer;
+		if (this.dirty && buf != null) {
+			this.dirty = false;
+			buf.force();
+		}
+	}
+
+	private synchronized void append(byte type, long txId, String payload) {
+		if (this.buffer == null) {
+			throw new DALRunTimeException("commit journal is not initialized");
+		}
+		byte[] data = payload.getBytes(UTF8);
+		int length = RECORD_FIXED_SIZE + data.length;
+		if (length + 4 > this.segmentSize) {
+			throw new DALRunTimeException("journal record is too large: "
+			        + length);
+		}
+		// 剩余空间需要保留4个字节的0作为结束标记
+		if (this.buffer.remaining() < length + 8) {
+			try {
+				this.openNextSegment();
+			}
+			catch (IOException e) {
+				throw new DALRunTimeException(e);
+			}
+		}
+		long time = System.currentTimeMillis();
+		this.crc32.reset();
+		this.crc32.update(type);
+		updateLong(this.crc32, txId);
+		updateLong(this.crc32, time);
+		this.crc32.update(data);
+		this.buffer.putInt(length);
+		this.buffer.put(type);
+		this.buffer.putLong(txId);
+		this.buffer.putLong(time);
+		this.buffer.put(data);
+		this.buffer.putInt((int) this.crc32.getValue());
+		this.dirty = true;
+	}
+
+	static void updateLong(CRC32 crc32, long value) {
+		for (int i = 56; i >= 0; i -= 8) {
+			crc32.update((int) (value >>> i));
+		}
+	}
+
+	private void openNextSegment() throws IOException {
+		if (this.buffer != null) {
+			this.buffer.force();
+		}
+		if (this.file != null) {
+			this.file.close();
+		}
+		this.segmentSeq++;
+		File segment = new File(this.dir, CommitJournalRecovery
+		        .getSegmentName(this.segmentSeq));
+		this.file = new RandomAccessFile(segment, "rw");
+		this.file.setLength(this.segmentSize);
+		this.buffer = this.file.getChannel().map(FileChannel.MapMode.READ_WRITE,
+		        0, this.segmentSize);
+		this.deleteOldSegments();
+	}
+
+	/**
+	 * 从最旧的日志文件开始删除，遇到包含未处理事务开始记录的文件时停止，之后的文件中可能有该事务的提交结果
+	 */
+	private void deleteOldSegments() {
+		long minUnresolvedSeq = Long.MAX_VALUE;
+		for (long seq : this.unresolvedMap.values()) {
+			minUnresolvedSeq = Math.min(minUnresolvedSeq, seq);
+		}
+		File[] segments = CommitJournalRecovery.listSegments(new File(
+		        this.dir));
+		for (int i = 0; i < segments.length - this.maxSegments; i++) {
+			if (CommitJournalRecovery.getSegmentSeq(segments[i]) >= minUnresolvedSeq) {
+				break;
+			}
+			segments[i].delete();
+		}
+	}
+}
@@ -0,0 +1,167 @@
+package halo.dal.sql.journal;
+
+import java.io.File;
+import java.io.FileFilter;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.CRC32;
+
+/**
+ * 扫描 {@link CommitJournal} 的日志，找出没有结束或者只有部分数据源提交成功的事务。<br>
+ * 日志中不包含sql与数据，只能报告每个数据源的提交状态，需要根据报告人工处理，处理后调用
+ * {@link CommitJournal#resolve(long)}，之后不再报告。<br>
+ * 命令行使用: java halo.dal.sql.journal.CommitJournalRecovery 日志目录
+ */
+public class CommitJournalRecovery {
+
+	private CommitJournalRecovery() {
+	}
+
+	public static void main(String[] args) throws IOException {
+		if (args.length != 1) {
+			System.out.println("usage: java "
+			        + CommitJournalRecovery.class.getName() + " <journal dir>");
+			return;
+		}
+		List<IncompleteCommit> list = scan(new File(args[0]));
+		if (list.isEmpty()) {
+			System.out.println("no incomplete commit");
+			return;
+		}
+		System.out.println(list.size() + " incomplete commit(s):");
+		for (IncompleteCommit incompleteCommit : list) {
+			System.out.println(incompleteCommit);
+		}
+	}
+
+	/**
+	 * 按顺序扫描目录中的所有日志文件
+	 *
+	 * @param dir
+	 * @return 没有结束或者只有部分数据源提交成功的事务，按照开始的顺序
+	 * @throws IOException
+	 */
+	public static List<IncompleteCommit> scan(File dir) throws IOException {
+		Map<Long, IncompleteCommit> map = new LinkedHashMap<Long, IncompleteCommit>();
+		for (File segment : listSegments(dir)) {
+			scanSegment(segment, map);
+		}
+		List<IncompleteCommit> list = new ArrayList<IncompleteCommit>();
+		for (IncompleteCommit incompleteCommit : map.values()) {
+			if (!incompleteCommit.isEnded() || !incompleteCommit.isComplete()) {
+				list.add(incompleteCommit);
+			}
+		}
+		return list;
+	}
+
+	private static void scanSegment(File segment,
+	        Map<Long, IncompleteCommit> map) throws IOException {
+		long segmentSeq = getSegmentSeq(segment);
+		RandomAccessFile file = new RandomAccessFile(segment, "r");
+		try {
+			ByteBuffer buffer = file.getChannel().map(
+			        FileChannel.MapMode.READ_ONLY, 0, file.length());
+			CRC32 crc32 = new CRC32();
+			int length;
+			byte type;
+			long txId;
+			long time;
+			byte[] data;
+			IncompleteCommit commit;
+			while (buffer.remaining() >= 4) {
+				length = buffer.getInt();
+				// 0为结束标记，长度错误表示写入未完成
+				if (length < CommitJournal.RECORD_FIXED_SIZE
+				        || length > buffer.remaining()) {
+					break;
+				}
+				type = buffer.get();
+				txId = buffer.getLong();
+				time = buffer.getLong();
+				data = new byte[length - CommitJournal.RECORD_FIXED_SIZE];
+				buffer.get(data);
+				crc32.reset();
+				crc32.update(type);
+				CommitJournal.updateLong(crc32, txId);
+				CommitJournal.updateLong(crc32, time);
+				crc32.update(data);
+				if (buffer.getInt() != (int) crc32.getValue()) {
+					break;
+				}
+				String payload = new String(data, CommitJournal.UTF8);
+				if (type == CommitJournal.TYPE_BEGIN) {
+					map.put(txId, new IncompleteCommit(txId, time, Arrays
+					        .asList(payload.split(",")), segmentSeq));
+					continue;
+				}
+				// 已经人工处理过的事务
+				if (type == CommitJournal.TYPE_RESOLVED) {
+					map.remove(txId);
+					continue;
+				}
+				commit = map.get(txId);
+				// 开始记录在已经删除的日志文件中
+				if (commit == null) {
+					continue;
+				}
+				if (type == CommitJournal.TYPE_SHARD_COMMITTED) {
+					commit.getCommittedDsKeys().add(payload);
+				}
+				else if (type == CommitJournal.TYPE_SHARD_FAILED) {
+					commit.getFailedDsKeys().add(payload);
+				}
+				else if (type == CommitJournal.TYPE_END) {
+					commit.setEnded(true);
+					if (commit.isComplete()) {
+						map.remove(txId);
+					}
+				}
+			}
+		}
+		finally {
+			file.close();
+		}
+	}
+
+	static File[] listSegments(File dir) {
+		File[] files = dir.listFiles(new FileFilter() {
+
+			public boolean accept(File file) {
+				return file.isFile()
+				        && file.getName().startsWith(CommitJournal.FILE_PREFIX)
+				        && file.getName().endsWith(CommitJournal.FILE_SUFFIX);
+			}
+		});
+		if (files == null) {
+			return new File[0];
+		}
+		Arrays.sort(files, new Comparator<File>() {
+
+			public int compare(File o1, File o2) {
+				long seq1 = getSegmentSeq(o1);
+				long seq2 = getSegmentSeq(o2);
+				return seq1 < seq2 ? -1 : (seq1 == seq2 ? 0 : 1);
+			}
+		});
+		return files;
+	}
+
+	static String getSegmentName(long seq) {
+		return CommitJournal.FILE_PREFIX + seq + CommitJournal.FILE_SUFFIX;
+	}
+
+	static long getSegmentSeq(File segment) {
+		String name = segment.getName();
+		return Long.parseLong(name.substring(CommitJournal.FILE_PREFIX
+		        .length(), name.length() - CommitJournal.FILE_SUFFIX.length()));
+	}
+}
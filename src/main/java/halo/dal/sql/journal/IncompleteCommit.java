@@ -0,0 +1,104 @@
+package halo.dal.sql.journal;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 日志中没有结束，或者只有部分数据源提交成功，并且还没有通过 {@link CommitJournal#resolve(long)} 标记为已处理的事务
+ */
+public class IncompleteCommit {
+
+	private final long txId;
+
+	private final long beginTime;
+
+	private final List<String> dsKeys;
+
+	private final List<String> committedDsKeys = new ArrayList<String>(2);
+
+	private final List<String> failedDsKeys = new ArrayList<String>(2);
+
+	private boolean ended;
+
+	/**
+	 * 开始记录所在的日志文件序号
+	 */
+	private final long segmentSeq;
+
+	IncompleteCommit(long txId, long beginTime, List<String> dsKeys,
+	        long segmentSeq) {
+		this.txId = txId;
+		this.beginTime = beginTime;
+		this.dsKeys = dsKeys;
+		this.segmentSeq = segmentSeq;
+	}
+
+	public long getTxId() {
+		return txId;
+	}
+
+	public long getBeginTime() {
+		return beginTime;
+	}
+
+	/**
+	 * @return 需要提交的数据源
+	 */
+	public List<String> getDsKeys() {
+		return dsKeys;
+	}
+
+	/**
+	 * @return 已经提交成功的数据源
+	 */
+	public List<String> getCommittedDsKeys() {
+		return committedDsKeys;
+	}
+
+	/**
+	 * @return 提交失败的数据源
+	 */
+	public List<String> getFailedDsKeys() {
+		return failedDsKeys;
+	}
+
+	/**
+	 * @return 没有结果的数据源，提交时进程崩溃的数据源
+	 */
+	public List<String> getUnknownDsKeys() {
+		List<String> list = new ArrayList<String>(dsKeys);
+		list.removeAll(committedDsKeys);
+		list.removeAll(failedDsKeys);
+		return list;
+	}
+
+	/**
+	 * @return 是否记录了提交结束，false表示提交过程中进程崩溃
+	 */
+	public boolean isEnded() {
+		return ended;
+	}
+
+	void setEnded(boolean ended) {
+		this.ended = ended;
+	}
+
+	long getSegmentSeq() {
+		return segmentSeq;
+	}
+
+	/**
+	 * @return 所有数据源都提交成功
+	 */
+	boolean isComplete() {
+		return committedDsKeys.size() == dsKeys.size();
+	}
+
+	@Override
+	public String toString() {
+		return "txId=" + txId + " beginTime=" + beginTime + " ended=" + ended
+		        + " dsKeys=" + dsKeys + " committed=" + committedDsKeys
+		        + " failed=" + failedDsKeys + " unknown="
+		        + this.getUnknownDsKeys();
+	}
+}
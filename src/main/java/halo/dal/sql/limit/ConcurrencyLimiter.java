@@ -0,0 +1,198 @@
+package halo.dal.sql.limit;
+
+import halo.dal.metrics.DALMetrics;
+
+import java.sql.SQLException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 一个数据源的自适应并发数量限制(AIMD)。语句耗时没有超过targetLatency并且并发数量接近限制时，每次增加 1/limit，
+ * 相当于每一轮增加1；耗时超过targetLatency或者超时时，限制乘以backoffRatio，每个targetLatency时间内最多减少一次。<br>
+ * 获取与释放使用原子变量，只有需要等待时加锁
+ */
+public class ConcurrencyLimiter {
+
+	private final String dsKey;
+
+	private final ConcurrencyLimiters config;
+
+	/**
+	 * double类型的并发数量限制
+	 */
+	private final AtomicLong limitBits;
+
+	private final AtomicLong lastDecrease = new AtomicLong();
+
+	private final AtomicInteger inFlight = new AtomicInteger();
+
+	private final AtomicInteger waiters = new AtomicInteger();
+
+	private final Object waitLock = new Object();
+
+	ConcurrencyLimiter(String dsKey, ConcurrencyLimiters config) {
+		this.dsKey = dsKey;
+		this.config = config;
+		this.limitBits = new AtomicLong(Double.doubleToLongBits(config
+		        .getInitialLimit()));
+		this.publish(config.getInitialLimit());
+	}
+
+	public String getDsKey() {
+		return dsKey;
+	}
+
+	/**
+	 * @return 当前的并发数量限制
+	 */
+	public int getLimit() {
+		return (int) Double.longBitsToDouble(limitBits.get());
+	}
+
+	/**
+	 * @return 执行中的语句数量
+	 */
+	public int getInFlight() {
+		return inFlight.get();
+	}
+
+	public int getWaiters() {
+		return waiters.get();
+	}
+
+	/**
+	 * 执行语句前调用，达到并发数量限制时最多等待maxWait毫秒
+	 * 
+	 * @throws SQLException
+	 *             等待超时时抛出 {@link LimitExceededException}
+	 */
+	public void acquire() throws SQLException {
+		if (this.tryAcquire()) {
+			return;
+		}
+		long maxWait = config.getMaxWait();
+		if (maxWait <= 0) {
+			throw this.reject();
+		}
+		long deadline = System.nanoTime()
+		        + TimeUnit.MILLISECONDS.toNanos(maxWait);
+		this.waiters.incrementAndGet();
+		try {
+			while (!this.tryAcquire()) {
+				long remaining = deadline - System.nanoTime();
+				if (remaining <= 0) {
+					throw this.reject();
+				}
+				synchronized (this.waitLock) {
+					// 限制增加时不通知，每次最多等待10毫秒后重新检查
+					if (inFlight.get() >= this.getLimit()) {
+						TimeUnit.NANOSECONDS.timedWait(this.waitLock, Math.min(
+						        remaining, TimeUnit.MILLISECONDS.toNanos(10)));
+					}
+				}
+			}
+		}
+		catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new SQLException("interrupted when waiting for "
+			        + "concurrency limit of " + dsKey, e);
+		}
+		finally {
+			this.waiters.decrementAndGet();
+		}
+	}
+
+	private boolean tryAcquire() {
+		int current;
+		do {
+			current = inFlight.get();
+			if (current >= this.getLimit()) {
+				return false;
+			}
+		}
+		while (!inFlight.compareAndSet(current, current + 1));
+		return true;
+	}
+
+	private LimitExceededException reject() {
+		config.getMetrics().getCounter(DALMetrics.CONCURRENCY_REJECTED, dsKey)
+		        .inc();
+		return new LimitExceededException(dsKey, this.getLimit());
+	}
+
+	/**
+	 * 语句执行完成后调用，根据耗时调整并发数量限制
+	 * 
+	 * @param elapsed
+	 *            耗时(毫秒)
+	 * @param timeout
+	 *            是否是超时或连接失败
+	 */
+	public void release(long elapsed, boolean timeout) {
+		int current = inFlight.getAndDecrement();
+		if (timeout || elapsed > config.getTargetLatency()) {
+			this.decrease();
+		}
+		// 并发数量没有接近限制时，不能说明可以承受更多的并发
+		else if (current * 2 >= this.getLimit()) {
+			this.increase();
+		}
+		if (waiters.get() > 0) {
+			synchronized (this.waitLock) {
+				this.waitLock.notify();
+			}
+		}
+	}
+
+	/**
+	 * 取得许可后没有执行语句时调用，归还许可，不调整并发数量限制
+	 */
+	public void cancel() {
+		inFlight.decrementAndGet();
+		if (waiters.get() > 0) {
+			synchronized (this.waitLock) {
+				this.waitLock.notify();
+			}
+		}
+	}
+
+	private void increase() {
+		long bits;
+		double limit;
+		do {
+			bits = limitBits.get();
+			limit = Double.longBitsToDouble(bits);
+			if (limit >= config.getMaxLimit()) {
+				return;
+			}
+		}
+		while (!limitBits.compareAndSet(bits, Double.doubleToLongBits(Math
+		        .min(config.getMaxLimit(), limit + 1 / limit))));
+		this.publish(limit + 1 / limit);
+	}
+
+	private void decrease() {
+		long now = System.currentTimeMillis();
+		long last = lastDecrease.get();
+		if (now - last < config.getTargetLatency()
+		        || !lastDecrease.compareAndSet(last, now)) {
+			return;
+		}
+		long bits;
+		double limit;
+		do {
+			bits = limitBits.get();
+			limit = Math.max(config.getMinLimit(), Double
+			        .longBitsToDouble(bits)
+			        * config.getBackoffRatio());
+		}
+		while (!limitBits.compareAndSet(bits, Double.doubleToLongBits(limit)));
+		this.publish(limit);
+	}
+
+	private void publish(double limit) {
+		config.getMetrics().getGauge(DALMetrics.CONCURRENCY_LIMIT, dsKey).set(
+		        (long) Math.min(limit, config.getMaxLimit()));
+	}
+}
@@ -0,0 +1,122 @@
+package halo.dal.sql.limit;
+
+import halo.dal.metrics.DALMetrics;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * 每个数据源一个 {@link ConcurrencyLimiter}，所有限制器使用相同的配置。通过
+ * {@link halo.dal.sql.DALDataSource#setConcurrencyLimiters(ConcurrencyLimiters)}
+ * 设置后，在数据源上执行语句前获取并发许可，执行完成后根据耗时调整每个数据源的并发数量限制，
+ * 一个数据源过载时只限制该数据源的语句，不影响其他数据源
+ */
+public class ConcurrencyLimiters {
+
+	/**
+	 * 初始的并发数量限制
+	 */
+	private int initialLimit = 20;
+
+	private int minLimit = 1;
+
+	private int maxLimit = 200;
+
+	/**
+	 * 语句耗时超过此值(毫秒)时减少并发数量限制
+	 */
+	private long targetLatency = 100;
+
+	/**
+	 * 减少并发数量限制时乘以此值
+	 */
+	private double backoffRatio = 0.9;
+
+	/**
+	 * 达到并发数量限制时的最大等待时间(毫秒)，小于等于0时直接拒绝
+	 */
+	private long maxWait = 0;
+
+	private volatile DALMetrics metrics = new DALMetrics();
+
+	private final ConcurrentMap<String, ConcurrencyLimiter> limiterMap = new ConcurrentHashMap<String, ConcurrencyLimiter>();
+
+	public void setInitialLimit(int initialLimit) {
+		this.initialLimit = initialLimit;
+	}
+
+	public int getInitialLimit() {
+		return initialLimit;
+	}
+
+	public void setMinLimit(int minLimit) {
+		this.minLimit = minLimit;
+	}
+
+	public int getMinLimit() {
+		return minLimit;
+	}
+
+	public void setMaxLimit(int maxLimit) {
+		this.maxLimit = maxLimit;
+	}
+
+	public int getMaxLimit() {
+		return maxLimit;
+	}
+
+	public void setTargetLatency(long targetLatency) {
+		this.targetLatency = targetLatency;
+	}
+
+	public long getTargetLatency() {
+		return targetLatency;
+	}
+
+	public void setBackoffRatio(double backoffRatio) {
+		this.backoffRatio = backoffRatio;
+	}
+
+	public double getBackoffRatio() {
+		return backoffRatio;
+	}
+
+	public void setMaxWait(long maxWait) {
+		this.maxWait = maxWait;
+	}
+
+	public long getMaxWait() {
+		return maxWait;
+	}
+
+	/**
+	 * 记录当前并发数量限制与拒绝次数的指标，由
+	 * {@link halo.dal.sql.DALDataSource#setConcurrencyLimiters(ConcurrencyLimiters)}
+	 * 设置为DALDataSource的指标
+	 * 
+	 * @param metrics
+	 */
+	public void setMetrics(DALMetrics metrics) {
+		this.metrics = metrics;
+	}
+
+	public DALMetrics getMetrics() {
+		return metrics;
+	}
+
+	/**
+	 * @param dsKey
+	 * @return 不存在时创建
+	 */
+	public ConcurrencyLimiter getLimiter(String dsKey) {
+		ConcurrencyLimiter limiter = limiterMap.get(dsKey);
+		if (limiter == null) {
+			limiter = new ConcurrencyLimiter(dsKey, this);
+			ConcurrencyLimiter old = limiterMap.putIfAbsent(dsKey, limiter);
+			if (old != null) {
+				limiter = old;
+			}
+		}
+		return limiter;
+	}
+}
@@ -0,0 +1,23 @@
+package halo.dal.sql.limit;
+
+import java.sql.SQLTransientException;
+
+/**
+ * 数据源上执行中的语句数量达到并发数量限制，并且在等待时间内没有空闲时抛出此异常
+ */
+public class LimitExceededException extends SQLTransientException {
+
+	private static final long serialVersionUID = 1L;
+
+	private final String dsKey;
+
+	public LimitExceededException(String dsKey, int limit) {
+		super("concurrency limit " + limit + " of [ " + dsKey
+		        + " ] is exceeded");
+		this.dsKey = dsKey;
+	}
+
+	public String getDsKey() {
+		return dsKey;
+	}
+}
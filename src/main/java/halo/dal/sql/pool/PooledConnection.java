@@ -0,0 +1,35 @@
+package halo.dal.sql.pool;
+
+import halo.dal.sql.ConnectionWrapper;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+
+/**
+ * 从 {@link ShardPoolDataSource} 借出的连接，关闭时归还连接池，不关闭物理连接。每次借出时创建新的对象，归还后不能再使用
+ */
+public class PooledConnection extends ConnectionWrapper {
+
+	private final ShardPoolDataSource pool;
+
+	private volatile boolean returned;
+
+	PooledConnection(Connection con, ShardPoolDataSource pool) {
+		super(con);
+		this.pool = pool;
+	}
+
+	@Override
+	public void close() throws SQLException {
+		if (this.returned) {
+			return;
+		}
+		this.returned = true;
+		this.pool.returnConnection(this.con);
+	}
+
+	@Override
+	public boolean isClosed() throws SQLException {
+		return this.returned || this.con.isClosed();
+	}
+}
@@ -0,0 +1,376 @@
+package halo.dal.sql.pool;
+
+import halo.dal.DALRunTimeException;
+import halo.dal.metrics.DALMetrics;
+import halo.dal.sql.DALDataSource;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.sql.DataSource;
+
+/**
+ * 由 {@link halo.dal.sql.DALDataSource} 统一管理的多数据源连接池。所有数据源共享maxTotal个连接，
+ * 后台线程每隔adjustInterval毫秒根据每个数据源最近借出与等待的连接数量，重新分配每个数据源的最大连接数量与最小连接数量。
+ * 全局连接数量用完时，从其他数据源关闭多余的空闲连接后再创建连接。<br>
+ * dataSourceMap中的数据源只用于创建物理连接，应该是不带连接池的数据源。多个key对应同一个数据源时(例如default_ds)，共用一个连接池
+ */
+public class ShardPool {
+
+	private Map<String, DataSource> dataSourceMap;
+
+	private Map<String, ShardPoolDataSource> poolMap;
+
+	private List<ShardPoolDataSource> pools;
+
+	/**
+	 * 所有数据源的最大连接数量之和
+	 */
+	private int maxTotal = 100;
+
+	/**
+	 * 每个数据源的最大连接数量不小于此值，也作为最小连接数量的下限
+	 */
+	private int minPerShard = 1;
+
+	/**
+	 * 每个数据源的最大连接数量不超过此值
+	 */
+	private int maxPerShard = 20;
+
+	/**
+	 * 获取连接的最大等待时间(毫秒)
+	 */
+	private long maxWait = 3000;
+
+	/**
+	 * 调整连接数量的间隔(毫秒)，小于等于0时不调整
+	 */
+	private long adjustInterval = 1000;
+
+	/**
+	 * 连接数量超过最小连接数量时，空闲超过此时间(毫秒)的连接关闭，小于等于0时不关闭
+	 */
+	private long idleTimeout = 60000;
+
+	/**
+	 * 空闲超过此时间(毫秒)的连接，借出前检查是否可用，小于0时不检查
+	 */
+	private long validationIdle = 30000;
+
+	/**
+	 * 检查连接的超时时间(秒)
+	 */
+	private int validationTimeout = 3;
+
+	/**
+	 * 归还时autoCommit为false的连接是否回滚
+	 */
+	private boolean rollbackOnReturn = true;
+
+	private final AtomicInteger total = new AtomicInteger();
+
+	private volatile DALMetrics metrics = new DALMetrics();
+
+	private volatile boolean closed;
+
+	private ScheduledExecutorService adjuster;
+
+	/**
+	 * 设定数据源key与创建物理连接的数据源
+	 *
+	 * @param dataSourceMap
+	 */
+	public void setDataSourceMap(Map<String, DataSource> dataSourceMap) {
+		this.dataSourceMap = dataSourceMap;
+	}
+
+	public void setMaxTotal(int maxTotal) {
+		this.maxTotal = maxTotal;
+	}
+
+	public int getMaxTotal() {
+		return maxTotal;
+	}
+
+	public void setMinPerShard(int minPerShard) {
+		this.minPerShard = minPerShard;
+	}
+
+	public void setMaxPerShard(int maxPerShard) {
+		this.maxPerShard = maxPerShard;
+	}
+
+	public void setMaxWait(long maxWait) {
+		this.maxWait = maxWait;
+	}
+
+	public long getMaxWait() {
+		return maxWait;
+	}
+
+	public void setAdjustInterval(long adjustInterval) {
+		this.adjustInterval = adjustInterval;
+	}
+
+	public void setIdleTimeout(long idleTimeout) {
+		this.idleTimeout = idleTimeout;
+	}
+
+	long getIdleTimeout() {
+		return idleTimeout;
+	}
+
+	public void setValidationIdle(long validationIdle) {
+		this.validationIdle = validationIdle;
+	}
+
+	long getValidationIdle() {
+		return validationIdle;
+	}
+
+	public void setValidationTimeout(int validationTimeout) {
+		this.validationTimeout = validationTimeout;
+	}
+
+	int getValidationTimeout() {
+		return validationTimeout;
+	}
+
+	public void setRollbackOnReturn(boolean rollbackOnReturn) {
+		this.rollbackOnReturn = rollbackOnReturn;
+	}
+
+	boolean isRollbackOnReturn() {
+		return rollbackOnReturn;
+	}
+
+	/**
+	 * 记录借出次数、借出耗时、等待次数、等待耗时、等待超时次数的指标，由
+	 * {@link halo.dal.sql.DALDataSource#setShardPool(ShardPool)} 设置为DALDataSource的指标
+	 *
+	 * @param metrics
+	 */
+	public void setMetrics(DALMetrics metrics) {
+		this.metrics = metrics;
+	}
+
+	public DALMetrics getMetrics() {
+		return metrics;
+	}
+
+	/**
+	 * @return 所有数据源的物理连接数量
+	 */
+	public int getTotal() {
+		return total.get();
+	}
+
+	boolean isClosed() {
+		return closed;
+	}
+
+	/**
+	 * 为每个数据源创建连接池，平均分配最大连接数量，创建最小数量的连接，启动调整线程
+	 */
+	public synchronized void init() {
+		Map<DataSource, ShardPoolDataSource> created = new IdentityHashMap<DataSource, ShardPoolDataSource>();
+		Map<String, ShardPoolDataSource> map = new LinkedHashMap<String, ShardPoolDataSource>();
+		List<String> keys = new ArrayList<String>(this.dataSourceMap.keySet());
+		Collections.sort(keys);
+		// default_ds与其他key对应同一个数据源时，连接池使用其他key的名称
+		if (keys.remove(DALDataSource.DSKEY_DEFAULT)) {
+			keys.add(DALDataSource.DSKEY_DEFAULT);
+		}
+		for (String key : keys) {
+			DataSource ds = this.dataSourceMap.get(key);
+			ShardPoolDataSource pool = created.get(ds);
+			if (pool == null) {
+				pool = new ShardPoolDataSource(key, ds, this);
+				created.put(ds, pool);
+			}
+			map.put(key, pool);
+		}
+		List<ShardPoolDataSource> list = new ArrayList<ShardPoolDataSource>(
+		        created.values());
+		int share = this.maxTotal / Math.max(1, list.size());
+		for (ShardPoolDataSource pool : list) {
+			pool.setMaxSize(Math.max(this.minPerShard, Math.min(
+			        this.maxPerShard, share)));
+			pool.setMinSize(this.minPerShard);
+		}
+		this.pools = list;
+		this.poolMap = map;
+		for (ShardPoolDataSource pool : list) {
+			pool.fill();
+		}
+		if (this.adjustInterval > 0) {
+			this.adjuster = Executors
+			        .newSingleThreadScheduledExecutor(new ThreadFactory() {
+
+				        public Thread newThread(Runnable r) {
+					        Thread t = new Thread(r, "halo-dal-pool-adjuster");
+					        t.setDaemon(true);
+					        return t;
+				        }
+			        });
+			this.adjuster.scheduleWithFixedDelay(new Runnable() {
+
+				public void run() {
+					adjust();
+				}
+			}, this.adjustInterval, this.adjustInterval, TimeUnit.MILLISECONDS);
+		}
+	}
+
+	/**
+	 * 停止调整线程，关闭所有空闲连接，之后归还的连接直接关闭
+	 */
+	public synchronized void destroy() {
+		this.closed = true;
+		if (this.adjuster != null) {
+			this.adjuster.shutdownNow();
+			this.adjuster = null;
+		}
+		if (this.pools != null) {
+			for (ShardPoolDataSource pool : this.pools) {
+				pool.closeIdle();
+			}
+		}
+	}
+
+	/**
+	 * @return 数据源key与连接池，用于 {@link halo.dal.sql.DALDataSource#setDataSourceMap(Map)}
+	 */
+	public Map<String, DataSource> getDataSourceMap() {
+		return new LinkedHashMap<String, DataSource>(this.getPoolMap());
+	}
+
+	/**
+	 * @param dsKey
+	 * @return 数据源的连接池，可以获得连接数量与使用率
+	 */
+	public ShardPoolDataSource getPool(String dsKey) {
+		ShardPoolDataSource pool = this.getPoolMap().get(dsKey);
+		if (pool == null) {
+			throw new DALRunTimeException("no pool forKey [ " + dsKey + " ]");
+		}
+		return pool;
+	}
+
+	private Map<String, ShardPoolDataSource> getPoolMap() {
+		if (this.poolMap == null) {
+			throw new DALRunTimeException("shard pool is not initialized");
+		}
+		return this.poolMap;
+	}
+
+	/**
+	 * 按照每个数据源的连接需求分配最大连接数量与最小连接数量，关闭多余的空闲连接，补充不足的连接。由调整线程定时调用
+	 */
+	public synchronized void adjust() {
+		List<ShardPoolDataSource> list = this.pools;
+		if (list == null || this.closed) {
+			return;
+		}
+		double[] demands = new double[list.size()];
+		double sum = 0;
+		for (int i = 0; i < demands.length; i++) {
+			demands[i] = list.get(i).sampleDemand();
+			sum += demands[i];
+		}
+		for (int i = 0; i < demands.length; i++) {
+			ShardPoolDataSource pool = list.get(i);
+			int share;
+			if (sum > 0) {
+				share = (int) Math.ceil(this.maxTotal * demands[i] / sum);
+			}
+			else {
+				share = this.maxTotal / demands.length;
+			}
+			// 最大连接数量保留比当前需求多一个连接的余量
+			int maxSize = Math.max(share, (int) Math.ceil(demands[i]) + 1);
+			maxSize = Math.max(this.minPerShard, Math.min(this.maxPerShard,
+			        maxSize));
+			pool.setMaxSize(maxSize);
+			pool.setMinSize(Math.min(maxSize, Math.max(this.minPerShard,
+			        (int) demands[i])));
+		}
+		// 所有数据源的数量调整之后，再关闭与创建连接，需求减少的数据源的空闲连接可以让给需求增加的数据源
+		long now = System.currentTimeMillis();
+		for (ShardPoolDataSource pool : list) {
+			pool.evictIdle(now);
+		}
+		for (ShardPoolDataSource pool : list) {
+			pool.fill();
+		}
+	}
+
+	/**
+	 * 占用一个全局连接数量，用完时关闭其他数据源多余的空闲连接
+	 *
+	 * @param requester
+	 *            需要创建连接的数据源
+	 * @return 是否成功
+	 */
+	boolean reserve(ShardPoolDataSource requester) {
+		if (this.tryReserve()) {
+			return true;
+		}
+		List<ShardPoolDataSource> list = this.pools;
+		ShardPoolDataSource victim = null;
+		int most = 0;
+		for (ShardPoolDataSource pool : list) {
+			int spare = Math.min(pool.getIdle(), pool.getSize()
+			        - pool.getMinSize());
+			if (pool != requester && spare > most) {
+				most = spare;
+				victim = pool;
+			}
+		}
+		if (victim != null && victim.evictOneIdle()) {
+			return this.tryReserve();
+		}
+		return false;
+	}
+
+	private boolean tryReserve() {
+		int current;
+		do {
+			current = this.total.get();
+			if (current >= this.maxTotal) {
+				return false;
+			}
+		}
+		while (!this.total.compareAndSet(current, current + 1));
+		return true;
+	}
+
+	void release() {
+		this.total.decrementAndGet();
+	}
+
+	/**
+	 * 全局连接数量减少后，通知所有数据源中等待的线程
+	 */
+	void signalWaiters() {
+		List<ShardPoolDataSource> list = this.pools;
+		if (list == null) {
+			return;
+		}
+		for (ShardPoolDataSource pool : list) {
+			if (pool.getWaiters() > 0) {
+				pool.signal();
+			}
+		}
+	}
+}
@@ -0,0 +1,483 @@
+package halo.dal.sql.pool;
+
+import halo.dal.metrics.DALMetrics;
+
+import java.io.PrintWriter;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import javax.sql.DataSource;
+
+/**
+ * {@link ShardPool} 中一个数据源的连接池。空闲连接保存在无锁栈中，借出与归还不加锁，最近归还的连接最先借出，
+ * 长时间不用的连接留在栈底等待回收。没有空闲连接并且不能创建新连接时，等待其他线程归还，最多等待maxWait毫秒
+ */
+public class ShardPoolDataSource implements DataSource {
+
+	/**
+	 * 空闲连接
+	 */
+	private static class IdleConnection {
+
+		final Connection con;
+
+		final long returnTime;
+
+		IdleConnection next;
+
+		IdleConnection(Connection con, long returnTime) {
+			this.con = con;
+			this.returnTime = returnTime;
+		}
+	}
+
+	private final String dsKey;
+
+	/**
+	 * 创建物理连接的数据源
+	 */
+	private final DataSource dataSource;
+
+	private final ShardPool shardPool;
+
+	private final AtomicReference<IdleConnection> idleTop = new AtomicReference<IdleConnection>();
+
+	private final AtomicInteger idle = new AtomicInteger();
+
+	/**
+	 * 物理连接的数量，包括空闲与借出的连接
+	 */
+	private final AtomicInteger size = new AtomicInteger();
+
+	private final AtomicInteger active = new AtomicInteger();
+
+	private final AtomicInteger waiters = new AtomicInteger();
+
+	/**
+	 * 上一次调整之后，借出与等待的连接数量之和的最大值
+	 */
+	private final AtomicInteger peakDemand = new AtomicInteger();
+
+	private final Object waitLock = new Object();
+
+	private volatile int maxSize;
+
+	/**
+	 * 保持打开的最小连接数量
+	 */
+	private volatile int minSize;
+
+	/**
+	 * 平滑后的连接需求，只在调整线程中使用
+	 */
+	private double demand;
+
+	ShardPoolDataSource(String dsKey, DataSource dataSource,
+	        ShardPool shardPool) {
+		this.dsKey = dsKey;
+		this.dataSource = dataSource;
+		this.shardPool = shardPool;
+	}
+
+	public String getDsKey() {
+		return dsKey;
+	}
+
+	/**
+	 * @return 物理连接的数量
+	 */
+	public int getSize() {
+		return size.get();
+	}
+
+	public int getActive() {
+		return active.get();
+	}
+
+	public int getIdle() {
+		return idle.get();
+	}
+
+	public int getWaiters() {
+		return waiters.get();
+	}
+
+	public int getMaxSize() {
+		return maxSize;
+	}
+
+	public int getMinSize() {
+		return minSize;
+	}
+
+	/**
+	 * @return 借出的连接数量与当前最大连接数量的比例
+	 */
+	public double getUtilization() {
+		int max = this.maxSize;
+		if (max <= 0) {
+			return 0;
+		}
+		return (double) this.active.get() / max;
+	}
+
+	void setMaxSize(int maxSize) {
+		this.maxSize = maxSize;
+	}
+
+	void setMinSize(int minSize) {
+		this.minSize = minSize;
+	}
+
+	public Connection getConnection() throws SQLException {
+		long begin = System.nanoTime();
+		Connection con = this.pollIdle();
+		if (con == null) {
+			con = this.tryCreate();
+		}
+		if (con == null) {
+			con = this.waitForConnection(begin);
+		}
+		DALMetrics metrics = this.shardPool.getMetrics();
+		metrics.getCounter(DALMetrics.POOL_BORROW, dsKey).inc();
+		metrics.getCounter(DALMetrics.POOL_BORROW_TIME, dsKey).add(
+		        (System.nanoTime() - begin) / 1000);
+		return new PooledConnection(con, this);
+	}
+
+	public Connection getConnection(String username, String password)
+	        throws SQLException {
+		throw new SQLException("only support getConnection()");
+	}
+
+	private Connection waitForConnection(long begin) throws SQLException {
+		long deadline = begin
+		        + TimeUnit.MILLISECONDS.toNanos(this.shardPool.getMaxWait());
+		DALMetrics metrics = this.shardPool.getMetrics();
+		this.waiters.incrementAndGet();
+		this.updatePeakDemand();
+		try {
+			Connection con;
+			while (true) {
+				con = this.pollIdle();
+				if (con == null) {
+					con = this.tryCreate();
+				}
+				if (con != null) {
+					return con;
+				}
+				long remaining = deadline - System.nanoTime();
+				if (remaining <= 0) {
+					metrics.getCounter(DALMetrics.POOL_TIMEOUT, dsKey).inc();
+					throw new SQLException("can not get connection from pool "
+					        + dsKey + " in " + this.shardPool.getMaxWait()
+					        + "ms, size " + this.size.get() + ", total "
+					        + this.shardPool.getTotal(), "08001");
+				}
+				synchronized (this.waitLock) {
+					// 其他数据源释放的连接数量不一定通知到这里，每次最多等待10毫秒后重新检查
+					if (this.idleTop.get() == null) {
+						TimeUnit.NANOSECONDS.timedWait(this.waitLock, Math.min(
+						        remaining, TimeUnit.MILLISECONDS.toNanos(10)));
+					}
+				}
+			}
+		}
+		catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new SQLException("interrupted when waiting for connection "
+			        + dsKey, e);
+		}
+		finally {
+			this.waiters.decrementAndGet();
+			metrics.getCounter(DALMetrics.POOL_WAIT, dsKey).inc();
+			metrics.getCounter(DALMetrics.POOL_WAIT_TIME, dsKey).add(
+			        (System.nanoTime() - begin) / 1000);
+		}
+	}
+
+	/**
+	 * @return 没有可用的空闲连接时返回null
+	 */
+	private Connection pollIdle() {
+		IdleConnection idleCon;
+		long validationIdle = this.shardPool.getValidationIdle();
+		while ((idleCon = this.pop()) != null) {
+			if (validationIdle >= 0
+			        && System.currentTimeMillis() - idleCon.returnTime > validationIdle
+			        && !this.isValid(idleCon.con)) {
+				this.discard(idleCon.con);
+				continue;
+			}
+			this.active.incrementAndGet();
+			this.updatePeakDemand();
+			return idleCon.con;
+		}
+		return null;
+	}
+
+	/**
+	 * 连接数量没有达到maxSize并且全局连接数量有剩余时创建新的连接
+	 *
+	 * @return 不能创建时返回null
+	 * @throws SQLException
+	 */
+	private Connection tryCreate() throws SQLException {
+		if (!this.reserve()) {
+			return null;
+		}
+		Connection con;
+		try {
+			con = this.dataSource.getConnection();
+		}
+		catch (SQLException e) {
+			this.unreserve();
+			throw e;
+		}
+		this.active.incrementAndGet();
+		this.updatePeakDemand();
+		return con;
+	}
+
+	private boolean reserve() {
+		int current;
+		do {
+			current = this.size.get();
+			if (current >= this.maxSize) {
+				return false;
+			}
+		}
+		while (!this.size.compareAndSet(current, current + 1));
+		if (!this.shardPool.reserve(this)) {
+			this.size.decrementAndGet();
+			return false;
+		}
+		return true;
+	}
+
+	private void unreserve() {
+		this.size.decrementAndGet();
+		this.shardPool.release();
+	}
+
+	/**
+	 * 归还连接。没有提交的事务回滚，已经关闭或者超出maxSize的连接关闭
+	 *
+	 * @param con
+	 */
+	void returnConnection(Connection con) {
+		this.active.decrementAndGet();
+		boolean broken;
+		try {
+			broken = con.isClosed();
+			if (!broken && this.shardPool.isRollbackOnReturn()
+			        && !con.getAutoCommit()) {
+				con.rollback();
+			}
+		}
+		catch (SQLException e) {
+			broken = true;
+		}
+		if (broken || this.shardPool.isClosed()
+		        || (this.size.get() > this.maxSize && this.waiters.get() == 0)) {
+			this.discard(con);
+			return;
+		}
+		this.push(new IdleConnection(con, System.currentTimeMillis()));
+		if (this.waiters.get() > 0) {
+			this.signal();
+		}
+	}
+
+	void signal() {
+		synchronized (this.waitLock) {
+			this.waitLock.notifyAll();
+		}
+	}
+
+	/**
+	 * 关闭物理连接，释放占用的全局连接数量
+	 *
+	 * @param con
+	 */
+	private void discard(Connection con) {
+		try {
+			con.close();
+		}
+		catch (SQLException e) {
+			// 连接已经不可用
+		}
+		this.unreserve();
+		this.shardPool.signalWaiters();
+	}
+
+	/**
+	 * 连接数量超过minSize时关闭一个空闲连接，供其他数据源使用
+	 *
+	 * @return 是否关闭了连接
+	 */
+	boolean evictOneIdle() {
+		if (this.size.get() <= this.minSize) {
+			return false;
+		}
+		IdleConnection idleCon = this.pop();
+		if (idleCon == null) {
+			return false;
+		}
+		this.discard(idleCon.con);
+		return true;
+	}
+
+	/**
+	 * 根据最近的借出情况计算连接需求，需求增加时立即生效，减少时平滑下降
+	 *
+	 * @return 平滑后的连接需求
+	 */
+	double sampleDemand() {
+		int peak = this.peakDemand.getAndSet(this.active.get()
+		        + this.waiters.get());
+		if (peak >= this.demand) {
+			this.demand = peak;
+		}
+		else {
+			this.demand = (this.demand + peak) / 2;
+		}
+		return this.demand;
+	}
+
+	/**
+	 * 连接数量超过maxSize时关闭空闲连接，超过minSize时关闭空闲时间超过idleTimeout的连接
+	 *
+	 * @param now
+	 */
+	void evictIdle(long now) {
+		List<IdleConnection> list = new ArrayList<IdleConnection>();
+		IdleConnection idleCon;
+		while ((idleCon = this.pop()) != null) {
+			list.add(idleCon);
+		}
+		long idleTimeout = this.shardPool.getIdleTimeout();
+		// 从栈顶开始保留最近使用的连接
+		List<IdleConnection> keep = new ArrayList<IdleConnection>(list.size());
+		for (IdleConnection c : list) {
+			boolean over = this.size.get() > this.maxSize;
+			boolean expired = idleTimeout > 0
+			        && now - c.returnTime > idleTimeout
+			        && this.size.get() > this.minSize;
+			if ((over || expired) && this.waiters.get() == 0) {
+				this.discard(c.con);
+			}
+			else {
+				keep.add(c);
+			}
+		}
+		// 放回时创建新的节点，避免同一个节点再次入栈
+		for (int i = keep.size() - 1; i >= 0; i--) {
+			this.push(new IdleConnection(keep.get(i).con,
+			        keep.get(i).returnTime));
+		}
+	}
+
+	/**
+	 * 连接数量少于minSize时创建连接
+	 */
+	void fill() {
+		while (this.size.get() < this.minSize && this.reserve()) {
+			try {
+				this.push(new IdleConnection(this.dataSource.getConnection(),
+				        System.currentTimeMillis()));
+			}
+			catch (SQLException e) {
+				this.unreserve();
+				return;
+			}
+		}
+	}
+
+	/**
+	 * 关闭所有空闲连接
+	 */
+	void closeIdle() {
+		IdleConnection idleCon;
+		while ((idleCon = this.pop()) != null) {
+			this.discard(idleCon.con);
+		}
+	}
+
+	private boolean isValid(Connection con) {
+		try {
+			return con.isValid(this.shardPool.getValidationTimeout());
+		}
+		catch (SQLException e) {
+			return false;
+		}
+	}
+
+	private void updatePeakDemand() {
+		int current = this.active.get() + this.waiters.get();
+		int peak;
+		do {
+			peak = this.peakDemand.get();
+			if (current <= peak) {
+				return;
+			}
+		}
+		while (!this.peakDemand.compareAndSet(peak, current));
+	}
+
+	private void push(IdleConnection idleCon) {
+		IdleConnection top;
+		do {
+			top = this.idleTop.get();
+			idleCon.next = top;
+		}
+		while (!this.idleTop.compareAndSet(top, idleCon));
+		this.idle.incrementAndGet();
+	}
+
+	private IdleConnection pop() {
+		IdleConnection top;
+		do {
+			top = this.idleTop.get();
+			if (top == null) {
+				return null;
+			}
+		}
+		while (!this.idleTop.compareAndSet(top, top.next));
+		this.idle.decrementAndGet();
+		return top;
+	}
+
+	public PrintWriter getLogWriter() throws SQLException {
+		return this.dataSource.getLogWriter();
+	}
+
+	public void setLogWriter(PrintWriter out) throws SQLException {
+		this.dataSource.setLogWriter(out);
+	}
+
+	public void setLoginTimeout(int seconds) throws SQLException {
+		this.dataSource.setLoginTimeout(seconds);
+	}
+
+	public int getLoginTimeout() throws SQLException {
+		return this.dataSource.getLoginTimeout();
+	}
+
+	public boolean isWrapperFor(Class<?> iface) throws SQLException {
+		return iface.isInstance(this.dataSource)
+		        || this.dataSource.isWrapperFor(iface);
+	}
+
+	public <T> T unwrap(Class<T> iface) throws SQLException {
+		if (iface.isInstance(this.dataSource)) {
+			return iface.cast(this.dataSource);
+		}
+		return this.dataSource.unwrap(iface);
+	}
+}
@@ -0,0 +1,65 @@
+package halo.dal.sql.replica;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 保存最近的耗时样本，计算百分位耗时。记录样本不加锁，每记录一定数量的样本后重新计算百分位耗时
+ */
+public class LatencyTracker {
+
+	private final AtomicLongArray samples;
+
+	private final AtomicLong count = new AtomicLong();
+
+	private final double percentile;
+
+	private final int minSamples;
+
+	private volatile long value = -1;
+
+	/**
+	 * @param size
+	 *            保存的样本数量
+	 * @param percentile
+	 *            百分位，例如0.95
+	 * @param minSamples
+	 *            样本数量达到此值后才计算百分位耗时
+	 */
+	public LatencyTracker(int size, double percentile, int minSamples) {
+		this.samples = new AtomicLongArray(size);
+		this.percentile = percentile;
+		this.minSamples = Math.min(size, minSamples);
+	}
+
+	/**
+	 * @param latency
+	 *            耗时(毫秒)
+	 */
+	public void record(long latency) {
+		long n = count.getAndIncrement();
+		samples.set((int) (n % samples.length()), latency);
+		n++;
+		// 样本数量达到最小数量后，每记录1/8样本数量个样本重新计算
+		if (n >= minSamples && n % Math.max(1, samples.length() / 8) == 0) {
+			this.compute((int) Math.min(n, samples.length()));
+		}
+	}
+
+	private void compute(int size) {
+		long[] arr = new long[size];
+		for (int i = 0; i < size; i++) {
+			arr[i] = samples.get(i);
+		}
+		Arrays.sort(arr);
+		this.value = arr[Math.min(size - 1, (int) (size * percentile))];
+	}
+
+	/**
+	 * @return 百分位耗时(毫秒)，样本数量不足时返回-1
+	 */
+	public long getValue() {
+		return value;
+	}
+}
@@ -0,0 +1,35 @@
+package halo.dal.sql.replica;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 选择正在使用的连接数量最少的读库。数量相同时，从轮询的起始位置开始选择，避免所有请求集中到第一个读库
+ */
+public class LeastOutstandingReplicaSelector implements ReplicaSelector {
+
+	private final AtomicInteger counter = new AtomicInteger();
+
+	public Replica select(Replica[] replicas) {
+		int len = replicas.length;
+		if (len == 0) {
+			return null;
+		}
+		int start = (counter.getAndIncrement() & Integer.MAX_VALUE) % len;
+		Replica selected = null;
+		int min = Integer.MAX_VALUE;
+		Replica replica;
+		int outstanding;
+		for (int i = 0; i < len; i++) {
+			replica = replicas[(start + i) % len];
+			if (!replica.isAvailable()) {
+				continue;
+			}
+			outstanding = replica.getOutstanding();
+			if (outstanding < min) {
+				min = outstanding;
+				selected = replica;
+			}
+		}
+		return selected;
+	}
+}
@@ -0,0 +1,37 @@
+package halo.dal.sql.replica;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+/**
+ * 通过show slave status中的Seconds_Behind_Master获取mysql读库的复制延迟
+ */
+public class MySQLReplicaLagProbe implements ReplicaLagProbe {
+
+	public long getLag(Connection con) throws SQLException {
+		Statement stmt = con.createStatement();
+		try {
+			ResultSet rs = stmt.executeQuery("show slave status");
+			try {
+				// 不是读库
+				if (!rs.next()) {
+					return 0;
+				}
+				long seconds = rs.getLong("Seconds_Behind_Master");
+				// 复制线程没有运行时为null
+				if (rs.wasNull()) {
+					return Long.MAX_VALUE;
+				}
+				return seconds * 1000;
+			}
+			finally {
+				rs.close();
+			}
+		}
+		finally {
+			stmt.close();
+		}
+	}
+}
@@ -0,0 +1,153 @@
+package halo.dal.sql.replica;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.sql.DataSource;
+
+/**
+ * 读库(slave)。记录读库的权重，正在使用的连接数量，复制延迟以及健康状态，所有状态都使用无锁方式修改
+ */
+public class Replica {
+
+	private String name;
+
+	private DataSource dataSource;
+
+	/**
+	 * 权重，用于 {@link WeightedReplicaSelector}
+	 */
+	private int weight = 1;
+
+	/**
+	 * 正在使用的连接数量
+	 */
+	private final AtomicInteger outstanding = new AtomicInteger();
+
+	/**
+	 * 连续获取连接失败的次数
+	 */
+	private final AtomicInteger failures = new AtomicInteger();
+
+	private volatile boolean healthy = true;
+
+	/**
+	 * 最近一次检查得到的复制延迟(毫秒)，-1表示未知
+	 */
+	private volatile long lag = -1;
+
+	/**
+	 * 复制延迟是否超过了 {@link ReplicaGroup} 允许的最大延迟
+	 */
+	private volatile boolean lagging;
+
+	public Replica() {
+	}
+
+	public Replica(String name, DataSource dataSource) {
+		this.name = name;
+		this.dataSource = dataSource;
+	}
+
+	public String getName() {
+		return name;
+	}
+
+	public void setName(String name) {
+		this.name = name;
+	}
+
+	public DataSource getDataSource() {
+		return dataSource;
+	}
+
+	public void setDataSource(DataSource dataSource) {
+		this.dataSource = dataSource;
+	}
+
+	public int getWeight() {
+		return weight;
+	}
+
+	public void setWeight(int weight) {
+		if (weight < 1) {
+			throw new IllegalArgumentException("weight must > 0 : " + weight);
+		}
+		this.weight = weight;
+	}
+
+	public int getOutstanding() {
+		return outstanding.get();
+	}
+
+	void incrementOutstanding() {
+		outstanding.incrementAndGet();
+	}
+
+	void decrementOutstanding() {
+		outstanding.decrementAndGet();
+	}
+
+	public boolean isHealthy() {
+		return healthy;
+	}
+
+	public long getLag() {
+		return lag;
+	}
+
+	public boolean isLagging() {
+		return lagging;
+	}
+
+	/**
+	 * @return 健康并且复制延迟没有超过最大延迟时，可以被选择
+	 */
+	public boolean isAvailable() {
+		return healthy && !lagging;
+	}
+
+	/**
+	 * 保存检查得到的复制延迟
+	 * 
+	 * @param lag
+	 *            复制延迟(毫秒)
+	 * @param maxLag
+	 *            允许的最大延迟(毫秒)，小于0时不限制
+	 */
+	void updateLag(long lag, long maxLag) {
+		this.lag = lag;
+		boolean value = maxLag >= 0 && lag > maxLag;
+		if (lagging != value) {
+			lagging = value;
+		}
+	}
+
+	/**
+	 * 获取连接或健康检查成功
+	 */
+	void onSuccess() {
+		if (failures.get() != 0) {
+			failures.set(0);
+		}
+		if (!healthy) {
+			healthy = true;
+		}
+	}
+
+	/**
+	 * 获取连接失败，连续失败次数达到failureThreshold时，摘除此读库，等待健康检查成功后恢复
+	 * 
+	 * @param failureThreshold
+	 */
+	void onFailure(int failureThreshold) {
+		if (failures.incrementAndGet() >= failureThreshold) {
+			healthy = false;
+		}
+	}
+
+	@Override
+	public String toString() {
+		return "Replica[" + name + ",healthy=" + healthy + ",lag=" + lag
+		        + ",outstanding=" + outstanding.get() + "]";
+	}
+}
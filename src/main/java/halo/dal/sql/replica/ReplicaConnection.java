@@ -0,0 +1,34 @@
+package halo.dal.sql.replica;
+
+import halo.dal.sql.ConnectionWrapper;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+
+/**
+ * 从读库获得的连接，关闭时减少读库正在使用的连接数量
+ */
+public class ReplicaConnection extends ConnectionWrapper {
+
+	private final Replica replica;
+
+	private boolean released;
+
+	public ReplicaConnection(Connection con, Replica replica) {
+		super(con);
+		this.replica = replica;
+	}
+
+	public Replica getReplica() {
+		return replica;
+	}
+
+	@Override
+	public void close() throws SQLException {
+		if (!released) {
+			released = true;
+			replica.decrementOutstanding();
+		}
+		super.close();
+	}
+}
@@ -0,0 +1,452 @@
+package halo.dal.sql.replica;
+
+import java.io.PrintWriter;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+import javax.sql.DataSource;
+
+/**
+ * 一个数据源key对应的一组主库与读库。作为DataSource使用时返回主库的连接，
+ * 只读的select语句通过 {@link #getReadConnection()} 按照 {@link ReplicaSelector} 选择读库。<br>
+ * 后台线程定时检查读库状态，检查失败的读库会被摘除，检查成功后恢复。没有可用读库时使用主库<br>
+ * 配置了 {@link ReplicaLagProbe} 时，健康检查同时获取读库的复制延迟，延迟超过maxLag的读库不会被选择。<br>
+ * 在连接中对此数据源进行写操作后，之后的读操作在readYourWritesWindow时间内使用主库，保证能够读到刚写入的数据<br>
+ * 开启对冲读的查询超过读请求的p95耗时没有返回时，在另一个读库上再次查询，使用先返回的结果，对冲读的数量不超过hedgeBudget
+ */
+public class ReplicaGroup implements DataSource {
+
+	/**
+	 * 最多积累10次对冲读的令牌
+	 */
+	private static final long MAX_HEDGE_TOKENS = 10000;
+
+	private DataSource master;
+
+	private Replica[] replicas = new Replica[0];
+
+	private ReplicaSelector replicaSelector = new RoundRobinReplicaSelector();
+
+	/**
+	 * 连续获取连接失败的次数达到此值时摘除读库
+	 */
+	private int failureThreshold = 3;
+
+	/**
+	 * 健康检查间隔(毫秒)，小于等于0时不进行健康检查
+	 */
+	private long healthCheckInterval = 5000;
+
+	/**
+	 * 健康检查使用的sql，为null时使用 {@link Connection#isValid(int)}
+	 */
+	private String validationQuery;
+
+	/**
+	 * 健康检查超时时间(秒)
+	 */
+	private int validationTimeout = 3;
+
+	/**
+	 * 没有可用读库时是否使用主库
+	 */
+	private boolean fallbackToMaster = true;
+
+	private ReplicaLagProbe lagProbe;
+
+	/**
+	 * 允许的最大复制延迟(毫秒)，小于0时不限制
+	 */
+	private long maxLag = -1;
+
+	/**
+	 * 写操作之后读操作使用主库的时间(毫秒)。小于0时，写操作之后此连接的读操作都使用主库；等于0时不使用主库
+	 */
+	private long readYourWritesWindow = -1;
+
+	/**
+	 * 对冲读额外增加的读请求比例的上限
+	 */
+	private double hedgeBudget = 0.05;
+
+	/**
+	 * 对冲读的最小等待时间(毫秒)，读请求的p95耗时小于此值时使用此值
+	 */
+	private long hedgeMinDelay = 5;
+
+	/**
+	 * 对冲读胜出后等待第一次查询取消的时间(毫秒)，超过时关闭第一次查询的语句
+	 */
+	private long hedgeCancelWait = 1000;
+
+	/**
+	 * 对冲读的令牌，单位为1/1000次对冲
+	 */
+	private final AtomicLong hedgeTokens = new AtomicLong();
+
+	private final LatencyTracker readLatency = new LatencyTracker(256, 0.95,
+	        32);
+
+	private final AtomicBoolean healthCheckerStarted = new AtomicBoolean();
+
+	private volatile ScheduledExecutorService healthChecker;
+
+	public void setMaster(DataSource master) {
+		this.master = master;
+	}
+
+	public DataSource getMaster() {
+		return master;
+	}
+
+	public void setReplicas(List<Replica> replicas) {
+		Replica[] arr = replicas.toArray(new Replica[replicas.size()]);
+		for (int i = 0; i < arr.length; i++) {
+			if (arr[i].getName() == null) {
+				arr[i].setName("replica" + i);
+			}
+		}
+		this.replicas = arr;
+	}
+
+	public Replica[] getReplicas() {
+		return replicas;
+	}
+
+	public void setReplicaSelector(ReplicaSelector replicaSelector) {
+		this.replicaSelector = replicaSelector;
+	}
+
+	public void setFailureThreshold(int failureThreshold) {
+		this.failureThreshold = failureThreshold;
+	}
+
+	public void setHealthCheckInterval(long healthCheckInterval) {
+		this.healthCheckInterval = healthCheckInterval;
+	}
+
+	public void setValidationQuery(String validationQuery) {
+		this.validationQuery = validationQuery;
+	}
+
+	public void setValidationTimeout(int validationTimeout) {
+		this.validationTimeout = validationTimeout;
+	}
+
+	public void setFallbackToMaster(boolean fallbackToMaster) {
+		this.fallbackToMaster = fallbackToMaster;
+	}
+
+	public void setLagProbe(ReplicaLagProbe lagProbe) {
+		this.lagProbe = lagProbe;
+	}
+
+	public void setMaxLag(long maxLag) {
+		this.maxLag = maxLag;
+	}
+
+	public void setReadYourWritesWindow(long readYourWritesWindow) {
+		this.readYourWritesWindow = readYourWritesWindow;
+	}
+
+	/**
+	 * @param hedgeBudget
+	 *            对冲读额外增加的读请求比例的上限，例如0.05表示最多增加5%的读请求
+	 */
+	public void setHedgeBudget(double hedgeBudget) {
+		this.hedgeBudget = hedgeBudget;
+	}
+
+	public void setHedgeMinDelay(long hedgeMinDelay) {
+		this.hedgeMinDelay = hedgeMinDelay;
+	}
+
+	public void setHedgeCancelWait(long hedgeCancelWait) {
+		this.hedgeCancelWait = hedgeCancelWait;
+	}
+
+	public long getHedgeCancelWait() {
+		return hedgeCancelWait;
+	}
+
+	/**
+	 * 记录一次读库查询的耗时，同时按照hedgeBudget增加对冲读的令牌
+	 * 
+	 * @param latency
+	 *            耗时(毫秒)
+	 */
+	public void recordReadLatency(long latency) {
+		this.readLatency.record(latency);
+		long tokens;
+		do {
+			tokens = this.hedgeTokens.get();
+			if (tokens >= MAX_HEDGE_TOKENS) {
+				break;
+			}
+		}
+		while (!this.hedgeTokens.compareAndSet(tokens, Math.min(
+		        MAX_HEDGE_TOKENS, tokens + (long) (this.hedgeBudget * 1000))));
+	}
+
+	/**
+	 * @return 发起对冲读之前的等待时间(毫秒)，为读请求的p95耗时，样本数量不足时返回-1
+	 */
+	public long getHedgeDelay() {
+		long p95 = this.readLatency.getValue();
+		if (p95 < 0) {
+			return -1;
+		}
+		return Math.max(this.hedgeMinDelay, p95);
+	}
+
+	/**
+	 * @return 没有超过hedgeBudget时，消耗一次对冲读的令牌并返回true
+	 */
+	public boolean tryAcquireHedge() {
+		long tokens;
+		do {
+			tokens = this.hedgeTokens.get();
+			if (tokens < 1000) {
+				return false;
+			}
+		}
+		while (!this.hedgeTokens.compareAndSet(tokens, tokens - 1000));
+		return true;
+	}
+
+	/**
+	 * 获得对冲读或者重试使用的其他读库的连接
+	 * 
+	 * @param exclude
+	 *            第一次查询使用的读库
+	 * @return 没有其他可用读库或者获取失败时返回null
+	 */
+	public Connection getHedgeConnection(Replica exclude) {
+		List<Replica> list = new ArrayList<Replica>(this.replicas.length);
+		for (Replica replica : this.replicas) {
+			if (replica != exclude) {
+				list.add(replica);
+			}
+		}
+		Replica replica = this.replicaSelector.select(list
+		        .toArray(new Replica[list.size()]));
+		if (replica == null) {
+			return null;
+		}
+		replica.incrementOutstanding();
+		try {
+			Connection con = replica.getDataSource().getConnection();
+			replica.onSuccess();
+			return new ReplicaConnection(con, replica);
+		}
+		catch (SQLException e) {
+			replica.decrementOutstanding();
+			replica.onFailure(this.failureThreshold);
+			return null;
+		}
+	}
+
+	/**
+	 * 读库上执行的语句发生连接异常时调用，连续失败次数达到failureThreshold时摘除读库
+	 * 
+	 * @param replica
+	 */
+	public void onReadFailure(Replica replica) {
+		replica.onFailure(this.failureThreshold);
+	}
+
+	public long getReadYourWritesWindow() {
+		return readYourWritesWindow;
+	}
+
+	/**
+	 * @param lastWriteTime
+	 *            连接最后一次写入此数据源的时间
+	 * @return 读操作是否需要使用主库
+	 */
+	public boolean isReadYourWrites(long lastWriteTime) {
+		if (this.readYourWritesWindow < 0) {
+			return true;
+		}
+		if (this.readYourWritesWindow == 0) {
+			return false;
+		}
+		return System.currentTimeMillis() - lastWriteTime < this
+		        .readYourWritesWindow;
+	}
+
+	/**
+	 * 获得主库连接
+	 */
+	public Connection getConnection() throws SQLException {
+		return this.master.getConnection();
+	}
+
+	public Connection getConnection(String username, String password)
+	        throws SQLException {
+		return this.master.getConnection(username, password);
+	}
+
+	/**
+	 * 获得读库连接，获取失败时尝试其他读库，所有读库都不可用时使用主库
+	 * 
+	 * @return
+	 * @throws SQLException
+	 */
+	public Connection getReadConnection() throws SQLException {
+		this.startHealthChecker();
+		SQLException last = null;
+		Replica replica;
+		for (int i = 0; i < this.replicas.length; i++) {
+			replica = this.replicaSelector.select(this.replicas);
+			if (replica == null) {
+				break;
+			}
+			replica.incrementOutstanding();
+			try {
+				Connection con = replica.getDataSource().getConnection();
+				replica.onSuccess();
+				return new ReplicaConnection(con, replica);
+			}
+			catch (SQLException e) {
+				replica.decrementOutstanding();
+				replica.onFailure(this.failureThreshold);
+				last = e;
+			}
+		}
+		if (this.fallbackToMaster) {
+			return this.master.getConnection();
+		}
+		if (last != null) {
+			throw last;
+		}
+		throw new SQLException("no healthy replica");
+	}
+
+	/**
+	 * 检查所有读库的状态，检查失败的读库将被摘除。配置了 {@link ReplicaLagProbe} 时，同时更新读库的复制延迟
+	 */
+	public void checkHealth() {
+		for (Replica replica : this.replicas) {
+			if (this.validate(replica)) {
+				replica.onSuccess();
+			}
+			else {
+				replica.onFailure(1);
+			}
+		}
+	}
+
+	private boolean validate(Replica replica) {
+		Connection con = null;
+		try {
+			con = replica.getDataSource().getConnection();
+			if (this.validationQuery == null) {
+				if (!con.isValid(this.validationTimeout)) {
+					return false;
+				}
+			}
+			else {
+				Statement stmt = con.createStatement();
+				try {
+					stmt.setQueryTimeout(this.validationTimeout);
+					stmt.execute(this.validationQuery);
+				}
+				finally {
+					stmt.close();
+				}
+			}
+			if (this.lagProbe != null) {
+				// 获取延迟失败时延迟未知，保留上一次的结果，不摘除读库
+				try {
+					replica.updateLag(this.lagProbe.getLag(con), this.maxLag);
+				}
+				catch (SQLException e) {
+				}
+			}
+			return true;
+		}
+		catch (SQLException e) {
+			return false;
+		}
+		finally {
+			if (con != null) {
+				try {
+					con.close();
+				}
+				catch (SQLException e) {
+					// 忽略此异常
+				}
+			}
+		}
+	}
+
+	private void startHealthChecker() {
+		if (this.healthCheckInterval <= 0 || this.healthCheckerStarted.get()
+		        || !this.healthCheckerStarted.compareAndSet(false, true)) {
+			return;
+		}
+		ScheduledExecutorService service = Executors
+		        .newSingleThreadScheduledExecutor(new ThreadFactory() {
+
+			        public Thread newThread(Runnable r) {
+				        Thread t = new Thread(r, "halo-dal-replica-check");
+				        t.setDaemon(true);
+				        return t;
+			        }
+		        });
+		service.scheduleWithFixedDelay(new Runnable() {
+
+			public void run() {
+				checkHealth();
+			}
+		}, this.healthCheckInterval, this.healthCheckInterval,
+		        TimeUnit.MILLISECONDS);
+		this.healthChecker = service;
+	}
+
+	/**
+	 * 停止健康检查
+	 */
+	public void close() {
+		ScheduledExecutorService service = this.healthChecker;
+		if (service != null) {
+			service.shutdownNow();
+			this.healthChecker = null;
+		}
+		this.healthCheckerStarted.set(false);
+	}
+
+	public PrintWriter getLogWriter() throws SQLException {
+		return this.master.getLogWriter();
+	}
+
+	public void setLogWriter(PrintWriter out) throws SQLException {
+		this.master.setLogWriter(out);
+	}
+
+	public void setLoginTimeout(int seconds) throws SQLException {
+		this.master.setLoginTimeout(seconds);
+	}
+
+	public int getLoginTimeout() throws SQLException {
+		return this.master.getLoginTimeout();
+	}
+
+	public <T> T unwrap(Class<T> iface) throws SQLException {
+		return this.master.unwrap(iface);
+	}
+
+	public boolean isWrapperFor(Class<?> iface) throws SQLException {
+		return this.master.isWrapperFor(iface);
+	}
+}
@@ -0,0 +1,20 @@
+package halo.dal.sql.replica;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+
+/**
+ * 获取读库的复制延迟。由 {@link ReplicaGroup} 的健康检查线程定时调用，结果保存在 {@link Replica#getLag()}
+ * 中，执行sql时不会调用
+ */
+public interface ReplicaLagProbe {
+
+	/**
+	 * @param con
+	 *            读库的连接
+	 * @return 复制延迟(毫秒)，复制已经停止时返回 {@link Long#MAX_VALUE}
+	 * @throws SQLException
+	 *             获取失败时延迟未知，读库保留上一次的延迟与状态
+	 */
+	long getLag(Connection con) throws SQLException;
+}
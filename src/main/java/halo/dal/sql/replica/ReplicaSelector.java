@@ -0,0 +1,16 @@
+package halo.dal.sql.replica;
+
+/**
+ * 读库选择策略，实现类必须是线程安全的，并且不能使用锁
+ */
+public interface ReplicaSelector {
+
+	/**
+	 * 从读库中选择一个可用的读库({@link Replica#isAvailable()})
+	 * 
+	 * @param replicas
+	 *            所有读库，包括已经摘除以及延迟过大的读库
+	 * @return 没有可用的读库时返回null
+	 */
+	Replica select(Replica[] replicas);
+}
@@ -0,0 +1,27 @@
+package halo.dal.sql.replica;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 轮询选择读库，跳过已经摘除或者延迟过大的读库
+ */
+public class RoundRobinReplicaSelector implements ReplicaSelector {
+
+	private final AtomicInteger counter = new AtomicInteger();
+
+	public Replica select(Replica[] replicas) {
+		int len = replicas.length;
+		if (len == 0) {
+			return null;
+		}
+		int start = (counter.getAndIncrement() & Integer.MAX_VALUE) % len;
+		Replica replica;
+		for (int i = 0; i < len; i++) {
+			replica = replicas[(start + i) % len];
+			if (replica.isAvailable()) {
+				return replica;
+			}
+		}
+		return null;
+	}
+}
@@ -0,0 +1,37 @@
+package halo.dal.sql.replica;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 按照读库权重({@link Replica#getWeight()})选择读库。选中的读库被摘除时，选择其后的第一个可用读库
+ */
+public class WeightedReplicaSelector implements ReplicaSelector {
+
+	private final AtomicInteger counter = new AtomicInteger();
+
+	public Replica select(Replica[] replicas) {
+		int len = replicas.length;
+		if (len == 0) {
+			return null;
+		}
+		int totalWeight = 0;
+		for (int i = 0; i < len; i++) {
+			totalWeight += replicas[i].getWeight();
+		}
+		int pos = (counter.getAndIncrement() & Integer.MAX_VALUE)
+		        % totalWeight;
+		int idx = 0;
+		while (pos >= replicas[idx].getWeight()) {
+			pos -= replicas[idx].getWeight();
+			idx++;
+		}
+		Replica replica;
+		for (int i = 0; i < len; i++) {
+			replica = replicas[(idx + i) % len];
+			if (replica.isAvailable()) {
+				return replica;
+			}
+		}
+		return null;
+	}
+}
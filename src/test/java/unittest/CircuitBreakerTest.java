@@ -0,0 +1,291 @@
+package unittest;
+
+import halo.dal.DALCurrentStatus;
+import halo.dal.DALFactory;
+import halo.dal.analysis.DefPartitionParserFactory;
+import halo.dal.analysis.PartitionParser;
+import halo.dal.metrics.DALMetrics;
+import halo.dal.sql.DALDataSource;
+import halo.dal.sql.breaker.CircuitBreaker;
+import halo.dal.sql.breaker.CircuitBreakers;
+import halo.dal.sql.breaker.CircuitOpenException;
+import halo.dal.sql.limit.ConcurrencyLimiter;
+import halo.dal.sql.limit.ConcurrencyLimiters;
+import halo.dal.sql.limit.LimitExceededException;
+import halo.dal.sql.replica.Replica;
+import halo.dal.sql.replica.ReplicaGroup;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import javax.sql.DataSource;
+
+import junit.framework.Assert;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import unittest.mock.MockDataSource;
+
+public class CircuitBreakerTest {
+
+    MockDataSource ds0 = new MockDataSource("ds0");
+
+    MockDataSource ds1 = new MockDataSource("ds1");
+
+    DALDataSource dalDataSource;
+
+    CircuitBreakers breakers;
+
+    @Before
+    public void before() {
+        Map<String, DataSource> dataSourceMap = new HashMap<String, DataSource>();
+        dataSourceMap.put("ds0", ds0);
+        dataSourceMap.put("ds1", ds1);
+        dataSourceMap.put(DALDataSource.DSKEY_DEFAULT, ds0);
+        dalDataSource = new DALDataSource();
+        dalDataSource.setDataSourceMap(dataSourceMap);
+        breakers = new CircuitBreakers();
+        breakers.setMinimumCalls(2);
+        breakers.setOpenInterval(60000);
+        dalDataSource.setCircuitBreakers(breakers);
+        DALFactory dalFactory = new DALFactory();
+        DefPartitionParserFactory parserFactory = new DefPartitionParserFactory();
+        parserFactory.setParserMap(new HashMap<String, PartitionParser>());
+        dalFactory.setPartitionParserFactory(parserFactory);
+    }
+
+    @After
+    public void after() {
+        DALCurrentStatus.remove();
+    }
+
+    @Test
+    public void openOnConnectionFailure() throws Exception {
+        ds1.setDown(true);
+        for (int i = 0; i < 2; i++) {
+            try {
+                dalDataSource.getRealConnection("ds1", false);
+                Assert.fail("ds1 is down");
+            }
+            catch (SQLException e) {
+                Assert.assertFalse(e instanceof CircuitOpenException);
+            }
+        }
+        Assert.assertEquals(CircuitBreaker.OPEN, breakers.getBreaker("ds1")
+                .getState());
+        try {
+            dalDataSource.getRealConnection("ds1", false);
+            Assert.fail("circuit breaker must be open");
+        }
+        catch (CircuitOpenException e) {
+            Assert.assertEquals("ds1", e.getDsKey());
+        }
+        Assert.assertEquals(2, ds1.getCallCount("getConnection"));
+        // 其他数据源不受影响
+        dalDataSource.getRealConnection("ds0", false).close();
+        DALMetrics metrics = dalDataSource.getMetrics();
+        Assert.assertEquals(1, metrics.getCount(DALMetrics.CIRCUIT_OPEN, "ds1"));
+        Assert.assertEquals(1, metrics.getCount(DALMetrics.CIRCUIT_REJECTED,
+                "ds1"));
+    }
+
+    @Test
+    public void halfOpenProbe() throws Exception {
+        breakers.setOpenInterval(30);
+        CircuitBreaker breaker = breakers.getBreaker("ds1");
+        breaker.record(0, true);
+        breaker.record(0, true);
+        Assert.assertEquals(CircuitBreaker.OPEN, breaker.getState());
+        Assert.assertFalse(breaker.tryAcquire());
+        Thread.sleep(40);
+        // 只允许一个探测调用
+        Assert.assertTrue(breaker.tryAcquire());
+        Assert.assertEquals(CircuitBreaker.HALF_OPEN, breaker.getState());
+        Assert.assertFalse(breaker.tryAcquire());
+        breaker.record(0, true);
+        Assert.assertEquals(CircuitBreaker.OPEN, breaker.getState());
+        Thread.sleep(40);
+        dalDataSource.getRealConnection("ds1", false).close();
+        Assert.assertEquals(CircuitBreaker.CLOSED, breaker.getState());
+        Assert.assertTrue(breaker.tryAcquire());
+    }
+
+    @Test
+    public void openOnSlowCalls() throws Exception {
+        breakers.setSlowCallDuration(10);
+        CircuitBreaker breaker = breakers.getBreaker("ds0");
+        breaker.record(1, false);
+        breaker.record(20, false);
+        breaker.record(20, false);
+        breaker.record(20, false);
+        Assert.assertEquals(CircuitBreaker.CLOSED, breaker.getState());
+        // 5次调用中4次慢调用，达到0.8
+        breaker.record(20, false);
+        Assert.assertEquals(CircuitBreaker.OPEN, breaker.getState());
+    }
+
+    @Test
+    public void statementFailFast() throws Exception {
+        Connection con = dalDataSource.getConnection();
+        PreparedStatement ps = con.prepareStatement("select * from region");
+        ps.executeQuery();
+        // sql错误不是数据源不可用
+        ds0.setFailMethod("executeQuery", 1064);
+        for (int i = 0; i < 3; i++) {
+            try {
+                ps.executeQuery();
+                Assert.fail("executeQuery must fail");
+            }
+            catch (SQLException e) {
+            }
+        }
+        CircuitBreaker breaker = breakers.getBreaker("ds0");
+        Assert.assertEquals(CircuitBreaker.CLOSED, breaker.getState());
+        // 获取连接1次，执行4次
+        Assert.assertEquals(5, breaker.getCalls());
+        for (int i = 0; i < 5; i++) {
+            breaker.record(0, true);
+        }
+        Assert.assertEquals(CircuitBreaker.OPEN, breaker.getState());
+        ds0.setFailMethod(null);
+        int count = ds0.getCallCount("executeQuery");
+        try {
+            ps.executeQuery();
+            Assert.fail("circuit breaker must be open");
+        }
+        catch (CircuitOpenException e) {
+        }
+        Assert.assertEquals(count, ds0.getCallCount("executeQuery"));
+        ps.close();
+        con.close();
+    }
+
+    @Test
+    public void limiterRejectKeepsProbe() throws Exception {
+        ConcurrencyLimiters limiters = new ConcurrencyLimiters();
+        limiters.setInitialLimit(1);
+        limiters.setMaxLimit(1);
+        dalDataSource.setConcurrencyLimiters(limiters);
+        breakers.setOpenInterval(30);
+        Connection con = dalDataSource.getConnection();
+        PreparedStatement ps = con.prepareStatement("select * from region");
+        ps.executeQuery();
+        CircuitBreaker breaker = breakers.getBreaker("ds0");
+        for (int i = 0; i < 5; i++) {
+            breaker.record(0, true);
+        }
+        Assert.assertEquals(CircuitBreaker.OPEN, breaker.getState());
+        Thread.sleep(40);
+        ConcurrencyLimiter limiter = limiters.getLimiter("ds0");
+        limiter.acquire();
+        try {
+            ps.executeQuery();
+            Assert.fail("limit must be exceeded");
+        }
+        catch (LimitExceededException e) {
+        }
+        // 并发限制拒绝时没有占用熔断器的探测请求
+        Assert.assertEquals(CircuitBreaker.OPEN, breaker.getState());
+        limiter.release(1, false);
+        ps.executeQuery();
+        Assert.assertEquals(CircuitBreaker.CLOSED, breaker.getState());
+        Assert.assertEquals(0, limiter.getInFlight());
+        ps.close();
+        con.close();
+    }
+
+    @Test
+    public void breakerRejectCancelsPermit() throws Exception {
+        ConcurrencyLimiters limiters = new ConcurrencyLimiters();
+        limiters.setInitialLimit(4);
+        dalDataSource.setConcurrencyLimiters(limiters);
+        Connection con = dalDataSource.getConnection();
+        PreparedStatement ps = con.prepareStatement("select * from region");
+        ps.executeQuery();
+        ConcurrencyLimiter limiter = limiters.getLimiter("ds0");
+        int limit = limiter.getLimit();
+        CircuitBreaker breaker = breakers.getBreaker("ds0");
+        for (int i = 0; i < 5; i++) {
+            breaker.record(0, true);
+        }
+        try {
+            ps.executeQuery();
+            Assert.fail("circuit breaker must be open");
+        }
+        catch (CircuitOpenException e) {
+        }
+        Assert.assertEquals(0, limiter.getInFlight());
+        Assert.assertEquals(limit, limiter.getLimit());
+        ps.close();
+        con.close();
+    }
+
+    @Test
+    public void replicaFailureNotCounted() throws Exception {
+        MockDataSource master = new MockDataSource("master");
+        MockDataSource slave = new MockDataSource("slave");
+        ReplicaGroup replicaGroup = new ReplicaGroup();
+        replicaGroup.setMaster(master);
+        replicaGroup.setHealthCheckInterval(0);
+        replicaGroup.setFallbackToMaster(false);
+        List<Replica> replicas = new ArrayList<Replica>();
+        replicas.add(new Replica("slave", slave));
+        replicaGroup.setReplicas(replicas);
+        Map<String, DataSource> dataSourceMap = new HashMap<String, DataSource>();
+        dataSourceMap.put("ds0", replicaGroup);
+        dataSourceMap.put(DALDataSource.DSKEY_DEFAULT, replicaGroup);
+        dalDataSource.setDataSourceMap(dataSourceMap);
+        try {
+            slave.setFailMethod("executeQuery", "08S01", -1);
+            Connection con = dalDataSource.getConnection();
+            PreparedStatement ps = con
+                    .prepareStatement("select * from region");
+            for (int i = 0; i < 3; i++) {
+                try {
+                    ps.executeQuery();
+                    Assert.fail("executeQuery must fail");
+                }
+                catch (SQLException e) {
+                }
+            }
+            ps.close();
+            con.close();
+            Assert.assertEquals(3, slave.getCallCount("executeQuery"));
+            slave.setDown(true);
+            for (int i = 0; i < 3; i++) {
+                try {
+                    dalDataSource.getRealConnection("ds0", true);
+                    Assert.fail("slave is down");
+                }
+                catch (SQLException e) {
+                }
+            }
+            // 读库的失败不计入主库的熔断器，写操作不受影响
+            CircuitBreaker breaker = breakers.getBreaker("ds0");
+            Assert.assertEquals(CircuitBreaker.CLOSED, breaker.getState());
+            Assert.assertEquals(0, breaker.getFailures());
+            dalDataSource.getRealConnection("ds0", false).close();
+            Assert.assertEquals(1, breaker.getCalls());
+        }
+        finally {
+            replicaGroup.close();
+        }
+    }
+
+    @Test
+    public void isFailure() {
+        Assert.assertTrue(CircuitBreakers.isFailure(new SQLException(
+                "connect failed", "08S01")));
+        Assert.assertTrue(CircuitBreakers.isFailure(new SQLException(
+                "timeout", "HYT00")));
+        Assert.assertFalse(CircuitBreakers.isFailure(new SQLException(
+                "syntax error", "42000", 1064)));
+    }
+}
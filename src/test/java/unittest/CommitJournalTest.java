@@ -0,0 +1,228 @@
+package unittest;
+
+import halo.dal.DALCurrentStatus;
+import halo.dal.DALFactory;
+import halo.dal.analysis.DefPartitionParserFactory;
+import halo.dal.analysis.PartitionParser;
+import halo.dal.sql.DALConnection;
+import halo.dal.sql.DALDataSource;
+import halo.dal.sql.journal.CommitJournal;
+import halo.dal.sql.journal.CommitJournalRecovery;
+import halo.dal.sql.journal.IncompleteCommit;
+import halo.dal.sql.replica.Replica;
+import halo.dal.sql.replica.ReplicaGroup;
+
+import java.io.File;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import javax.sql.DataSource;
+
+import junit.framework.Assert;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import unittest.mock.MockDataSource;
+
+public class CommitJournalTest {
+
+    File dir;
+
+    CommitJournal journal;
+
+    @Before
+    public void before() throws Exception {
+        dir = File.createTempFile("dal-journal", "");
+        dir.delete();
+        journal = this.createJournal();
+    }
+
+    @After
+    public void after() throws Exception {
+        journal.destroy();
+        File[] files = dir.listFiles();
+        if (files != null) {
+            for (File file : files) {
+                file.delete();
+            }
+        }
+        dir.delete();
+        DALCurrentStatus.remove();
+    }
+
+    private CommitJournal createJournal() throws Exception {
+        CommitJournal commitJournal = new CommitJournal();
+        commitJournal.setDir(dir.getAbsolutePath());
+        commitJournal.setSegmentSize(4096);
+        commitJournal.init();
+        return commitJournal;
+    }
+
+    @Test
+    public void recoverAfterCrash() throws Exception {
+        long txId = journal.begin(Arrays.asList("ds0", "ds1"));
+        journal.shardCommitted(txId, "ds0");
+        long txId2 = journal.begin(Arrays.asList("ds0", "ds1"));
+        journal.shardCommitted(txId2, "ds0");
+        journal.shardCommitted(txId2, "ds1");
+        journal.end(txId2);
+        // 没有调用destroy，模拟进程崩溃
+        CommitJournal restarted = this.createJournal();
+        List<IncompleteCommit> list = restarted.getIncompleteCommits();
+        restarted.destroy();
+        Assert.assertEquals(1, list.size());
+        IncompleteCommit commit = list.get(0);
+        Assert.assertEquals(txId, commit.getTxId());
+        Assert.assertFalse(commit.isEnded());
+        Assert.assertEquals(Arrays.asList("ds0"), commit.getCommittedDsKeys());
+        Assert.assertEquals(Arrays.asList("ds1"), commit.getUnknownDsKeys());
+    }
+
+    @Test
+    public void segmentRoll() throws Exception {
+        journal.setMaxSegments(3);
+        long txId = 0;
+        for (int i = 0; i < 500; i++) {
+            txId = journal.begin(Arrays.asList("ds0", "ds1"));
+            journal.shardCommitted(txId, "ds0");
+            journal.shardCommitted(txId, "ds1");
+            journal.end(txId);
+        }
+        txId = journal.begin(Arrays.asList("ds0", "ds1"));
+        journal.shardCommitted(txId, "ds1");
+        journal.flush();
+        Assert.assertEquals(3, dir.listFiles().length);
+        List<IncompleteCommit> list = CommitJournalRecovery.scan(dir);
+        Assert.assertEquals(1, list.size());
+        Assert.assertEquals(txId, list.get(0).getTxId());
+    }
+
+    @Test
+    public void resolve() throws Exception {
+        long txId = journal.begin(Arrays.asList("ds0", "ds1"));
+        journal.shardCommitted(txId, "ds0");
+        CommitJournal restarted = this.createJournal();
+        Assert.assertEquals(1, restarted.getIncompleteCommits().size());
+        restarted.resolve(txId);
+        Assert.assertEquals(0, restarted.getIncompleteCommits().size());
+        restarted.destroy();
+        // 已经处理的事务重启后不再报告
+        restarted = this.createJournal();
+        Assert.assertEquals(0, restarted.getIncompleteCommits().size());
+        restarted.destroy();
+    }
+
+    @Test
+    public void segmentRollKeepsUnresolved() throws Exception {
+        journal.setMaxSegments(3);
+        long failedTxId = journal.begin(Arrays.asList("ds0", "ds1"));
+        journal.shardCommitted(failedTxId, "ds0");
+        journal.shardFailed(failedTxId, "ds1");
+        journal.end(failedTxId);
+        this.commitMany(500);
+        journal.flush();
+        // 包含未处理事务的日志文件以及之后的文件都保留
+        Assert.assertTrue(dir.listFiles().length > 3);
+        List<IncompleteCommit> list = CommitJournalRecovery.scan(dir);
+        Assert.assertEquals(1, list.size());
+        Assert.assertEquals(failedTxId, list.get(0).getTxId());
+        journal.resolve(failedTxId);
+        this.commitMany(100);
+        Assert.assertEquals(3, dir.listFiles().length);
+        Assert.assertEquals(0, CommitJournalRecovery.scan(dir).size());
+    }
+
+    private void commitMany(int count) {
+        for (int i = 0; i < count; i++) {
+            long txId = journal.begin(Arrays.asList("ds0", "ds1"));
+            journal.shardCommitted(txId, "ds0");
+            journal.shardCommitted(txId, "ds1");
+            journal.end(txId);
+        }
+    }
+
+    @Test
+    public void partialCommit() throws Exception {
+        MockDataSource ds0 = new MockDataSource("ds0");
+        MockDataSource ds1 = new MockDataSource("ds1");
+        Map<String, DataSource> dataSourceMap = new HashMap<String, DataSource>();
+        dataSourceMap.put("ds0", ds0);
+        dataSourceMap.put("ds1", ds1);
+        dataSourceMap.put(DALDataSource.DSKEY_DEFAULT, ds0);
+        DALDataSource dalDataSource = this.createDALDataSource(dataSourceMap);
+        ds1.setFailMethod("commit");
+        DALConnection con = (DALConnection) dalDataSource.getConnection();
+        con.setAutoCommit(false);
+        con.getRealConnection("ds0");
+        con.getRealConnection("ds1");
+        try {
+            con.commit();
+            Assert.fail("commit must fail");
+        }
+        catch (SQLException e) {
+        }
+        con.close();
+        List<IncompleteCommit> list = CommitJournalRecovery.scan(dir);
+        Assert.assertEquals(1, list.size());
+        Assert.assertTrue(list.get(0).isEnded());
+        Assert.assertEquals(Arrays.asList("ds0"), list.get(0)
+                .getCommittedDsKeys());
+        Assert.assertEquals(Arrays.asList("ds1"), list.get(0)
+                .getFailedDsKeys());
+    }
+
+    @Test
+    public void replicaReadNotJournaled() throws Exception {
+        MockDataSource ds0 = new MockDataSource("ds0");
+        MockDataSource master = new MockDataSource("master");
+        MockDataSource slave = new MockDataSource("slave");
+        ReplicaGroup replicaGroup = new ReplicaGroup();
+        replicaGroup.setMaster(master);
+        replicaGroup.setHealthCheckInterval(0);
+        List<Replica> replicas = new ArrayList<Replica>();
+        replicas.add(new Replica("slave", slave));
+        replicaGroup.setReplicas(replicas);
+        Map<String, DataSource> dataSourceMap = new HashMap<String, DataSource>();
+        dataSourceMap.put("ds0", ds0);
+        dataSourceMap.put("ds1", replicaGroup);
+        dataSourceMap.put(DALDataSource.DSKEY_DEFAULT, ds0);
+        DALDataSource dalDataSource = this.createDALDataSource(dataSourceMap);
+        ds0.setFailMethod("commit");
+        try {
+            DALConnection con = (DALConnection) dalDataSource.getConnection();
+            con.setAutoCommit(false);
+            con.getRealConnection("ds0");
+            con.getRealConnection("ds1", true);
+            try {
+                con.commit();
+                Assert.fail("commit must fail");
+            }
+            catch (SQLException e) {
+            }
+            con.close();
+        }
+        finally {
+            replicaGroup.close();
+        }
+        // 只有一个写数据源，读库的Connection不需要记录日志
+        Assert.assertEquals(0, CommitJournalRecovery.scan(dir).size());
+    }
+
+    private DALDataSource createDALDataSource(
+            Map<String, DataSource> dataSourceMap) {
+        DALDataSource dalDataSource = new DALDataSource();
+        dalDataSource.setDataSourceMap(dataSourceMap);
+        dalDataSource.setCommitJournal(journal);
+        DALFactory dalFactory = new DALFactory();
+        DefPartitionParserFactory parserFactory = new DefPartitionParserFactory();
+        parserFactory.setParserMap(new HashMap<String, PartitionParser>());
+        dalFactory.setPartitionParserFactory(parserFactory);
+        return dalDataSource;
+    }
+}
@@ -0,0 +1,153 @@
+package unittest;
+
+import halo.dal.DALCurrentStatus;
+import halo.dal.DALFactory;
+import halo.dal.analysis.DefPartitionParserFactory;
+import halo.dal.analysis.PartitionParser;
+import halo.dal.metrics.DALMetrics;
+import halo.dal.sql.DALDataSource;
+import halo.dal.sql.limit.ConcurrencyLimiter;
+import halo.dal.sql.limit.ConcurrencyLimiters;
+import halo.dal.sql.limit.LimitExceededException;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import javax.sql.DataSource;
+
+import junit.framework.Assert;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import unittest.mock.MockDataSource;
+
+public class ConcurrencyLimiterTest {
+
+    MockDataSource ds0 = new MockDataSource("ds0");
+
+    DALDataSource dalDataSource;
+
+    ConcurrencyLimiters limiters;
+
+    @Before
+    public void before() {
+        Map<String, DataSource> dataSourceMap = new HashMap<String, DataSource>();
+        dataSourceMap.put("ds0", ds0);
+        dataSourceMap.put(DALDataSource.DSKEY_DEFAULT, ds0);
+        dalDataSource = new DALDataSource();
+        dalDataSource.setDataSourceMap(dataSourceMap);
+        limiters = new ConcurrencyLimiters();
+        limiters.setInitialLimit(4);
+        limiters.setTargetLatency(50);
+        dalDataSource.setConcurrencyLimiters(limiters);
+        DALFactory dalFactory = new DALFactory();
+        DefPartitionParserFactory parserFactory = new DefPartitionParserFactory();
+        parserFactory.setParserMap(new HashMap<String, PartitionParser>());
+        dalFactory.setPartitionParserFactory(parserFactory);
+    }
+
+    @After
+    public void after() {
+        DALCurrentStatus.remove();
+    }
+
+    @Test
+    public void additiveIncrease() throws Exception {
+        ConcurrencyLimiter limiter = limiters.getLimiter("ds0");
+        for (int i = 0; i < 4; i++) {
+            limiter.acquire();
+        }
+        try {
+            limiter.acquire();
+            Assert.fail("limit must be exceeded");
+        }
+        catch (LimitExceededException e) {
+            Assert.assertEquals("ds0", e.getDsKey());
+        }
+        // 每次增加1/limit，大约一轮快速完成后增加1
+        for (int i = 0; i < 5; i++) {
+            limiter.release(1, false);
+            limiter.acquire();
+        }
+        Assert.assertEquals(5, limiter.getLimit());
+        Assert.assertEquals(4, limiter.getInFlight());
+        DALMetrics metrics = dalDataSource.getMetrics();
+        Assert.assertEquals(5, metrics.getGaugeValue(
+                DALMetrics.CONCURRENCY_LIMIT, "ds0"));
+        Assert.assertEquals(1, metrics.getCount(
+                DALMetrics.CONCURRENCY_REJECTED, "ds0"));
+    }
+
+    @Test
+    public void multiplicativeDecrease() throws Exception {
+        limiters.setInitialLimit(20);
+        ConcurrencyLimiter limiter = limiters.getLimiter("ds0");
+        limiter.acquire();
+        limiter.acquire();
+        limiter.release(100, false);
+        Assert.assertEquals(18, limiter.getLimit());
+        // 一个targetLatency内只减少一次
+        limiter.release(0, true);
+        Assert.assertEquals(18, limiter.getLimit());
+        Assert.assertEquals(0, limiter.getInFlight());
+    }
+
+    @Test
+    public void waitForRelease() throws Exception {
+        limiters.setInitialLimit(1);
+        limiters.setMaxWait(3000);
+        final ConcurrencyLimiter limiter = limiters.getLimiter("ds0");
+        limiter.acquire();
+        final AtomicBoolean acquired = new AtomicBoolean();
+        Thread t = new Thread() {
+
+            @Override
+            public void run() {
+                try {
+                    limiter.acquire();
+                    acquired.set(true);
+                }
+                catch (SQLException e) {
+                }
+            }
+        };
+        t.start();
+        while (limiter.getWaiters() == 0) {
+            Thread.sleep(1);
+        }
+        Assert.assertFalse(acquired.get());
+        limiter.release(1, false);
+        t.join(3000);
+        Assert.assertTrue(acquired.get());
+    }
+
+    @Test
+    public void statementRejected() throws Exception {
+        limiters.setInitialLimit(1);
+        limiters.setMaxLimit(1);
+        Connection con = dalDataSource.getConnection();
+        PreparedStatement ps = con.prepareStatement("select * from region");
+        ps.executeQuery();
+        ConcurrencyLimiter limiter = limiters.getLimiter("ds0");
+        Assert.assertEquals(0, limiter.getInFlight());
+        limiter.acquire();
+        try {
+            ps.executeQuery();
+            Assert.fail("limit must be exceeded");
+        }
+        catch (LimitExceededException e) {
+        }
+        Assert.assertEquals(1, ds0.getCallCount("executeQuery"));
+        limiter.release(1, false);
+        ps.executeQuery();
+        Assert.assertEquals(0, limiter.getInFlight());
+        ps.close();
+        con.close();
+    }
+}
@@ -0,0 +1,280 @@
+package unittest;
+
+import halo.dal.DALCurrentStatus;
+import halo.dal.DALFactory;
+import halo.dal.analysis.DefPartitionParserFactory;
+import halo.dal.analysis.PartitionParser;
+import halo.dal.sql.DALConnection;
+import halo.dal.sql.DALDataSource;
+import halo.dal.sql.pool.ShardPool;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import javax.sql.DataSource;
+
+import junit.framework.Assert;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import unittest.mock.MockDataSource;
+
+public class DALConnectionTest {
+
+    MockDataSource ds0 = new MockDataSource("ds0");
+
+    MockDataSource ds1 = new MockDataSource("ds1");
+
+    MockDataSource ds2 = new MockDataSource("ds2");
+
+    DALDataSource dalDataSource;
+
+    @Before
+    public void before() {
+        Map<String, DataSource> dataSourceMap = new HashMap<String, DataSource>();
+        dataSourceMap.put("ds0", ds0);
+        dataSourceMap.put("ds1", ds1);
+        dataSourceMap.put("ds2", ds2);
+        dataSourceMap.put(DALDataSource.DSKEY_DEFAULT, ds0);
+        dalDataSource = new DALDataSource();
+        dalDataSource.setDataSourceMap(dataSourceMap);
+        dalDataSource.setParallelCompletion(true);
+        DALFactory dalFactory = new DALFactory();
+        DefPartitionParserFactory parserFactory = new DefPartitionParserFactory();
+        parserFactory.setParserMap(new HashMap<String, PartitionParser>());
+        dalFactory.setPartitionParserFactory(parserFactory);
+    }
+
+    @After
+    public void after() {
+        DALCurrentStatus.remove();
+    }
+
+    private DALConnection openAll() throws SQLException {
+        DALConnection con = (DALConnection) dalDataSource.getConnection();
+        con.setAutoCommit(false);
+        con.getRealConnection("ds0");
+        con.getRealConnection("ds1");
+        con.getRealConnection("ds2");
+        ds0.clear();
+        ds1.clear();
+        ds2.clear();
+        return con;
+    }
+
+    @Test
+    public void parallelCommit() throws Exception {
+        DALConnection con = openAll();
+        con.commit();
+        con.close();
+        Assert.assertEquals(1, ds0.getCallCount("commit"));
+        Assert.assertEquals(1, ds1.getCallCount("commit"));
+        Assert.assertEquals(1, ds2.getCallCount("commit"));
+        Assert.assertEquals(1, ds2.getCallCount("close"));
+        Assert.assertTrue(ds1.getThreadNames().get(0).startsWith("halo-dal-"));
+    }
+
+    @Test
+    public void parallelRollbackFailed() throws Exception {
+        DALConnection con = openAll();
+        ds0.setFailMethod("rollback");
+        ds2.setFailMethod("rollback");
+        try {
+            con.rollback();
+            Assert.fail("rollback must fail");
+        }
+        catch (SQLException e) {
+            // 按照数据源的使用顺序
+            Assert.assertEquals("rollback failed on ds0", e.getMessage());
+            Assert.assertEquals("rollback failed on ds2", e
+                    .getNextException().getMessage());
+        }
+        // 其他数据源仍然回滚
+        Assert.assertEquals(1, ds1.getCallCount("rollback"));
+        con.close();
+        Assert.assertEquals(1, ds0.getCallCount("close"));
+    }
+
+    @Test
+    public void parallelRollbackRunsEveryShard() throws Exception {
+        // 单线程执行时，ds0失败之后ds1与ds2的回滚还没有开始，仍然需要执行
+        ExecutorService executorService = Executors.newSingleThreadExecutor();
+        DALFactory.getDefault().setExecutorService(executorService);
+        try {
+            DALConnection con = openAll();
+            ds0.setFailMethod("rollback");
+            ds2.setFailMethod("rollback");
+            try {
+                con.rollback();
+                Assert.fail("rollback must fail");
+            }
+            catch (SQLException e) {
+                Assert.assertEquals("rollback failed on ds0", e.getMessage());
+                Assert.assertEquals("rollback failed on ds2", e
+                        .getNextException().getMessage());
+            }
+            Assert.assertEquals(1, ds1.getCallCount("rollback"));
+            Assert.assertEquals(1, ds2.getCallCount("rollback"));
+            con.close();
+            Assert.assertEquals(1, ds1.getCallCount("close"));
+            Assert.assertEquals(1, ds2.getCallCount("close"));
+        }
+        finally {
+            executorService.shutdown();
+        }
+    }
+
+    @Test
+    public void orderedCommit() throws Exception {
+        List<String> eventLog = Collections
+                .synchronizedList(new ArrayList<String>());
+        ds0.setEventLog(eventLog);
+        ds2.setEventLog(eventLog);
+        dalDataSource.setParallelCompletion(false);
+        dalDataSource.setOrderedLocking(true);
+        DALConnection con = (DALConnection) dalDataSource.getConnection();
+        con.setAutoCommit(false);
+        con.getRealConnection("ds2");
+        con.getRealConnection("ds0");
+        eventLog.clear();
+        con.commit();
+        con.close();
+        // 按照dsKey的顺序提交，与使用顺序无关
+        Assert.assertEquals(Arrays.asList("ds0.commit", "ds2.commit",
+                "ds0.close", "ds2.close"), eventLog);
+    }
+
+    @Test
+    public void connectionStateTracking() throws Exception {
+        Map<String, DataSource> dataSourceMap = new HashMap<String, DataSource>();
+        dataSourceMap.put("ds0", ds0);
+        dataSourceMap.put("ds1", ds1);
+        dataSourceMap.put(DALDataSource.DSKEY_DEFAULT, ds0);
+        ShardPool shardPool = new ShardPool();
+        shardPool.setDataSourceMap(dataSourceMap);
+        shardPool.setAdjustInterval(0);
+        shardPool.init();
+        try {
+            dalDataSource.setDataSourceMap(shardPool.getDataSourceMap());
+            int loops = 1000;
+            int untracked = this.countStateSetters(loops);
+            dalDataSource.setConnectionStateTracking(true);
+            ds1.clear();
+            int tracked = this.countStateSetters(loops);
+            Assert.assertEquals(2 * loops, untracked);
+            // 只有第一次使用物理连接时设置
+            Assert.assertEquals(2, tracked);
+            // 属性变化时重新设置
+            ds1.clear();
+            DALConnection con = (DALConnection) dalDataSource.getConnection();
+            con.getRealConnection("ds1");
+            con.close();
+            Assert.assertEquals(1, ds1.getCallCount("setAutoCommit"));
+            Assert.assertEquals(0, ds1.getCallCount("setTransactionIsolation"));
+        }
+        finally {
+            shardPool.destroy();
+        }
+    }
+
+    @Test
+    public void connectionStateTrackingOtherPool() throws Exception {
+        // 其他连接池归还连接时可能重置属性，每次都设置
+        ds1.setReuseConnection(true);
+        dalDataSource.setConnectionStateTracking(true);
+        Assert.assertEquals(2 * 10, this.countStateSetters(10));
+    }
+
+    /**
+     * @return 真实Connection上setAutoCommit与setTransactionIsolation的调用次数
+     */
+    private int countStateSetters(int loops) throws SQLException {
+        for (int i = 0; i < loops; i++) {
+            DALConnection con = (DALConnection) dalDataSource.getConnection();
+            con.setAutoCommit(false);
+            con.setTransactionIsolation(Connection.TRANSACTION_READ_COMMITTED);
+            con.getRealConnection("ds1");
+            con.commit();
+            con.close();
+        }
+        return ds1.getCallCount("setAutoCommit")
+                + ds1.getCallCount("setTransactionIsolation");
+    }
+
+    @Test
+    public void warmUp() throws Exception {
+        Map<String, List<String>> statements = new HashMap<String, List<String>>();
+        statements.put("ds1", Arrays.asList("select * from user1 where userid=?",
+                "update user1 set stat=? where userid=?"));
+        dalDataSource.setWarmUpConnections(2);
+        dalDataSource.setWarmUpStatements(statements);
+        Assert.assertFalse(dalDataSource.isReady());
+        dalDataSource.warmUp();
+        Assert.assertTrue(dalDataSource.isReady());
+        Assert.assertEquals(Arrays.asList("ds0", "ds1", "ds2"),
+                new ArrayList<String>(dalDataSource.getWarmUpTimes().keySet()));
+        for (MockDataSource ds : Arrays.asList(ds0, ds1, ds2)) {
+            Assert.assertEquals(2, ds.getCallCount("getConnection"));
+            Assert.assertEquals(2, ds.getCallCount("isValid"));
+        }
+        Assert.assertEquals(2, ds0.getCallCount("close"));
+        Assert.assertEquals(4, ds1.getCallCount("prepareStatement"));
+        // 2个连接与4个PreparedStatement
+        Assert.assertEquals(6, ds1.getCallCount("close"));
+        Assert.assertEquals(0, ds0.getCallCount("prepareStatement"));
+    }
+
+    @Test
+    public void warmUpParallel() throws Exception {
+        dalDataSource.setWarmUpConnections(2);
+        for (MockDataSource ds : Arrays.asList(ds0, ds1, ds2)) {
+            ds.setConnectDelay(300);
+        }
+        long begin = System.currentTimeMillis();
+        dalDataSource.warmUp();
+        // 同一个数据源的连接也是并行打开的
+        Assert.assertTrue(System.currentTimeMillis() - begin < 550);
+        Assert.assertEquals(2, ds1.getCallCount("getConnection"));
+    }
+
+    @Test
+    public void warmUpFailure() throws Exception {
+        ds0.setDown(true);
+        ds2.setDown(true);
+        try {
+            dalDataSource.warmUp();
+            Assert.fail("ds0 and ds2 are down");
+        }
+        catch (SQLException e) {
+            // 收集所有失败，按照数据源的顺序
+            Assert.assertTrue(e.getMessage().indexOf("ds0") != -1);
+            Assert.assertNotNull(e.getNextException());
+            Assert.assertTrue(e.getNextException().getMessage()
+                    .indexOf("ds2") != -1);
+        }
+        Assert.assertFalse(dalDataSource.isReady());
+        Assert.assertEquals(1, ds1.getCallCount("close"));
+    }
+
+    @Test
+    public void singleConnectionInCurrentThread() throws Exception {
+        DALConnection con = (DALConnection) dalDataSource.getConnection();
+        con.setAutoCommit(false);
+        con.getRealConnection("ds1");
+        ds1.clear();
+        con.commit();
+        con.close();
+        Assert.assertEquals(Thread.currentThread().getName(), ds1
+                .getThreadNames().get(0));
+    }
+}
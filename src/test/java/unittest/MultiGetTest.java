@@ -0,0 +1,130 @@
+package unittest;
+
+import halo.dal.DALCurrentStatus;
+import halo.dal.DALFactory;
+import halo.dal.DALMultiGet;
+import halo.dal.DALRunTimeException;
+import halo.dal.analysis.DefPartitionParserFactory;
+import halo.dal.analysis.PartitionParser;
+import halo.dal.sql.DALDataSource;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import javax.sql.DataSource;
+
+import junit.framework.Assert;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import unittest.mock.MockDataSource;
+
+public class MultiGetTest {
+
+    MockDataSource ds0 = new MockDataSource("ds0");
+
+    MockDataSource ds1 = new MockDataSource("ds1");
+
+    DALMultiGet multiGet;
+
+    DALMultiGet.RowMapper<String> nameMapper = new DALMultiGet.RowMapper<String>() {
+
+        public String mapRow(ResultSet rs) throws SQLException {
+            return rs.getString("name");
+        }
+    };
+
+    @Before
+    public void before() {
+        Map<String, DataSource> dataSourceMap = new HashMap<String, DataSource>();
+        dataSourceMap.put("ds0", ds0);
+        dataSourceMap.put("ds1", ds1);
+        dataSourceMap.put(DALDataSource.DSKEY_DEFAULT, ds0);
+        DALDataSource dalDataSource = new DALDataSource();
+        dalDataSource.setDataSourceMap(dataSourceMap);
+        DALFactory dalFactory = new DALFactory();
+        Map<String, PartitionParser> parserMap = new HashMap<String, PartitionParser>();
+        parserMap.put("user", new RoutingTest.ModParser("userid"));
+        DefPartitionParserFactory parserFactory = new DefPartitionParserFactory();
+        parserFactory.setParserMap(parserMap);
+        dalFactory.setPartitionParserFactory(parserFactory);
+        multiGet = new DALMultiGet(dalDataSource);
+        ds0.setResult(new String[] { "userid", "name" }, new Object[] { 2,
+                "b" }, new Object[] { 4, "d" });
+        ds1.setResult(new String[] { "userid", "name" }, new Object[] { 1,
+                "a" }, new Object[] { 3, "c" });
+    }
+
+    @After
+    public void after() {
+        DALCurrentStatus.remove();
+    }
+
+    @Test
+    public void getList() throws Exception {
+        List<String> list = multiGet.getList(
+                "select * from user where userid in (?)", new long[] { 3, 1,
+                        2, 4, 3, 9 }, "userid", nameMapper);
+        Assert.assertEquals(Arrays.asList("c", "a", "b", "d", "c", null),
+                list);
+        Assert.assertEquals(
+                Arrays.asList("select * from user1 where userid in (?,?,?)"),
+                ds1.getSqls());
+        Assert.assertEquals("{1=3, 2=1, 3=9}", ds1.getParameters(0)
+                .toString());
+        Assert.assertEquals(
+                Arrays.asList("select * from user0 where userid in (?,?)"),
+                ds0.getSqls());
+        Assert.assertEquals("{1=2, 2=4}", ds0.getParameters(0).toString());
+        // ResultSet, PreparedStatement, Connection 都已关闭
+        Assert.assertEquals(3, ds0.getCallCount("close"));
+    }
+
+    @Test
+    public void getMap() throws Exception {
+        Map<Long, String> map = multiGet.getMap(
+                "select * from user where userid in (?)", new long[] { 4, 9,
+                        1 }, "userid", nameMapper);
+        Assert.assertEquals("{4=d, 1=a}", map.toString());
+    }
+
+    @Test
+    public void batchSize() throws Exception {
+        multiGet.setBatchSize(2);
+        multiGet.getList("select * from user where userid in (?)",
+                new long[] { 1, 3, 5, 7, 9 }, "userid", nameMapper);
+        Assert.assertEquals(Arrays.asList(
+                "select * from user1 where userid in (?,?)",
+                "select * from user1 where userid in (?,?)",
+                "select * from user1 where userid in (?)"), ds1.getSqls());
+        Assert.assertEquals("{1=9}", ds1.getParameters(2).toString());
+        Assert.assertEquals(1, ds1.getCallCount("getConnection"));
+        Assert.assertEquals(0, ds0.getSqls().size());
+    }
+
+    @Test
+    public void emptyKeys() throws Exception {
+        Assert.assertTrue(multiGet.getMap(
+                "select * from user where userid in (?)", new long[0],
+                "userid", nameMapper).isEmpty());
+        Assert.assertEquals(0, ds0.getCallCount("getConnection"));
+    }
+
+    @Test
+    public void otherParameter() throws Exception {
+        try {
+            multiGet.getList(
+                    "select * from user where userid in (?) and stat=?",
+                    new long[] { 1 }, "userid", nameMapper);
+            Assert.fail("must have only one parameter");
+        }
+        catch (DALRunTimeException e) {
+        }
+    }
+}
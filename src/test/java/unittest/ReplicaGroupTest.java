@@ -0,0 +1,582 @@
+package unittest;
+
+import halo.dal.DALCurrentStatus;
+import halo.dal.DALFactory;
+import halo.dal.analysis.DefPartitionParserFactory;
+import halo.dal.analysis.PartitionParser;
+import halo.dal.metrics.DALMetrics;
+import halo.dal.sql.DALDataSource;
+import halo.dal.sql.RetryPolicy;
+import halo.dal.sql.replica.LeastOutstandingReplicaSelector;
+import halo.dal.sql.replica.Replica;
+import halo.dal.sql.replica.ReplicaGroup;
+import halo.dal.sql.replica.ReplicaLagProbe;
+import halo.dal.sql.replica.ReplicaSelector;
+import halo.dal.sql.replica.WeightedReplicaSelector;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RunnableFuture;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import javax.sql.DataSource;
+
+import junit.framework.Assert;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import unittest.mock.MockDataSource;
+
+public class ReplicaGroupTest {
+
+    MockDataSource master = new MockDataSource("master");
+
+    MockDataSource slave0 = new MockDataSource("slave0");
+
+    MockDataSource slave1 = new MockDataSource("slave1");
+
+    ReplicaGroup replicaGroup;
+
+    @Before
+    public void before() {
+        DALFactory dalFactory = new DALFactory();
+        DefPartitionParserFactory parserFactory = new DefPartitionParserFactory();
+        parserFactory.setParserMap(new HashMap<String, PartitionParser>());
+        dalFactory.setPartitionParserFactory(parserFactory);
+        replicaGroup = new ReplicaGroup();
+        replicaGroup.setMaster(master);
+        replicaGroup.setHealthCheckInterval(0);
+        List<Replica> replicas = new ArrayList<Replica>();
+        replicas.add(new Replica("slave0", slave0));
+        replicas.add(new Replica("slave1", slave1));
+        replicaGroup.setReplicas(replicas);
+    }
+
+    @After
+    public void after() {
+        DALCurrentStatus.remove();
+        replicaGroup.close();
+    }
+
+    @Test
+    public void roundRobin() throws Exception {
+        for (int i = 0; i < 10; i++) {
+            replicaGroup.getReadConnection().close();
+        }
+        Assert.assertEquals(5, slave0.getCallCount("getConnection"));
+        Assert.assertEquals(5, slave1.getCallCount("getConnection"));
+        Assert.assertEquals(0, master.getCallCount("getConnection"));
+    }
+
+    @Test
+    public void weighted() throws Exception {
+        replicaGroup.getReplicas()[1].setWeight(3);
+        replicaGroup.setReplicaSelector(new WeightedReplicaSelector());
+        for (int i = 0; i < 8; i++) {
+            replicaGroup.getReadConnection().close();
+        }
+        Assert.assertEquals(2, slave0.getCallCount("getConnection"));
+        Assert.assertEquals(6, slave1.getCallCount("getConnection"));
+    }
+
+    @Test
+    public void leastOutstanding() throws Exception {
+        replicaGroup.setReplicaSelector(new LeastOutstandingReplicaSelector());
+        Connection con0 = replicaGroup.getReadConnection();
+        Connection con1 = replicaGroup.getReadConnection();
+        Connection con2 = replicaGroup.getReadConnection();
+        Assert.assertEquals(2, slave0.getCallCount("getConnection")
+                + slave1.getCallCount("getConnection") - 1);
+        Assert.assertEquals(2,
+                replicaGroup.getReplicas()[0].getOutstanding()
+                        + replicaGroup.getReplicas()[1].getOutstanding() - 1);
+        con0.close();
+        con1.close();
+        con2.close();
+        Assert.assertEquals(0, replicaGroup.getReplicas()[0].getOutstanding());
+        Assert.assertEquals(0, replicaGroup.getReplicas()[1].getOutstanding());
+    }
+
+    @Test
+    public void ejectAndRecover() throws Exception {
+        slave0.setDown(true);
+        for (int i = 0; i < 10; i++) {
+            replicaGroup.getReadConnection().close();
+        }
+        Assert.assertFalse(replicaGroup.getReplicas()[0].isHealthy());
+        Assert.assertTrue(replicaGroup.getReplicas()[1].isHealthy());
+        Assert.assertEquals(10, slave1.getCallCount("getConnection"));
+        slave0.setDown(false);
+        replicaGroup.checkHealth();
+        Assert.assertTrue(replicaGroup.getReplicas()[0].isHealthy());
+        // 所有读库不可用时使用主库
+        slave0.setDown(true);
+        slave1.setDown(true);
+        replicaGroup.checkHealth();
+        replicaGroup.getReadConnection().close();
+        Assert.assertEquals(1, master.getCallCount("getConnection"));
+    }
+
+    @Test
+    public void skipLaggingReplica() throws Exception {
+        replicaGroup.setMaxLag(1000);
+        replicaGroup.setLagProbe(new ReplicaLagProbe() {
+
+            public long getLag(Connection con) throws SQLException {
+                if (con.toString().indexOf("slave0") != -1) {
+                    return 5000;
+                }
+                return 0;
+            }
+        });
+        replicaGroup.checkHealth();
+        Assert.assertTrue(replicaGroup.getReplicas()[0].isLagging());
+        Assert.assertEquals(5000, replicaGroup.getReplicas()[0].getLag());
+        slave0.clear();
+        slave1.clear();
+        for (int i = 0; i < 4; i++) {
+            replicaGroup.getReadConnection().close();
+        }
+        Assert.assertEquals(0, slave0.getCallCount("getConnection"));
+        Assert.assertEquals(4, slave1.getCallCount("getConnection"));
+    }
+
+    @Test
+    public void lagProbeErrorKeepsLastState() throws Exception {
+        final boolean[] probeDown = new boolean[1];
+        replicaGroup.setMaxLag(1000);
+        replicaGroup.setLagProbe(new ReplicaLagProbe() {
+
+            public long getLag(Connection con) throws SQLException {
+                if (probeDown[0]) {
+                    throw new SQLException("show slave status failed");
+                }
+                if (con.toString().indexOf("slave0") != -1) {
+                    return 5000;
+                }
+                return 0;
+            }
+        });
+        replicaGroup.checkHealth();
+        probeDown[0] = true;
+        replicaGroup.checkHealth();
+        // 延迟未知时保留上一次的结果，读库不会因为获取延迟失败被摘除
+        Assert.assertTrue(replicaGroup.getReplicas()[0].isLagging());
+        Assert.assertEquals(5000, replicaGroup.getReplicas()[0].getLag());
+        Assert.assertTrue(replicaGroup.getReplicas()[1].isHealthy());
+        Assert.assertTrue(replicaGroup.getReplicas()[1].isAvailable());
+    }
+
+    @Test
+    public void readOnlySelectUseReplica() throws Exception {
+        Connection con = this.createDALDataSource().getConnection();
+        con.setReadOnly(true);
+        this.select(con);
+        this.update(con);
+        con.close();
+        Assert.assertEquals(1, slave0.getSqls().size()
+                + slave1.getSqls().size());
+        Assert.assertEquals("update robot set name=? where rid=?", master
+                .getSqls().get(0));
+    }
+
+    @Test
+    public void readYourWrites() throws Exception {
+        Connection con = this.createDALDataSource().getConnection();
+        con.setReadOnly(true);
+        this.update(con);
+        this.select(con);
+        con.close();
+        Assert.assertEquals(0, slave0.getSqls().size()
+                + slave1.getSqls().size());
+        Assert.assertEquals(2, master.getSqls().size());
+    }
+
+    @Test
+    public void readYourWritesDisabled() throws Exception {
+        replicaGroup.setReadYourWritesWindow(0);
+        Connection con = this.createDALDataSource().getConnection();
+        con.setReadOnly(true);
+        this.update(con);
+        this.select(con);
+        con.close();
+        Assert.assertEquals(1, slave0.getSqls().size()
+                + slave1.getSqls().size());
+        Assert.assertEquals(1, master.getSqls().size());
+    }
+
+    @Test
+    public void autoCommitSelectUseReplica() throws Exception {
+        Connection con = this.createDALDataSource().getConnection();
+        this.select(con);
+        PreparedStatement ps = con
+                .prepareStatement("select * from robot where rid=? for update");
+        ps.setInt(1, 1);
+        ps.executeQuery();
+        ps.close();
+        con.close();
+        Assert.assertEquals(1, slave0.getSqls().size()
+                + slave1.getSqls().size());
+        Assert.assertEquals(1, master.getSqls().size());
+    }
+
+    @Test
+    public void lockingReadUseMaster() throws Exception {
+        Connection con = this.createDALDataSource().getConnection();
+        String[] sqls = new String[] {
+                "select * from robot where rid=? for update nowait",
+                "select * from robot where rid=? FOR UPDATE SKIP LOCKED",
+                "select * from robot where rid=? for share",
+                "select * from robot where rid=? lock in share mode /* lock */",
+                "select * from robot where rid=? for update -- lock" };
+        for (String sql : sqls) {
+            PreparedStatement ps = con.prepareStatement(sql);
+            ps.setInt(1, 1);
+            ps.executeQuery();
+            ps.close();
+        }
+        PreparedStatement ps = con
+                .prepareStatement("select * from robot where rid=? and name<>'for update'");
+        ps.setInt(1, 1);
+        ps.executeQuery();
+        ps.close();
+        con.close();
+        Assert.assertEquals(sqls.length, master.getSqls().size());
+        Assert.assertEquals(1, slave0.getSqls().size()
+                + slave1.getSqls().size());
+    }
+
+    @Test
+    public void transactionSelectUseMaster() throws Exception {
+        Connection con = this.createDALDataSource().getConnection();
+        con.setAutoCommit(false);
+        this.select(con);
+        con.commit();
+        con.close();
+        Assert.assertEquals(0, slave0.getSqls().size()
+                + slave1.getSqls().size());
+        Assert.assertEquals(1, master.getSqls().size());
+    }
+
+    @Test
+    public void warmUpReplicas() throws Exception {
+        DALDataSource dalDataSource = this.createDALDataSource();
+        dalDataSource.warmUp();
+        Assert.assertTrue(dalDataSource.isReady());
+        for (MockDataSource ds : Arrays.asList(master, slave0, slave1)) {
+            Assert.assertEquals(1, ds.getCallCount("getConnection"));
+            Assert.assertEquals(1, ds.getCallCount("close"));
+        }
+        String key = DALDataSource.DSKEY_DEFAULT;
+        Assert.assertEquals(Arrays.asList(key, key + ".slave0", key
+                + ".slave1"), new ArrayList<String>(dalDataSource
+                .getWarmUpTimes().keySet()));
+        slave0.setDown(true);
+        try {
+            dalDataSource.warmUp();
+            Assert.fail("slave0 is down");
+        }
+        catch (SQLException e) {
+            Assert.assertTrue(e.getMessage().indexOf("slave0") != -1);
+        }
+        Assert.assertFalse(dalDataSource.isReady());
+        Assert.assertEquals(2, slave1.getCallCount("getConnection"));
+    }
+
+    @Test
+    public void hedgedRead() throws Exception {
+        this.prepareHedge(1.0);
+        slave0.setQueryDelay(3000);
+        slave1.setResult(new String[] { "name" }, new Object[] { "slave1" });
+        DALDataSource dalDataSource = this.createDALDataSource();
+        Connection con = dalDataSource.getConnection();
+        DALCurrentStatus.setHedgedRead(true);
+        long begin = System.currentTimeMillis();
+        PreparedStatement ps = con
+                .prepareStatement("select * from robot where rid=?");
+        ps.setInt(1, 1);
+        ResultSet rs = ps.executeQuery();
+        Assert.assertTrue(rs.next());
+        Assert.assertEquals("slave1", rs.getString("name"));
+        Assert.assertTrue(System.currentTimeMillis() - begin < 3000);
+        rs.close();
+        ps.close();
+        con.close();
+        Assert.assertEquals(1, slave0.getCallCount("cancel"));
+        Assert.assertEquals(1, slave1.getCallCount("executeQuery"));
+        DALMetrics metrics = dalDataSource.getMetrics();
+        Assert.assertEquals(1, metrics.getCount(DALMetrics.HEDGE_FIRED,
+                DALDataSource.DSKEY_DEFAULT));
+        Assert.assertEquals(1, metrics.getCount(DALMetrics.HEDGE_WON,
+                DALDataSource.DSKEY_DEFAULT));
+    }
+
+    @Test
+    public void hedgedReadLoserCompletesFirst() throws Exception {
+        // 胜出的查询返回结果后延迟完成，输掉的查询先完成
+        ExecutorService executorService = this.delayWinnerExecutor(200);
+        DALFactory.getDefault().setExecutorService(executorService);
+        try {
+            this.prepareHedge(1.0);
+            slave0.setQueryDelay(50);
+            slave1.setResult(new String[] { "name" },
+                    new Object[] { "slave1" });
+            DALDataSource dalDataSource = this.createDALDataSource();
+            Connection con = dalDataSource.getConnection();
+            DALCurrentStatus.setHedgedRead(true);
+            PreparedStatement ps = con
+                    .prepareStatement("select * from robot where rid=?");
+            ps.setInt(1, 1);
+            ResultSet rs = ps.executeQuery();
+            Assert.assertNotNull(rs);
+            Assert.assertTrue(rs.next());
+            Assert.assertEquals("slave1", rs.getString("name"));
+            rs.close();
+            ps.close();
+            con.close();
+            Assert.assertEquals(1, dalDataSource.getMetrics().getCount(
+                    DALMetrics.HEDGE_WON, DALDataSource.DSKEY_DEFAULT));
+            // 胜出的对冲查询关闭结果、语句与连接
+            Assert.assertEquals(3, slave1.getCallCount("close"));
+        }
+        finally {
+            executorService.shutdown();
+        }
+    }
+
+    @Test
+    public void hedgedReadWinnerStatement() throws Exception {
+        this.prepareHedge(1.0);
+        slave0.setQueryDelay(3000);
+        slave1.setResult(new String[] { "name" }, new Object[] { "slave1" });
+        DALDataSource dalDataSource = this.createDALDataSource();
+        Connection con = dalDataSource.getConnection();
+        DALCurrentStatus.setHedgedRead(true);
+        PreparedStatement ps = con
+                .prepareStatement("select * from robot where rid=?");
+        ps.setInt(1, 1);
+        ResultSet rs = ps.executeQuery();
+        // 返回前第一次查询已经结束
+        Assert.assertEquals(1, slave0.getCallCount("cancelled"));
+        Assert.assertSame(rs, ps.getResultSet());
+        ps.getMetaData();
+        Assert.assertEquals(0, slave0.getCallCount("getMetaData"));
+        Assert.assertEquals(1, slave1.getCallCount("getMetaData"));
+        // 关闭语句时关闭对冲查询的结果、语句与连接
+        ps.close();
+        Assert.assertEquals(3, slave1.getCallCount("close"));
+        con.close();
+    }
+
+    @Test
+    public void hedgedReadInterruptedAfterHedgeWon() throws Exception {
+        // 对冲查询胜出后延迟完成，调用者在等待时被中断
+        ExecutorService executorService = this.delayWinnerExecutor(300);
+        DALFactory.getDefault().setExecutorService(executorService);
+        try {
+            this.prepareHedge(1.0);
+            slave0.setQueryDelay(3000);
+            slave1.setResult(new String[] { "name" },
+                    new Object[] { "slave1" });
+            DALDataSource dalDataSource = this.createDALDataSource();
+            Connection con = dalDataSource.getConnection();
+            DALCurrentStatus.setHedgedRead(true);
+            PreparedStatement ps = con
+                    .prepareStatement("select * from robot where rid=?");
+            ps.setInt(1, 1);
+            final Thread caller = Thread.currentThread();
+            Thread interrupter = new Thread() {
+
+                @Override
+                public void run() {
+                    try {
+                        while (slave1.getCallCount("executeQuery") == 0) {
+                            Thread.sleep(10);
+                        }
+                        Thread.sleep(50);
+                    }
+                    catch (InterruptedException e) {
+                        return;
+                    }
+                    caller.interrupt();
+                }
+            };
+            interrupter.start();
+            try {
+                ps.executeQuery();
+                Assert.fail("query must be interrupted");
+            }
+            catch (SQLException e) {
+                Assert.assertTrue(e.getMessage().indexOf("interrupted") != -1);
+            }
+            finally {
+                // 放弃等待时保留了中断状态
+                Thread.interrupted();
+                interrupter.join();
+            }
+            executorService.shutdown();
+            Assert.assertTrue(executorService.awaitTermination(3000,
+                    TimeUnit.MILLISECONDS));
+            Assert.assertEquals(1, slave0.getCallCount("cancel"));
+            // 胜出的对冲查询的结果、语句与连接已经关闭
+            Assert.assertEquals(3, slave1.getCallCount("close"));
+            ps.close();
+            con.close();
+        }
+        finally {
+            executorService.shutdown();
+        }
+    }
+
+    @Test
+    public void hedgedReadTable() throws Exception {
+        this.prepareHedge(1.0);
+        slave0.setQueryDelay(30);
+        slave1.setQueryDelay(3000);
+        List<String> tables = new ArrayList<String>();
+        tables.add("robot");
+        DALFactory.getDefault().setHedgedTables(tables);
+        DALDataSource dalDataSource = this.createDALDataSource();
+        Connection con = dalDataSource.getConnection();
+        this.select(con);
+        con.close();
+        // 主查询先返回，对冲查询被取消
+        DALMetrics metrics = dalDataSource.getMetrics();
+        Assert.assertEquals(1, metrics.getCount(DALMetrics.HEDGE_FIRED,
+                DALDataSource.DSKEY_DEFAULT));
+        Assert.assertEquals(0, metrics.getCount(DALMetrics.HEDGE_WON,
+                DALDataSource.DSKEY_DEFAULT));
+        Assert.assertEquals(0, slave0.getCallCount("cancel"));
+        Assert.assertEquals(1, slave1.getCallCount("cancel"));
+    }
+
+    @Test
+    public void hedgeBudget() throws Exception {
+        this.prepareHedge(0);
+        slave0.setQueryDelay(30);
+        DALDataSource dalDataSource = this.createDALDataSource();
+        Connection con = dalDataSource.getConnection();
+        DALCurrentStatus.setHedgedRead(true);
+        this.select(con);
+        con.close();
+        Assert.assertEquals(0, slave1.getCallCount("getConnection"));
+        Assert.assertEquals(0, dalDataSource.getMetrics().getCount(
+                DALMetrics.HEDGE_FIRED, DALDataSource.DSKEY_DEFAULT));
+    }
+
+    @Test
+    public void retryOnOtherReplica() throws Exception {
+        replicaGroup.setReplicaSelector(new FirstAvailableSelector());
+        slave0.setFailMethod("executeQuery", "08S01", -1);
+        slave1.setResult(new String[] { "name" }, new Object[] { "slave1" });
+        RetryPolicy retryPolicy = new RetryPolicy();
+        retryPolicy.setInitialBackoff(1);
+        DALDataSource dalDataSource = this.createDALDataSource();
+        dalDataSource.setRetryPolicy(retryPolicy);
+        Connection con = dalDataSource.getConnection();
+        PreparedStatement ps = con
+                .prepareStatement("select * from robot where rid=?");
+        ps.setInt(1, 1);
+        ResultSet rs = ps.executeQuery();
+        Assert.assertTrue(rs.next());
+        Assert.assertEquals("slave1", rs.getString("name"));
+        rs.close();
+        ps.close();
+        con.close();
+        Assert.assertEquals(1, slave0.getCallCount("executeQuery"));
+        Assert.assertEquals(1, slave1.getCallCount("executeQuery"));
+        Assert.assertEquals(1, dalDataSource.getMetrics().getCount(
+                DALMetrics.RETRY, DALDataSource.DSKEY_DEFAULT));
+    }
+
+    /**
+     * @param delay
+     *            胜出的查询返回结果后延迟完成的时间(毫秒)
+     */
+    private ExecutorService delayWinnerExecutor(final long delay) {
+        return new ThreadPoolExecutor(2, 2, 0, TimeUnit.MILLISECONDS,
+                new LinkedBlockingQueue<Runnable>()) {
+
+            @Override
+            protected <T> RunnableFuture<T> newTaskFor(
+                    final Callable<T> callable) {
+                return new FutureTask<T>(new Callable<T>() {
+
+                    public T call() throws Exception {
+                        T result = callable.call();
+                        if (result != null) {
+                            Thread.sleep(delay);
+                        }
+                        return result;
+                    }
+                });
+            }
+        };
+    }
+
+    /**
+     * 查询总是选择slave0，读请求的p95耗时为1毫秒，对冲等待5毫秒
+     */
+    private void prepareHedge(double hedgeBudget) {
+        replicaGroup.setReplicaSelector(new FirstAvailableSelector());
+        replicaGroup.setHedgeBudget(hedgeBudget);
+        for (int i = 0; i < 32; i++) {
+            replicaGroup.recordReadLatency(1);
+        }
+        Assert.assertEquals(5, replicaGroup.getHedgeDelay());
+    }
+
+    private DALDataSource createDALDataSource() {
+        Map<String, DataSource> dataSourceMap = new HashMap<String, DataSource>();
+        dataSourceMap.put(DALDataSource.DSKEY_DEFAULT, replicaGroup);
+        DALDataSource dalDataSource = new DALDataSource();
+        dalDataSource.setDataSourceMap(dataSourceMap);
+        return dalDataSource;
+    }
+
+    private void select(Connection con) throws SQLException {
+        PreparedStatement ps = con
+                .prepareStatement("select * from robot where rid=?");
+        ps.setInt(1, 1);
+        ps.executeQuery();
+        ps.close();
+    }
+
+    private void update(Connection con) throws SQLException {
+        PreparedStatement ps = con
+                .prepareStatement("update robot set name=? where rid=?");
+        ps.setString(1, "akwei");
+        ps.setInt(2, 1);
+        ps.executeUpdate();
+        ps.close();
+    }
+
+    /**
+     * 总是选择第一个可用的读库
+     */
+    static class FirstAvailableSelector implements ReplicaSelector {
+
+        public Replica select(Replica[] replicas) {
+            for (Replica replica : replicas) {
+                if (replica.isAvailable()) {
+                    return replica;
+                }
+            }
+            return null;
+        }
+    }
+}
@@ -0,0 +1,1068 @@
+package unittest;
+
+import halo.dal.DALCurrentStatus;
+import halo.dal.DALFactory;
+import halo.dal.DALRunTimeException;
+import halo.dal.analysis.BindingTableRule;
+import halo.dal.analysis.DefPartitionParserFactory;
+import halo.dal.analysis.MonthRangePartitionParser;
+import halo.dal.analysis.PartitionParser;
+import halo.dal.analysis.PartitionTableInfo;
+import halo.dal.analysis.SQLExpression;
+import halo.dal.analysis.SQLExpressionSymbol;
+import halo.dal.analysis.SQLInfo;
+import halo.dal.analysis.ScatterPartitionParser;
+import halo.dal.metrics.DALMetrics;
+import halo.dal.sql.ConnectionStatus;
+import halo.dal.sql.DALConnection;
+import halo.dal.sql.DALDataSource;
+import halo.dal.sql.PartialResult;
+import halo.dal.sql.RetryPolicy;
+import halo.dal.sql.ServerSchema;
+import halo.dal.sql.ShardUpdateCounts;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.SQLTimeoutException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Calendar;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import javax.sql.DataSource;
+
+import junit.framework.Assert;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import unittest.mock.MockDataSource;
+
+public class RoutingTest {
+
+    MockDataSource ds0 = new MockDataSource("ds0");
+
+    MockDataSource ds1 = new MockDataSource("ds1");
+
+    DALDataSource dalDataSource;
+
+    DALFactory dalFactory;
+
+    Map<String, PartitionParser> parserMap;
+
+    @Before
+    public void before() {
+        Map<String, DataSource> dataSourceMap = new HashMap<String, DataSource>();
+        dataSourceMap.put("ds0", ds0);
+        dataSourceMap.put("ds1", ds1);
+        dataSourceMap.put(DALDataSource.DSKEY_DEFAULT, ds0);
+        dalDataSource = new DALDataSource();
+        dalDataSource.setDataSourceMap(dataSourceMap);
+        dalFactory = new DALFactory();
+        parserMap = new HashMap<String, PartitionParser>();
+        parserMap.put("user", new ModParser("userid"));
+        parserMap.put("user_profile", new ModParser("userid"));
+        parserMap.put("orders", new ModParser("oid"));
+        DefPartitionParserFactory parserFactory = new DefPartitionParserFactory();
+        parserFactory.setParserMap(parserMap);
+        dalFactory.setPartitionParserFactory(parserFactory);
+    }
+
+    @After
+    public void after() {
+        DALCurrentStatus.remove();
+    }
+
+    @Test
+    public void bindingTables() throws Exception {
+        List<List<String>> groups = new ArrayList<List<String>>();
+        List<String> group = new ArrayList<String>();
+        group.add("user");
+        group.add("user_profile");
+        groups.add(group);
+        BindingTableRule bindingTableRule = new BindingTableRule();
+        bindingTableRule.setGroups(groups);
+        dalFactory.setBindingTableRule(bindingTableRule);
+        Connection con = dalDataSource.getConnection();
+        PreparedStatement ps = con
+                .prepareStatement("select * from user u,user_profile p where u.userid=? and p.userid=u.userid");
+        ps.setLong(1, 3);
+        ps.executeQuery();
+        con.close();
+        Assert.assertEquals(1, ds1.getSqls().size());
+        Assert.assertEquals(
+                "select * from user1 u,user_profile1 p where u.userid=? and p.userid=u.userid",
+                ds1.getSqls().get(0));
+        Assert.assertEquals(1, ((ModParser) parserMap.get("user")).count);
+        Assert.assertEquals(0,
+                ((ModParser) parserMap.get("user_profile")).count);
+    }
+
+    @Test
+    public void differentDatasource() throws Exception {
+        Connection con = dalDataSource.getConnection();
+        PreparedStatement ps = con
+                .prepareStatement("select * from user u,orders o where u.userid=? and o.oid=?");
+        ps.setLong(1, 3);
+        ps.setLong(2, 4);
+        try {
+            ps.executeQuery();
+            Assert.fail("must not route to different datasources");
+        }
+        catch (DALRunTimeException e) {
+        }
+        con.close();
+        Assert.assertEquals(0, ds0.getSqls().size());
+        Assert.assertEquals(0, ds1.getSqls().size());
+    }
+
+    @Test
+    public void sameDatasource() throws Exception {
+        Connection con = dalDataSource.getConnection();
+        PreparedStatement ps = con
+                .prepareStatement("select * from user u,orders o where u.userid=? and o.oid=?");
+        ps.setLong(1, 3);
+        ps.setLong(2, 5);
+        ps.executeQuery();
+        con.close();
+        Assert.assertEquals(
+                "select * from user1 u,orders1 o where u.userid=? and o.oid=?",
+                ds1.getSqls().get(0));
+    }
+
+    @Test
+    public void broadcastTableRead() throws Exception {
+        dalFactory.setBroadcastTables(Arrays.asList("region"));
+        Connection con = dalDataSource.getConnection();
+        PreparedStatement ps = con
+                .prepareStatement("select * from user u,region r where u.userid=? and r.rid=u.rid");
+        ps.setLong(1, 3);
+        ps.executeQuery();
+        con.close();
+        Assert.assertEquals(0, ds0.getSqls().size());
+        Assert.assertEquals(
+                "select * from user1 u,region r where u.userid=? and r.rid=u.rid",
+                ds1.getSqls().get(0));
+    }
+
+    @Test
+    public void broadcastTableWrite() throws Exception {
+        dalFactory.setBroadcastTables(Arrays.asList("region"));
+        Connection con = dalDataSource.getConnection();
+        con.setAutoCommit(false);
+        PreparedStatement ps = con
+                .prepareStatement("update region set name=? where rid=?");
+        ps.setString(1, "beijing");
+        ps.setInt(2, 1);
+        Assert.assertEquals(1, ps.executeUpdate());
+        con.commit();
+        con.close();
+        Assert.assertEquals("update region set name=? where rid=?", ds0
+                .getSqls().get(0));
+        Assert.assertEquals("update region set name=? where rid=?", ds1
+                .getSqls().get(0));
+        Assert.assertEquals(1, ds0.getCallCount("commit"));
+        Assert.assertEquals(1, ds1.getCallCount("commit"));
+    }
+
+    @Test
+    public void serverSchema() throws Exception {
+        Map<String, DataSource> dataSourceMap = new HashMap<String, DataSource>();
+        dataSourceMap.put("server0", ds0);
+        dataSourceMap.put(DALDataSource.DSKEY_DEFAULT, ds0);
+        Map<String, ServerSchema> serverSchemaMap = new HashMap<String, ServerSchema>();
+        serverSchemaMap.put("ds0", new ServerSchema("server0", "db0"));
+        serverSchemaMap.put("ds1", new ServerSchema("server0", "db1"));
+        dalDataSource.setDataSourceMap(dataSourceMap);
+        dalDataSource.setServerSchemaMap(serverSchemaMap);
+        dalFactory.setBroadcastTables(Arrays.asList("region"));
+        Connection con = dalDataSource.getConnection();
+        con.setAutoCommit(false);
+        PreparedStatement ps = con
+                .prepareStatement("update user set stat=? where userid in (?,?)");
+        ps.setInt(1, 0);
+        ps.setLong(2, 1);
+        ps.setLong(3, 2);
+        ps.executeUpdate();
+        ps.close();
+        ps = con.prepareStatement("update region set name=? where rid=?");
+        ps.setString(1, "beijing");
+        ps.setInt(2, 1);
+        ps.executeUpdate();
+        con.commit();
+        con.close();
+        List<String> sqls = new ArrayList<String>(ds0.getSqls());
+        Collections.sort(sqls);
+        Assert.assertEquals(
+                Arrays.asList("update db0.region set name=? where rid=?",
+                        "update db0.user0 set stat=? where userid in (?)",
+                        "update db1.region set name=? where rid=?",
+                        "update db1.user1 set stat=? where userid in (?)"),
+                sqls);
+        // 同一个服务器上的schema共用一个连接，一次提交
+        Assert.assertEquals(1, ds0.getCallCount("getConnection"));
+        Assert.assertEquals(1, ds0.getCallCount("commit"));
+        Assert.assertEquals(Arrays.asList("ds0", "ds1"),
+                dalDataSource.getPhysicalDsKeys());
+    }
+
+    @Test
+    public void serverSchemaIsClosed() throws Exception {
+        Map<String, DataSource> dataSourceMap = new HashMap<String, DataSource>();
+        dataSourceMap.put("server0", ds0);
+        dataSourceMap.put(DALDataSource.DSKEY_DEFAULT, ds0);
+        Map<String, ServerSchema> serverSchemaMap = new HashMap<String, ServerSchema>();
+        serverSchemaMap.put("ds0", new ServerSchema("server0", "db0"));
+        serverSchemaMap.put("ds1", new ServerSchema("server0", "db1"));
+        dalDataSource.setDataSourceMap(dataSourceMap);
+        dalDataSource.setServerSchemaMap(serverSchemaMap);
+        DALConnection con = (DALConnection) dalDataSource.getConnection();
+        DALCurrentStatus.setDsKey("ds1");
+        Assert.assertTrue(con.isClosed());
+        // 连接按照服务器的key保存
+        con.getRealConnection("ds1");
+        Assert.assertFalse(con.isClosed());
+        DALCurrentStatus.setDsKey("ds0");
+        Assert.assertFalse(con.isClosed());
+        con.close();
+    }
+
+    @Test
+    public void broadcastTableWriteCountDifferent() throws Exception {
+        dalFactory.setBroadcastTables(Arrays.asList("region"));
+        ds1.setUpdateCount(0);
+        Connection con = dalDataSource.getConnection();
+        PreparedStatement ps = con
+                .prepareStatement("delete from region where rid=?");
+        ps.setInt(1, 1);
+        try {
+            ps.executeUpdate();
+            Assert.fail("update count must be same");
+        }
+        catch (SQLException e) {
+            Assert.assertTrue(e.getMessage().indexOf("already committed") != -1);
+        }
+        con.close();
+    }
+
+    @Test
+    public void inListSplit() throws Exception {
+        ds0.setResult(new String[] { "userid" }, new Object[] { 2 },
+                new Object[] { 4 });
+        ds1.setResult(new String[] { "userid" }, new Object[] { 1 },
+                new Object[] { 3 });
+        Connection con = dalDataSource.getConnection();
+        PreparedStatement ps = con
+                .prepareStatement("select * from user where userid in (?,?,?,?) and stat=?");
+        ps.setLong(1, 1);
+        ps.setLong(2, 2);
+        ps.setLong(3, 3);
+        ps.setLong(4, 4);
+        ps.setInt(5, 9);
+        ResultSet rs = ps.executeQuery();
+        int count = 0;
+        while (rs.next()) {
+            count++;
+        }
+        rs.close();
+        con.close();
+        Assert.assertEquals(4, count);
+        Assert.assertEquals(
+                "select * from user1 where userid in (?,?) and stat=?", ds1
+                        .getSqls().get(0));
+        Assert.assertEquals(
+                "select * from user0 where userid in (?,?) and stat=?", ds0
+                        .getSqls().get(0));
+        Assert.assertEquals("{1=1, 2=3, 3=9}", ds1.getParameters(0)
+                .toString());
+        Assert.assertEquals("{1=2, 2=4, 3=9}", ds0.getParameters(0)
+                .toString());
+    }
+
+    @Test
+    public void inListSameShard() throws Exception {
+        Connection con = dalDataSource.getConnection();
+        PreparedStatement ps = con
+                .prepareStatement("select * from user where userid in (?,?)");
+        ps.setLong(1, 1);
+        ps.setLong(2, 3);
+        ps.executeQuery();
+        // 再次执行时使用原始sql进行解析
+        ps.setLong(1, 2);
+        ps.setLong(2, 4);
+        ps.executeQuery();
+        con.close();
+        Assert.assertEquals(1, ds1.getSqls().size());
+        Assert.assertEquals("select * from user1 where userid in (?,?)", ds1
+                .getSqls().get(0));
+        Assert.assertEquals(1, ds0.getSqls().size());
+        Assert.assertEquals("select * from user0 where userid in (?,?)", ds0
+                .getSqls().get(0));
+    }
+
+    @Test
+    public void inListUpdate() throws Exception {
+        ds0.setUpdateCount(2);
+        ds1.setUpdateCount(1);
+        Connection con = dalDataSource.getConnection();
+        PreparedStatement ps = con
+                .prepareStatement("update user set stat=? where userid in (?,?,?)");
+        ps.setInt(1, 0);
+        ps.setLong(2, 1);
+        ps.setLong(3, 2);
+        ps.setLong(4, 4);
+        Assert.assertEquals(3, ps.executeUpdate());
+        con.close();
+        Assert.assertEquals("update user1 set stat=? where userid in (?)",
+                ds1.getSqls().get(0));
+        Assert.assertEquals("{1=0, 2=1}", ds1.getParameters(0).toString());
+        Assert.assertEquals("update user0 set stat=? where userid in (?,?)",
+                ds0.getSqls().get(0));
+        Assert.assertEquals("{1=0, 2=2, 3=4}", ds0.getParameters(0)
+                .toString());
+    }
+
+    @Test
+    public void inListSplitRejectsCrossPartitionClause() throws Exception {
+        Connection con = dalDataSource.getConnection();
+        String[] sqls = new String[] {
+                "select * from user where userid in (?,?) order by userid",
+                "select count(*) from user where userid in (?,?)" };
+        for (String sql : sqls) {
+            PreparedStatement ps = con.prepareStatement(sql);
+            ps.setLong(1, 1);
+            ps.setLong(2, 2);
+            try {
+                ps.executeQuery();
+                Assert.fail("query spans 2 partitions: " + sql);
+            }
+            catch (DALRunTimeException e) {
+            }
+        }
+        Assert.assertEquals(0, ds0.getSqls().size() + ds1.getSqls().size());
+        // 只路由到一个分区时可以使用
+        PreparedStatement ps = con
+                .prepareStatement("select * from user where userid in (?,?) order by userid");
+        ps.setLong(1, 1);
+        ps.setLong(2, 3);
+        ps.executeQuery();
+        ps = con.prepareStatement("select * from user where userid in (?,?) and name<>'order by'");
+        ps.setLong(1, 1);
+        ps.setLong(2, 2);
+        ps.executeQuery();
+        con.close();
+        Assert.assertEquals(2, ds1.getSqls().size());
+        Assert.assertEquals(1, ds0.getSqls().size());
+    }
+
+    @Test
+    public void multiRowInsert() throws Exception {
+        ds0.setResult(new String[] { "id" }, new Object[] { 102 });
+        ds1.setResult(new String[] { "id" }, new Object[] { 101 },
+                new Object[] { 103 });
+        Connection con = dalDataSource.getConnection();
+        PreparedStatement ps = con.prepareStatement(
+                "insert into user(userid,name) values(?,?),(?,?),(?,?)",
+                Statement.RETURN_GENERATED_KEYS);
+        ps.setLong(1, 1);
+        ps.setString(2, "a");
+        ps.setLong(3, 2);
+        ps.setString(4, "b");
+        ps.setLong(5, 3);
+        ps.setString(6, "c");
+        Assert.assertEquals(2, ps.executeUpdate());
+        Assert.assertEquals(Arrays.asList(
+                "insert into user1(userid,name) values(?,?),(?,?)"),
+                ds1.getSqls());
+        Assert.assertEquals("{1=1, 2=a, 3=3, 4=c}", ds1.getParameters(0)
+                .toString());
+        Assert.assertEquals(
+                Arrays.asList("insert into user0(userid,name) values(?,?)"),
+                ds0.getSqls());
+        Assert.assertEquals("{1=2, 2=b}", ds0.getParameters(0).toString());
+        ResultSet rs = ps.getGeneratedKeys();
+        List<Long> keys = new ArrayList<Long>();
+        while (rs.next()) {
+            keys.add(rs.getLong(1));
+        }
+        rs.close();
+        con.close();
+        Assert.assertEquals(Arrays.asList(101L, 102L, 103L), keys);
+    }
+
+    @Test
+    public void multiRowInsertOnDuplicateKeyUpdate() throws Exception {
+        Connection con = dalDataSource.getConnection();
+        PreparedStatement ps = con
+                .prepareStatement("insert into user(userid,name) values(?,?),(?,?),(?,?) on duplicate key update name=?");
+        ps.setLong(1, 1);
+        ps.setString(2, "a");
+        ps.setLong(3, 2);
+        ps.setString(4, "b");
+        ps.setLong(5, 3);
+        ps.setString(6, "c");
+        ps.setString(7, "d");
+        ps.executeUpdate();
+        con.close();
+        Assert.assertEquals(
+                Arrays.asList("insert into user1(userid,name) values(?,?),(?,?) on duplicate key update name=?"),
+                ds1.getSqls());
+        Assert.assertEquals("{1=1, 2=a, 3=3, 4=c, 5=d}", ds1
+                .getParameters(0).toString());
+        Assert.assertEquals(
+                Arrays.asList("insert into user0(userid,name) values(?,?) on duplicate key update name=?"),
+                ds0.getSqls());
+        Assert.assertEquals("{1=2, 2=b, 3=d}", ds0.getParameters(0)
+                .toString());
+    }
+
+    @Test
+    public void multiRowInsertSameShard() throws Exception {
+        Connection con = dalDataSource.getConnection();
+        PreparedStatement ps = con
+                .prepareStatement("insert into user(userid,name) values(?,?),(?,?)");
+        ps.setLong(1, 1);
+        ps.setString(2, "a");
+        ps.setLong(3, 3);
+        ps.setString(4, "c");
+        ps.executeUpdate();
+        con.close();
+        Assert.assertEquals(0, ds0.getSqls().size());
+        Assert.assertEquals(Arrays.asList(
+                "insert into user1(userid,name) values(?,?),(?,?)"),
+                ds1.getSqls());
+    }
+
+    @Test
+    public void scatterWrite() throws Exception {
+        ds0.setUpdateCount(3);
+        ds1.setUpdateCount(2);
+        DALCurrentStatus.setScatterWrite(true);
+        Connection con = dalDataSource.getConnection();
+        PreparedStatement ps = con
+                .prepareStatement("update user set stat=? where stat=?");
+        ps.setInt(1, 0);
+        ps.setInt(2, 1);
+        Assert.assertEquals(5, ps.executeUpdate());
+        ShardUpdateCounts counts = ps.unwrap(ShardUpdateCounts.class);
+        con.close();
+        Assert.assertEquals("update user0 set stat=? where stat=?", ds0
+                .getSqls().get(0));
+        Assert.assertEquals("update user1 set stat=? where stat=?", ds1
+                .getSqls().get(0));
+        Assert.assertEquals(2, counts.size());
+        Assert.assertEquals("ds0", counts.getDsKey(0));
+        Assert.assertEquals(3, counts.getUpdateCount(0));
+        Assert.assertEquals("ds1", counts.getDsKey(1));
+        Assert.assertEquals(2, counts.getUpdateCount(1));
+        Assert.assertEquals(5, counts.getTotal());
+    }
+
+    @Test
+    public void orderedScatterWrite() throws Exception {
+        List<String> eventLog = Collections
+                .synchronizedList(new ArrayList<String>());
+        ds0.setEventLog(eventLog);
+        ds1.setEventLog(eventLog);
+        dalDataSource.setOrderedLocking(true);
+        DALCurrentStatus.setScatterWrite(true);
+        Connection con = dalDataSource.getConnection();
+        con.setAutoCommit(false);
+        // 先使用ds1
+        PreparedStatement ps = con
+                .prepareStatement("update user set stat=? where userid=?");
+        ps.setInt(1, 0);
+        ps.setLong(2, 1);
+        ps.executeUpdate();
+        ps = con.prepareStatement("update user set stat=? where stat=?");
+        ps.setInt(1, 0);
+        ps.setInt(2, 1);
+        Assert.assertEquals(2, ps.executeUpdate());
+        con.commit();
+        con.close();
+        // 写操作在当前线程中执行，提交按照dsKey的顺序
+        Assert.assertEquals(Thread.currentThread().getName(), ds0
+                .getThreadNames().get(0));
+        Assert.assertEquals("ds0.commit", eventLog.get(eventLog
+                .indexOf("ds1.commit") - 1));
+    }
+
+    @Test
+    public void orderedLockingRead() throws Exception {
+        dalDataSource.setOrderedLocking(true);
+        dalDataSource.setReleaseAfterStatement(true);
+        Connection con = dalDataSource.getConnection();
+        PreparedStatement ps = con
+                .prepareStatement("select * from user where userid in (?,?,?,?) for update");
+        ps.setLong(1, 1);
+        ps.setLong(2, 2);
+        ps.setLong(3, 3);
+        ps.setLong(4, 4);
+        ps.executeQuery();
+        // 加锁的select在当前线程中按照dsKey的顺序执行
+        Assert.assertEquals(Thread.currentThread().getName(), ds0
+                .getThreadNames().get(0));
+        Assert.assertEquals(Thread.currentThread().getName(), ds1
+                .getThreadNames().get(0));
+        ps.close();
+        // 每个连接只获取一次，语句关闭后归还(PreparedStatement与Connection各关闭一次)
+        Assert.assertEquals(1, ds0.getCallCount("getConnection"));
+        Assert.assertEquals(1, ds1.getCallCount("getConnection"));
+        Assert.assertEquals(2, ds0.getCallCount("close"));
+        Assert.assertEquals(2, ds1.getCallCount("close"));
+        con.close();
+    }
+
+    @Test
+    public void parallelAcquire() throws Exception {
+        dalDataSource.setParallelAcquire(true);
+        ds0.setConnectDelay(100);
+        ds1.setConnectDelay(100);
+        Connection con = dalDataSource.getConnection();
+        PreparedStatement ps = con
+                .prepareStatement("select * from user where userid in (?,?)");
+        ps.setLong(1, 1);
+        ps.setLong(2, 2);
+        ps.executeQuery();
+        Assert.assertEquals(1, ds0.getCallCount("getConnection"));
+        Assert.assertEquals(1, ds1.getCallCount("getConnection"));
+        Assert.assertEquals(2, ds0.getMaxConnecting()
+                + ds1.getMaxConnecting());
+        Assert.assertTrue(ds0.getMaxConnecting() == 1
+                && ds1.getMaxConnecting() == 1);
+        // 已经获取的连接不再获取
+        ps.executeQuery();
+        Assert.assertEquals(1, ds0.getCallCount("getConnection"));
+        ps.close();
+        con.close();
+    }
+
+    @Test
+    public void parallelAcquireFailure() throws Exception {
+        dalDataSource.setParallelAcquire(true);
+        ds1.setConnectDelay(50);
+        ds1.setDown(true);
+        Connection con = dalDataSource.getConnection();
+        PreparedStatement ps = con
+                .prepareStatement("select * from user where userid in (?,?)");
+        ps.setLong(1, 1);
+        ps.setLong(2, 2);
+        try {
+            ps.executeQuery();
+            Assert.fail("ds1 is down");
+        }
+        catch (SQLException e) {
+        }
+        // ds1失败时，已经获取的ds0的连接需要关闭
+        Assert.assertEquals(0, ds0.getSqls().size());
+        Assert.assertEquals(1, ds0.getCallCount("close"));
+        con.close();
+        Assert.assertEquals(1, ds0.getCallCount("close"));
+    }
+
+    @Test
+    public void parallelAcquireTimeout() throws Exception {
+        dalDataSource.setParallelAcquire(true);
+        ds0.setConnectDelay(1500);
+        Connection con = dalDataSource.getConnection();
+        PreparedStatement ps = con
+                .prepareStatement("select * from user where userid in (?,?)");
+        ps.setQueryTimeout(1);
+        ps.setLong(1, 1);
+        ps.setLong(2, 2);
+        long begin = System.currentTimeMillis();
+        try {
+            ps.executeQuery();
+            Assert.fail("acquire ds0 must timeout");
+        }
+        catch (SQLTimeoutException e) {
+        }
+        Assert.assertTrue(System.currentTimeMillis() - begin < 1400);
+        // ds1的连接已经获取，需要关闭
+        Assert.assertEquals(1, ds1.getCallCount("close"));
+        Assert.assertEquals(0, ds1.getSqls().size());
+        con.close();
+    }
+
+    @Test
+    public void cancelSiblingsOnFailure() throws Exception {
+        ds0.setFailMethod("executeQuery");
+        ds1.setQueryDelay(3000);
+        Connection con = dalDataSource.getConnection();
+        PreparedStatement ps = con
+                .prepareStatement("select * from user where userid in (?,?)");
+        ps.setLong(1, 1);
+        ps.setLong(2, 2);
+        long begin = System.currentTimeMillis();
+        try {
+            ps.executeQuery();
+            Assert.fail("ds0 must fail");
+        }
+        catch (SQLException e) {
+            Assert.assertTrue(e.getMessage().startsWith("executeQuery failed"));
+        }
+        Assert.assertTrue(System.currentTimeMillis() - begin < 2000);
+        Assert.assertEquals(1, ds1.getCallCount("cancel"));
+        ps.close();
+        con.close();
+    }
+
+    @Test
+    public void closeResultsOnFailure() throws Exception {
+        ds0.setQueryDelay(3000);
+        Connection con = dalDataSource.getConnection();
+        PreparedStatement ps = con
+                .prepareStatement("select * from user where userid in (?,?)");
+        ps.setQueryTimeout(1);
+        ps.setLong(1, 1);
+        ps.setLong(2, 2);
+        try {
+            ps.executeQuery();
+            Assert.fail("ds0 must exceed deadline");
+        }
+        catch (SQLTimeoutException e) {
+        }
+        // 成功的数据源的查询结果已经关闭，语句与连接还没有关闭
+        Assert.assertEquals(1, ds1.getCallCount("close"));
+        ps.close();
+        con.close();
+    }
+
+    @Test
+    public void fanOutDeadline() throws Exception {
+        ds0.setQueryDelay(3000);
+        ds1.setQueryDelay(3000);
+        Connection con = dalDataSource.getConnection();
+        PreparedStatement ps = con
+                .prepareStatement("update user set name=? where userid in (?,?)");
+        ps.setQueryTimeout(1);
+        ps.setString(1, "akwei");
+        ps.setLong(2, 1);
+        ps.setLong(3, 2);
+        long begin = System.currentTimeMillis();
+        try {
+            ps.executeUpdate();
+            Assert.fail("fan-out must exceed deadline");
+        }
+        catch (SQLTimeoutException e) {
+        }
+        Assert.assertTrue(System.currentTimeMillis() - begin < 2000);
+        Assert.assertEquals(1, ds0.getCallCount("cancel"));
+        Assert.assertEquals(1, ds1.getCallCount("cancel"));
+        ps.close();
+        con.close();
+    }
+
+    @Test
+    public void deadlineAcrossSerialStatements() throws Exception {
+        ds0.setQueryDelay(1100);
+        ds1.setQueryDelay(1100);
+        // 两个数据源的语句在同一个线程中按顺序执行
+        dalFactory.setScatterParallelism(1);
+        DALCurrentStatus.setScatterWrite(true);
+        Connection con = dalDataSource.getConnection();
+        PreparedStatement ps = con
+                .prepareStatement("update user set stat=? where stat=?");
+        ps.setQueryTimeout(1);
+        ps.setInt(1, 0);
+        ps.setInt(2, 1);
+        try {
+            ps.executeUpdate();
+            Assert.fail("second statement must exceed deadline");
+        }
+        catch (SQLTimeoutException e) {
+        }
+        Assert.assertEquals(1, ds0.getCallCount("executeUpdate")
+                + ds1.getCallCount("executeUpdate"));
+        ps.close();
+        con.close();
+    }
+
+    @Test
+    public void partialResults() throws Exception {
+        ds0.setFailMethod("executeQuery");
+        ds1.setResult(new String[] { "userid" }, new Object[] { 1L });
+        DALCurrentStatus.setPartialResults(true);
+        Connection con = dalDataSource.getConnection();
+        PreparedStatement ps = con
+                .prepareStatement("select * from user where userid in (?,?)");
+        ps.setLong(1, 1);
+        ps.setLong(2, 2);
+        ResultSet rs = ps.executeQuery();
+        Assert.assertTrue(rs.next());
+        Assert.assertEquals(1L, rs.getLong("userid"));
+        Assert.assertFalse(rs.next());
+        Assert.assertTrue(rs.isWrapperFor(PartialResult.class));
+        PartialResult partialResult = rs.unwrap(PartialResult.class);
+        Assert.assertEquals(2, partialResult.getShardCount());
+        Assert.assertFalse(partialResult.isComplete());
+        Assert.assertEquals(1, partialResult.size());
+        Assert.assertEquals("ds0", partialResult.getDsKey(0));
+        Assert.assertEquals("select * from user0 where userid in (?)",
+                partialResult.getSql(0));
+        Assert.assertFalse(partialResult.isTimedOut(0));
+        Assert.assertNotNull(rs.getWarnings());
+        Assert.assertNull(rs.getWarnings().getNextWarning());
+        // 失败的数据源不取消其他数据源的查询
+        Assert.assertEquals(0, ds1.getCallCount("cancel"));
+        rs.close();
+        ps.close();
+        con.close();
+    }
+
+    @Test
+    public void partialResultsTimeout() throws Exception {
+        ds0.setQueryDelay(3000);
+        ds1.setResult(new String[] { "userid" }, new Object[] { 1L });
+        DALCurrentStatus.setPartialResults(true);
+        Connection con = dalDataSource.getConnection();
+        PreparedStatement ps = con
+                .prepareStatement("select * from user where userid in (?,?)");
+        ps.setQueryTimeout(1);
+        ps.setLong(1, 1);
+        ps.setLong(2, 2);
+        long begin = System.currentTimeMillis();
+        ResultSet rs = ps.executeQuery();
+        Assert.assertTrue(System.currentTimeMillis() - begin < 2000);
+        Assert.assertTrue(rs.next());
+        Assert.assertFalse(rs.next());
+        PartialResult partialResult = rs.unwrap(PartialResult.class);
+        Assert.assertEquals(1, partialResult.size());
+        Assert.assertTrue(partialResult.isTimedOut(0));
+        Assert.assertEquals(1, ds0.getCallCount("cancel"));
+        rs.close();
+        ps.close();
+        con.close();
+    }
+
+    @Test
+    public void partialResultsAllFailed() throws Exception {
+        ds0.setFailMethod("executeQuery");
+        ds1.setFailMethod("executeQuery");
+        DALCurrentStatus.setPartialResults(true);
+        Connection con = dalDataSource.getConnection();
+        PreparedStatement ps = con
+                .prepareStatement("select * from user where userid in (?,?)");
+        ps.setLong(1, 1);
+        ps.setLong(2, 2);
+        try {
+            ps.executeQuery();
+            Assert.fail("all shards failed");
+        }
+        catch (SQLException e) {
+            Assert.assertNotNull(e.getNextException());
+        }
+        ps.close();
+        con.close();
+    }
+
+    @Test
+    public void retryTransientRead() throws Exception {
+        dalDataSource.setRetryPolicy(this.createRetryPolicy());
+        ds0.setFailMethod("executeQuery", "08S01", 1);
+        ds0.setResult(new String[] { "userid" }, new Object[] { 2L });
+        Connection con = dalDataSource.getConnection();
+        PreparedStatement ps = con
+                .prepareStatement("select * from user where userid=?");
+        ps.setLong(1, 2);
+        ResultSet rs = ps.executeQuery();
+        Assert.assertTrue(rs.next());
+        Assert.assertEquals(2L, rs.getLong("userid"));
+        // 失败的Connection关闭，在新的Connection上重新执行
+        Assert.assertEquals(2, ds0.getCallCount("getConnection"));
+        Assert.assertEquals(2, ds0.getCallCount("executeQuery"));
+        Assert.assertEquals(Long.valueOf(2L), ds0.getParameters(1).get(1));
+        Assert.assertEquals(1, dalDataSource.getMetrics().getCount(
+                DALMetrics.RETRY, "ds0"));
+        rs.close();
+        ps.close();
+        con.close();
+    }
+
+    @Test
+    public void noRetryForWrite() throws Exception {
+        dalDataSource.setRetryPolicy(this.createRetryPolicy());
+        ds0.setFailMethod("executeUpdate", "08S01", 1);
+        Connection con = dalDataSource.getConnection();
+        PreparedStatement ps = con
+                .prepareStatement("update user set name=? where userid=?");
+        ps.setString(1, "akwei");
+        ps.setLong(2, 2);
+        try {
+            ps.executeUpdate();
+            Assert.fail("write must not be retried");
+        }
+        catch (SQLException e) {
+        }
+        Assert.assertEquals(1, ds0.getCallCount("executeUpdate"));
+        ps.close();
+        con.close();
+    }
+
+    @Test
+    public void noRetryInTransaction() throws Exception {
+        dalDataSource.setRetryPolicy(this.createRetryPolicy());
+        ds0.setFailMethod("executeQuery", "08S01", 1);
+        Connection con = dalDataSource.getConnection();
+        con.setAutoCommit(false);
+        PreparedStatement ps = con
+                .prepareStatement("select * from user where userid=?");
+        ps.setLong(1, 2);
+        try {
+            ps.executeQuery();
+            Assert.fail("statement in transaction must not be retried");
+        }
+        catch (SQLException e) {
+        }
+        Assert.assertEquals(1, ds0.getCallCount("executeQuery"));
+        ps.close();
+        con.rollback();
+        con.close();
+    }
+
+    @Test
+    public void noRetryForNonTransientError() throws Exception {
+        dalDataSource.setRetryPolicy(this.createRetryPolicy());
+        ds0.setFailMethod("executeQuery", "42S02", 1);
+        Connection con = dalDataSource.getConnection();
+        PreparedStatement ps = con
+                .prepareStatement("select * from user where userid=?");
+        ps.setLong(1, 2);
+        try {
+            ps.executeQuery();
+            Assert.fail("sql error must not be retried");
+        }
+        catch (SQLException e) {
+            Assert.assertEquals("42S02", e.getSQLState());
+        }
+        Assert.assertEquals(1, ds0.getCallCount("executeQuery"));
+        ps.close();
+        con.close();
+    }
+
+    private RetryPolicy createRetryPolicy() {
+        RetryPolicy retryPolicy = new RetryPolicy();
+        retryPolicy.setInitialBackoff(1);
+        return retryPolicy;
+    }
+
+    @Test
+    public void releaseAfterStatement() throws Exception {
+        List<String> eventLog = Collections
+                .synchronizedList(new ArrayList<String>());
+        ds0.setEventLog(eventLog);
+        ds1.setEventLog(eventLog);
+        dalDataSource.setReleaseAfterStatement(true);
+        Connection con = dalDataSource.getConnection();
+        PreparedStatement ps = con
+                .prepareStatement("select * from user where userid=?");
+        ps.setLong(1, 1);
+        ps.executeQuery().close();
+        // 再次执行时继续使用同一个Connection
+        ps.setLong(1, 3);
+        ps.executeQuery().close();
+        Assert.assertEquals(1, ds1.getCallCount("getConnection"));
+        Assert.assertFalse(eventLog.contains("ds1.close"));
+        ps.close();
+        Assert.assertTrue(eventLog.contains("ds1.close"));
+        // 在多个数据源上执行的语句
+        ps = con.prepareStatement("select * from user where userid in (?,?)");
+        ps.setLong(1, 1);
+        ps.setLong(2, 2);
+        ps.executeQuery().close();
+        ps.close();
+        Assert.assertTrue(eventLog.contains("ds0.close"));
+        Assert.assertEquals(2, ds1.getCallCount("getConnection"));
+        eventLog.clear();
+        con.close();
+        Assert.assertTrue(eventLog.isEmpty());
+    }
+
+    @Test
+    public void releaseAfterStatementInTransaction() throws Exception {
+        List<String> eventLog = Collections
+                .synchronizedList(new ArrayList<String>());
+        ds0.setEventLog(eventLog);
+        ds1.setEventLog(eventLog);
+        dalDataSource.setReleaseAfterStatement(true);
+        DALConnection con = (DALConnection) dalDataSource.getConnection();
+        // 直接获得的Connection在关闭连接时归还
+        con.getRealConnection("ds0");
+        PreparedStatement ps = con
+                .prepareStatement("update user set stat=? where userid=?");
+        ps.setInt(1, 0);
+        ps.setLong(2, 2);
+        ps.executeUpdate();
+        ps.close();
+        Assert.assertFalse(eventLog.contains("ds0.close"));
+        // 事务中的Connection在提交之后关闭连接时归还
+        con.setAutoCommit(false);
+        ps = con.prepareStatement("update user set stat=? where userid=?");
+        ps.setInt(1, 0);
+        ps.setLong(2, 1);
+        ps.executeUpdate();
+        ps.close();
+        Assert.assertFalse(eventLog.contains("ds1.close"));
+        con.commit();
+        con.close();
+        Assert.assertTrue(eventLog.contains("ds0.close"));
+        Assert.assertTrue(eventLog.contains("ds1.close"));
+    }
+
+    @Test
+    public void lockWaitTimeoutMetric() throws Exception {
+        ds1.setFailMethod("executeUpdate", 1205);
+        DALCurrentStatus.setScatterWrite(true);
+        Connection con = dalDataSource.getConnection();
+        PreparedStatement ps = con
+                .prepareStatement("update user set stat=? where stat=?");
+        ps.setInt(1, 0);
+        ps.setInt(2, 1);
+        try {
+            ps.executeUpdate();
+            Assert.fail("executeUpdate must fail");
+        }
+        catch (SQLException e) {
+            Assert.assertEquals(1205, e.getErrorCode());
+        }
+        con.close();
+        DALMetrics metrics = dalDataSource.getMetrics();
+        Assert.assertEquals(1, metrics.getCount(DALMetrics.LOCK_WAIT_TIMEOUT,
+                "ds1"));
+        Assert.assertEquals(0, metrics.getCount(DALMetrics.LOCK_WAIT_TIMEOUT,
+                "ds0"));
+        Assert.assertEquals(0, metrics.getCount(DALMetrics.DEADLOCK, "ds1"));
+    }
+
+    @Test
+    public void scatterWriteNotSupported() throws Exception {
+        parserMap.put("orders", new PartitionParser() {
+
+            public PartitionTableInfo parse(String tableLogicName,
+                    SQLInfo sqlInfo, ConnectionStatus connectionStatus) {
+                return new PartitionTableInfo();
+            }
+        });
+        DALCurrentStatus.setScatterWrite(true);
+        Connection con = dalDataSource.getConnection();
+        PreparedStatement ps = con
+                .prepareStatement("delete from orders where stat=?");
+        ps.setInt(1, 0);
+        try {
+            ps.executeUpdate();
+            Assert.fail("parser must implement ScatterPartitionParser");
+        }
+        catch (DALRunTimeException e) {
+        }
+        con.close();
+        Assert.assertEquals(0, ds0.getSqls().size());
+    }
+
+    @Test
+    public void monthRange() throws Exception {
+        MonthRangePartitionParser monthParser = new MonthRangePartitionParser();
+        monthParser.setColumn("ctime");
+        monthParser.setDsName("ds1");
+        monthParser.setBeginMonth(201201);
+        monthParser.setEndMonth(201212);
+        parserMap.put("order_log", monthParser);
+        Calendar cal = Calendar.getInstance();
+        cal.clear();
+        cal.set(2012, Calendar.FEBRUARY, 15);
+        Timestamp begin = new Timestamp(cal.getTimeInMillis());
+        cal.set(2012, Calendar.APRIL, 3);
+        Timestamp end = new Timestamp(cal.getTimeInMillis());
+        Connection con = dalDataSource.getConnection();
+        PreparedStatement ps = con
+                .prepareStatement("select * from order_log where ctime between ? and ? and stat=?");
+        ps.setTimestamp(1, begin);
+        ps.setTimestamp(2, end);
+        ps.setInt(3, 1);
+        ps.executeQuery().close();
+        con.close();
+        Assert.assertEquals(0, ds0.getSqls().size());
+        Assert.assertEquals(Arrays.asList(
+                "select * from order_log_201202 where ctime between ? and ? and stat=?",
+                "select * from order_log_201203 where ctime between ? and ? and stat=?",
+                "select * from order_log_201204 where ctime between ? and ? and stat=?"),
+                ds1.getSqls());
+        Assert.assertEquals(1, ds1.getCallCount("getConnection"));
+        Assert.assertEquals("{1=" + begin + ", 2=" + end + ", 3=1}", ds1
+                .getParameters(2).toString());
+    }
+
+    @Test
+    public void monthRangeUpdate() throws Exception {
+        MonthRangePartitionParser monthParser = new MonthRangePartitionParser();
+        monthParser.setColumn("ctime");
+        monthParser.setDsName("ds1");
+        monthParser.setBeginMonth(201201);
+        monthParser.setEndMonth(201212);
+        parserMap.put("order_log", monthParser);
+        Calendar cal = Calendar.getInstance();
+        cal.clear();
+        cal.set(2012, Calendar.NOVEMBER, 20);
+        Connection con = dalDataSource.getConnection();
+        PreparedStatement ps = con
+                .prepareStatement("delete from order_log where ctime>=?");
+        ps.setTimestamp(1, new Timestamp(cal.getTimeInMillis()));
+        Assert.assertEquals(2, ps.executeUpdate());
+        con.close();
+        Assert.assertEquals(Arrays.asList(
+                "delete from order_log_201211 where ctime>=?",
+                "delete from order_log_201212 where ctime>=?"), ds1.getSqls());
+    }
+
+    /**
+     * 根据指定字段的奇偶进行分区
+     */
+    static class ModParser implements ScatterPartitionParser {
+
+        private final String column;
+
+        int count;
+
+        ModParser(String column) {
+            this.column = column;
+        }
+
+        public PartitionTableInfo parse(String tableLogicName,
+                SQLInfo sqlInfo, ConnectionStatus connectionStatus) {
+            count++;
+            PartitionTableInfo partitionTableInfo = new PartitionTableInfo();
+            SQLExpression[] sqlExpressions = sqlInfo
+                    .getSQLExpressions(column);
+            if (sqlExpressions == null) {
+                return partitionTableInfo;
+            }
+            for (SQLExpression e : sqlExpressions) {
+                if (e.getSqlExpressionSymbol() == SQLExpressionSymbol.EQUAL) {
+                    long value = ((Number) e.getValue()).longValue();
+                    partitionTableInfo.setRealTable(tableLogicName + value
+                            % 2);
+                    partitionTableInfo.setDsName("ds" + value % 2);
+                }
+            }
+            return partitionTableInfo;
+        }
+
+        public List<PartitionTableInfo> getAllPartitions(String tableLogicName) {
+            List<PartitionTableInfo> list = new ArrayList<PartitionTableInfo>();
+            for (int i = 0; i < 2; i++) {
+                PartitionTableInfo partitionTableInfo = new PartitionTableInfo();
+                partitionTableInfo.setRealTable(tableLogicName + i);
+                partitionTableInfo.setDsName("ds" + i);
+                list.add(partitionTableInfo);
+            }
+            return list;
+        }
+    }
+}
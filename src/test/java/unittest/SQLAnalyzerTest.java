@@ -4,7 +4,9 @@ import halo.dal.analysis.CachedSQLAnalyzer;
 import halo.dal.analysis.ParsedTableInfo;
 import halo.dal.analysis.SQLAnalyzer;
 import halo.dal.analysis.SQLExpression;
+import halo.dal.analysis.SQLExpressionSymbol;
 import halo.dal.analysis.SQLInfo;
+import halo.dal.analysis.SQLOpInfo;
 import halo.dal.analysis.SQLStruct;
 import halo.dal.analysis.antlr.v3.AntlrV3SQLAnalyzer;
 
@@ -35,6 +37,9 @@ public class SQLAnalyzerTest {
         SQLInfo sqlInfo = sqlAnalyzer.analyse(sql, sqlStruct, values, context);
         Assert.assertEquals(1, sqlStruct.getTableNames().size());
         Assert.assertEquals("user", sqlStruct.getTableNames().get(0));
+        Assert.assertEquals(SQLStruct.SQLOP_DELETE,
+                ((SQLOpInfo) sqlInfo).getSqlOp());
+        Assert.assertFalse(((SQLOpInfo) sqlInfo).isSelect());
         ParsedTableInfo parsedTableInfo = new ParsedTableInfo();
         String sql2 = sqlAnalyzer.outPutSQL(sql, sqlStruct, sqlInfo,
                 parsedTableInfo);
@@ -49,6 +54,21 @@ public class SQLAnalyzerTest {
         Assert.assertEquals(sql, sql2);
     }
 
+    @Test
+    public void schema() {
+        String sql = "select u.name,r.name from user u,region r where u.rid=r.rid and u.uid=?";
+        SQLStruct sqlStruct = sqlAnalyzer.parse(sql, context);
+        SQLInfo sqlInfo = sqlAnalyzer.analyse(sql, sqlStruct,
+                new Object[] { 1 }, context);
+        ParsedTableInfo parsedTableInfo = new ParsedTableInfo();
+        parsedTableInfo.setRealTable("user", "user1");
+        parsedTableInfo.setSchema("db1");
+        Assert.assertEquals(
+                "select u.name,r.name from db1.user1 u,db1.region r where u.rid=r.rid and u.uid=?",
+                sqlAnalyzer.outPutSQL(sql, sqlStruct, sqlInfo,
+                        parsedTableInfo));
+    }
+
     @Test
     public void delete2() {
         String sql = "delete from user where uid=? and (age>=? or age<=?) and (sex=? or sex=?) and time<=sysdate()";
@@ -131,6 +151,22 @@ public class SQLAnalyzerTest {
                 sqlInfo.getSQLExpressions("user.sex")[0].getValue());
     }
 
+    @Test
+    public void insertMultiRows() {
+        String sql = "insert into user(userid,nickname) values(?,?),(?,?), (?,?)";
+        Object[] values = new Object[] { 4, "jack", 5, "tom", 6, "lily" };
+        SQLStruct sqlStruct = sqlAnalyzer.parse(sql, context);
+        Assert.assertTrue(sqlStruct.isCanParse());
+        Assert.assertEquals(3, sqlStruct.getInsertRowCount());
+        Assert.assertEquals(2, sqlStruct.getColumnExpers().size());
+        SQLInfo sqlInfo = sqlAnalyzer.analyse(sql, sqlStruct, values, context);
+        Assert.assertEquals(4,
+                sqlInfo.getSQLExpressions("user.userid")[0].getValue());
+        Assert.assertEquals(1, sqlAnalyzer.parse(
+                "insert into user(userid,nickname) values(?,?)", context)
+                .getInsertRowCount());
+    }
+
     @Test
     public void update() {
         String sql = "update user set uid=? , o=? where name=?";
@@ -183,12 +219,33 @@ public class SQLAnalyzerTest {
         SQLInfo sqlInfo = sqlAnalyzer.analyse(sql, sqlStruct, values, context);
         Assert.assertEquals("user", sqlStruct.getTableNames().get(0));
         Assert.assertEquals("member", sqlStruct.getTableNames().get(1));
+        Assert.assertTrue(((SQLOpInfo) sqlInfo).isSelect());
         Assert.assertEquals(1,
                 sqlInfo.getSQLExpressions("user.sex")[0].getValue());
         Assert.assertEquals(5,
                 sqlInfo.getSQLExpressions("member.age")[0].getValue());
     }
 
+    @Test
+    public void selectForInParameters() {
+        String sql = "select * from user where uid in (?,?,?) and sex=?";
+        Object[] values = new Object[] { 1, 2, 3, 0 };
+        SQLStruct sqlStruct = sqlAnalyzer.parse(sql, context);
+        SQLInfo sqlInfo = sqlAnalyzer.analyse(sql, sqlStruct, values, context);
+        Assert.assertTrue(sqlStruct.isHasInExper());
+        SQLExpression[] sqlExpressions = sqlInfo.getSQLExpressions("uid");
+        Assert.assertEquals(3, sqlExpressions.length);
+        for (int i = 0; i < 3; i++) {
+            Assert.assertEquals(SQLExpressionSymbol.IN,
+                    sqlExpressions[i].getSqlExpressionSymbol());
+            Assert.assertEquals(i + 1, sqlExpressions[i].getValue());
+            Assert.assertEquals(i + 1, sqlExpressions[i].getParameterIndex());
+        }
+        Assert.assertEquals(0, sqlInfo.getSQLExpressions("sex")[0].getValue());
+        Assert.assertEquals(4,
+                sqlInfo.getSQLExpressions("sex")[0].getParameterIndex());
+    }
+
     @Test
     public void selectForIn() {
         String sql = "select * from user u,member as m "
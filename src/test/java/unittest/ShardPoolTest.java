@@ -0,0 +1,167 @@
+package unittest;
+
+import halo.dal.DALCurrentStatus;
+import halo.dal.metrics.DALMetrics;
+import halo.dal.sql.DALConnection;
+import halo.dal.sql.DALDataSource;
+import halo.dal.sql.pool.ShardPool;
+import halo.dal.sql.pool.ShardPoolDataSource;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+
+import javax.sql.DataSource;
+
+import junit.framework.Assert;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import unittest.mock.MockDataSource;
+
+public class ShardPoolTest {
+
+    MockDataSource ds0 = new MockDataSource("ds0");
+
+    MockDataSource ds1 = new MockDataSource("ds1");
+
+    ShardPool shardPool;
+
+    @Before
+    public void before() {
+        Map<String, DataSource> dataSourceMap = new HashMap<String, DataSource>();
+        dataSourceMap.put("ds0", ds0);
+        dataSourceMap.put("ds1", ds1);
+        dataSourceMap.put(DALDataSource.DSKEY_DEFAULT, ds0);
+        shardPool = new ShardPool();
+        shardPool.setDataSourceMap(dataSourceMap);
+        shardPool.setAdjustInterval(0);
+    }
+
+    @After
+    public void after() {
+        shardPool.destroy();
+        DALCurrentStatus.remove();
+    }
+
+    @Test
+    public void reuseConnection() throws Exception {
+        shardPool.init();
+        // 初始化时创建最小空闲连接
+        Assert.assertEquals(1, ds0.getCallCount("getConnection"));
+        ShardPoolDataSource pool = shardPool.getPool("ds0");
+        Assert.assertSame(pool, shardPool.getPool(DALDataSource.DSKEY_DEFAULT));
+        for (int i = 0; i < 3; i++) {
+            Connection con = pool.getConnection();
+            Assert.assertEquals(1, pool.getActive());
+            con.close();
+            Assert.assertTrue(con.isClosed());
+        }
+        Assert.assertEquals(1, ds0.getCallCount("getConnection"));
+        Assert.assertEquals(0, ds0.getCallCount("close"));
+        Assert.assertEquals(1, pool.getIdle());
+        Assert.assertEquals(2, shardPool.getTotal());
+        Assert.assertEquals(3, shardPool.getMetrics().getCount(
+                DALMetrics.POOL_BORROW, "ds0"));
+    }
+
+    @Test
+    public void rollbackOnReturn() throws Exception {
+        shardPool.init();
+        Connection con = shardPool.getPool("ds1").getConnection();
+        con.setAutoCommit(false);
+        con.close();
+        Assert.assertEquals(1, ds1.getCallCount("rollback"));
+    }
+
+    @Test
+    public void sharedBudget() throws Exception {
+        shardPool.setMaxTotal(2);
+        shardPool.setMinPerShard(0);
+        shardPool.setMaxPerShard(2);
+        shardPool.setMaxWait(20);
+        shardPool.init();
+        ShardPoolDataSource pool0 = shardPool.getPool("ds0");
+        ShardPoolDataSource pool1 = shardPool.getPool("ds1");
+        // 平均分配
+        Assert.assertEquals(1, pool0.getMaxSize());
+        pool1.getConnection().close();
+        shardPool.adjust();
+        Assert.assertEquals(1, pool1.getMinSize());
+        Connection con0 = pool0.getConnection();
+        Assert.assertEquals(2, shardPool.getTotal());
+        try {
+            pool0.getConnection();
+            Assert.fail("ds0 must reach max size");
+        }
+        catch (SQLException e) {
+        }
+        Assert.assertEquals(1, shardPool.getMetrics().getCount(
+                DALMetrics.POOL_TIMEOUT, "ds0"));
+        // 根据借出与等待的数量重新分配，ds1的空闲连接让给ds0
+        shardPool.adjust();
+        Assert.assertEquals(2, pool0.getMaxSize());
+        Assert.assertEquals(2, pool0.getMinSize());
+        Assert.assertEquals(0, pool1.getMinSize());
+        Assert.assertEquals(1, ds1.getCallCount("close"));
+        Assert.assertEquals(0, pool1.getSize());
+        Assert.assertEquals(2, pool0.getSize());
+        Connection con1 = pool0.getConnection();
+        Assert.assertEquals(2, ds0.getCallCount("getConnection"));
+        Assert.assertEquals(1.0, pool0.getUtilization());
+        con0.close();
+        con1.close();
+    }
+
+    @Test
+    public void waitForReturn() throws Exception {
+        shardPool.setMaxTotal(2);
+        shardPool.setMaxPerShard(1);
+        shardPool.init();
+        final ShardPoolDataSource pool = shardPool.getPool("ds0");
+        Connection con = pool.getConnection();
+        final AtomicReference<Connection> borrowed = new AtomicReference<Connection>();
+        Thread t = new Thread() {
+
+            @Override
+            public void run() {
+                try {
+                    borrowed.set(pool.getConnection());
+                }
+                catch (SQLException e) {
+                }
+            }
+        };
+        t.start();
+        while (pool.getWaiters() == 0) {
+            Thread.sleep(1);
+        }
+        con.close();
+        t.join(3000);
+        Assert.assertNotNull(borrowed.get());
+        Assert.assertEquals(1, ds0.getCallCount("getConnection"));
+        Assert.assertEquals(1, shardPool.getMetrics().getCount(
+                DALMetrics.POOL_WAIT, "ds0"));
+        borrowed.get().close();
+    }
+
+    @Test
+    public void dalDataSource() throws Exception {
+        shardPool.init();
+        DALDataSource dalDataSource = new DALDataSource();
+        dalDataSource.setShardPool(shardPool);
+        DALConnection con = (DALConnection) dalDataSource.getConnection();
+        con.getRealConnection("ds1");
+        con.close();
+        ShardPoolDataSource pool = shardPool.getPool("ds1");
+        Assert.assertEquals(0, pool.getActive());
+        Assert.assertEquals(1, pool.getIdle());
+        Assert.assertEquals(0, ds1.getCallCount("close"));
+        Assert.assertEquals(1, dalDataSource.getMetrics().getCount(
+                DALMetrics.POOL_BORROW, "ds1"));
+    }
+}
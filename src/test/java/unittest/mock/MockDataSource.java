@@ -0,0 +1,529 @@
+package unittest.mock;
+
+import java.io.PrintWriter;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.sql.DataSource;
+
+/**
+ * 测试使用的数据源，不连接数据库，记录执行的sql与jdbc方法调用次数
+ */
+public class MockDataSource implements DataSource {
+
+    private final String name;
+
+    private final List<String> sqls = Collections
+            .synchronizedList(new ArrayList<String>());
+
+    private final List<Map<Integer, Object>> parameters = Collections
+            .synchronizedList(new ArrayList<Map<Integer, Object>>());
+
+    private final Map<String, AtomicInteger> callMap = new ConcurrentHashMap<String, AtomicInteger>();
+
+    private final List<Object[]> rows = new ArrayList<Object[]>();
+
+    private String[] columns = new String[0];
+
+    private int updateCount = 1;
+
+    private volatile boolean down;
+
+    private volatile String failMethod;
+
+    private volatile int failErrorCode;
+
+    private volatile String failSQLState;
+
+    private final AtomicInteger failTimes = new AtomicInteger(-1);
+
+    private volatile List<String> eventLog;
+
+    private volatile boolean reuseConnection;
+
+    private volatile long connectDelay;
+
+    private volatile long queryDelay;
+
+    private final AtomicInteger connecting = new AtomicInteger();
+
+    private final AtomicInteger maxConnecting = new AtomicInteger();
+
+    private Connection sharedConnection;
+
+    private final List<String> threadNames = Collections
+            .synchronizedList(new ArrayList<String>());
+
+    public MockDataSource(String name) {
+        this.name = name;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * @return 在此数据源上创建PreparedStatement的sql
+     */
+    public List<String> getSqls() {
+        return sqls;
+    }
+
+    /**
+     * @param index
+     *            PreparedStatement创建的顺序，与 {@link #getSqls()} 相同
+     * @return PreparedStatement设置的参数
+     */
+    public Map<Integer, Object> getParameters(int index) {
+        return parameters.get(index);
+    }
+
+    /**
+     * @param methodName
+     *            Connection,PreparedStatement,ResultSet的方法名称
+     * @return 方法调用的次数
+     */
+    public int getCallCount(String methodName) {
+        AtomicInteger count = callMap.get(methodName);
+        if (count == null) {
+            return 0;
+        }
+        return count.get();
+    }
+
+    /**
+     * @param down
+     *            true:获取连接时抛出SQLException
+     */
+    public void setDown(boolean down) {
+        this.down = down;
+    }
+
+    /**
+     * @param failMethod
+     *            调用Connection的此方法时抛出SQLException
+     */
+    public void setFailMethod(String failMethod) {
+        this.setFailMethod(failMethod, 0);
+    }
+
+    /**
+     * @param failMethod
+     *            调用Connection,PreparedStatement的此方法时抛出SQLException
+     * @param errorCode
+     *            SQLException的errorCode
+     */
+    public void setFailMethod(String failMethod, int errorCode) {
+        this.failMethod = failMethod;
+        this.failErrorCode = errorCode;
+        this.failSQLState = null;
+        this.failTimes.set(-1);
+    }
+
+    /**
+     * @param failMethod
+     *            调用Connection,PreparedStatement的此方法时抛出SQLException
+     * @param sqlState
+     *            SQLException的SQLState
+     * @param times
+     *            只有前times次调用失败
+     */
+    public void setFailMethod(String failMethod, String sqlState, int times) {
+        this.failMethod = failMethod;
+        this.failErrorCode = 0;
+        this.failSQLState = sqlState;
+        this.failTimes.set(times);
+    }
+
+    /**
+     * @param reuseConnection
+     *            true:模拟只有一个连接的连接池，每次返回同一个Connection，close不关闭连接
+     */
+    public void setReuseConnection(boolean reuseConnection) {
+        this.reuseConnection = reuseConnection;
+    }
+
+    /**
+     * @param connectDelay
+     *            获取连接前等待的时间(毫秒)
+     */
+    public void setConnectDelay(long connectDelay) {
+        this.connectDelay = connectDelay;
+    }
+
+    /**
+     * @param queryDelay
+     *            executeQuery与executeUpdate返回前等待的时间(毫秒)，cancel时抛出SQLException
+     */
+    public void setQueryDelay(long queryDelay) {
+        this.queryDelay = queryDelay;
+    }
+
+    /**
+     * @return 同时获取连接的最大线程数量
+     */
+    public int getMaxConnecting() {
+        return maxConnecting.get();
+    }
+
+    /**
+     * @param eventLog
+     *            多个数据源共用，按调用顺序记录 数据源名称.Connection方法名称
+     */
+    public void setEventLog(List<String> eventLog) {
+        this.eventLog = eventLog;
+    }
+
+    /**
+     * @return 调用Connection方法的线程名称
+     */
+    public List<String> getThreadNames() {
+        return threadNames;
+    }
+
+    public void setUpdateCount(int updateCount) {
+        this.updateCount = updateCount;
+    }
+
+    /**
+     * 设置查询返回的数据
+     *
+     * @param columns
+     * @param rows
+     */
+    public void setResult(String[] columns, Object[]... rows) {
+        this.columns = columns;
+        this.rows.clear();
+        for (Object[] row : rows) {
+            this.rows.add(row);
+        }
+    }
+
+    public void clear() {
+        sqls.clear();
+        parameters.clear();
+        callMap.clear();
+        threadNames.clear();
+    }
+
+    private void count(String methodName) {
+        AtomicInteger count = callMap.get(methodName);
+        if (count == null) {
+            synchronized (callMap) {
+                count = callMap.get(methodName);
+                if (count == null) {
+                    count = new AtomicInteger();
+                    callMap.put(methodName, count);
+                }
+            }
+        }
+        count.incrementAndGet();
+    }
+
+    /**
+     * @return failTimes小于0时总是失败，否则减少一次失败次数
+     */
+    private boolean consumeFailure() {
+        int times;
+        do {
+            times = failTimes.get();
+            if (times <= 0) {
+                return times < 0;
+            }
+        }
+        while (!failTimes.compareAndSet(times, times - 1));
+        return true;
+    }
+
+    private void checkFail(String methodName) throws SQLException {
+        if (methodName.equals(failMethod) && this.consumeFailure()) {
+            throw new SQLException(methodName + " failed on " + name,
+                    failSQLState, failErrorCode);
+        }
+    }
+
+    public Connection getConnection() throws SQLException {
+        this.count("getConnection");
+        if (connectDelay > 0) {
+            int current = connecting.incrementAndGet();
+            int max;
+            do {
+                max = maxConnecting.get();
+            }
+            while (current > max && !maxConnecting.compareAndSet(max, current));
+            try {
+                Thread.sleep(connectDelay);
+            }
+            catch (InterruptedException e) {
+                throw new SQLException("interrupted when connecting " + name);
+            }
+            finally {
+                connecting.decrementAndGet();
+            }
+        }
+        if (down) {
+            throw new SQLException("datasource " + name + " is down", "08001");
+        }
+        if (reuseConnection) {
+            synchronized (this) {
+                if (sharedConnection == null) {
+                    sharedConnection = this.newConnection();
+                }
+                return sharedConnection;
+            }
+        }
+        return this.newConnection();
+    }
+
+    private Connection newConnection() {
+        return (Connection) Proxy.newProxyInstance(
+                MockDataSource.class.getClassLoader(),
+                new Class<?>[] { Connection.class }, new ConnectionHandler());
+    }
+
+    public Connection getConnection(String username, String password)
+            throws SQLException {
+        return this.getConnection();
+    }
+
+    public PrintWriter getLogWriter() throws SQLException {
+        return null;
+    }
+
+    public void setLogWriter(PrintWriter out) throws SQLException {
+    }
+
+    public void setLoginTimeout(int seconds) throws SQLException {
+    }
+
+    public int getLoginTimeout() throws SQLException {
+        return 0;
+    }
+
+    public <T> T unwrap(Class<T> iface) throws SQLException {
+        throw new SQLException("not a wrapper");
+    }
+
+    public boolean isWrapperFor(Class<?> iface) throws SQLException {
+        return false;
+    }
+
+    private static Object defaultValue(Class<?> type) {
+        if (type == boolean.class) {
+            return false;
+        }
+        if (type == int.class) {
+            return 0;
+        }
+        if (type == long.class) {
+            return 0L;
+        }
+        if (type == short.class) {
+            return (short) 0;
+        }
+        if (type == byte.class) {
+            return (byte) 0;
+        }
+        if (type == float.class) {
+            return 0f;
+        }
+        if (type == double.class) {
+            return 0d;
+        }
+        return null;
+    }
+
+    private class ConnectionHandler implements InvocationHandler {
+
+        private boolean closed;
+
+        private boolean autoCommit = true;
+
+        private boolean readOnly;
+
+        public Object invoke(Object proxy, Method method, Object[] args)
+                throws Throwable {
+            String methodName = method.getName();
+            count(methodName);
+            threadNames.add(Thread.currentThread().getName());
+            List<String> log = eventLog;
+            if (log != null) {
+                log.add(name + "." + methodName);
+            }
+            checkFail(methodName);
+            if (methodName.equals("prepareStatement")) {
+                Map<Integer, Object> map = new TreeMap<Integer, Object>();
+                synchronized (sqls) {
+                    sqls.add((String) args[0]);
+                    parameters.add(map);
+                }
+                return Proxy.newProxyInstance(
+                        MockDataSource.class.getClassLoader(),
+                        new Class<?>[] { PreparedStatement.class },
+                        new StatementHandler(map));
+            }
+            if (methodName.equals("close")) {
+                closed = !reuseConnection;
+                return null;
+            }
+            if (methodName.equals("isClosed")) {
+                return closed;
+            }
+            if (methodName.equals("setAutoCommit")) {
+                autoCommit = (Boolean) args[0];
+                return null;
+            }
+            if (methodName.equals("getAutoCommit")) {
+                return autoCommit;
+            }
+            if (methodName.equals("setReadOnly")) {
+                readOnly = (Boolean) args[0];
+                return null;
+            }
+            if (methodName.equals("isReadOnly")) {
+                return readOnly;
+            }
+            if (methodName.equals("isValid")) {
+                return !closed;
+            }
+            if (methodName.equals("toString")) {
+                return "MockConnection[" + name + "]";
+            }
+            if (methodName.equals("hashCode")) {
+                return System.identityHashCode(proxy);
+            }
+            if (methodName.equals("equals")) {
+                return proxy == args[0];
+            }
+            return defaultValue(method.getReturnType());
+        }
+    }
+
+    private class StatementHandler implements InvocationHandler {
+
+        private final Map<Integer, Object> parameterMap;
+
+        private volatile Thread executing;
+
+        StatementHandler(Map<Integer, Object> parameterMap) {
+            this.parameterMap = parameterMap;
+        }
+
+        public Object invoke(Object proxy, Method method, Object[] args)
+                throws Throwable {
+            String methodName = method.getName();
+            count(methodName);
+            checkFail(methodName);
+            if (methodName.startsWith("set") && args != null
+                    && args.length >= 2 && args[0] instanceof Integer) {
+                parameterMap.put((Integer) args[0], args[1]);
+                return null;
+            }
+            if (methodName.equals("cancel")) {
+                Thread t = executing;
+                if (t != null) {
+                    t.interrupt();
+                }
+                return null;
+            }
+            if ((methodName.equals("executeQuery") || methodName
+                    .equals("executeUpdate")) && queryDelay > 0) {
+                executing = Thread.currentThread();
+                try {
+                    Thread.sleep(queryDelay);
+                }
+                catch (InterruptedException e) {
+                    count("cancelled");
+                    throw new SQLException("query cancelled on " + name);
+                }
+                finally {
+                    executing = null;
+                }
+            }
+            if (methodName.equals("executeUpdate")) {
+                return updateCount;
+            }
+            if (methodName.equals("execute")) {
+                return false;
+            }
+            if (methodName.equals("getUpdateCount")) {
+                return updateCount;
+            }
+            if (methodName.equals("executeQuery")
+                    || methodName.equals("getResultSet")
+                    || methodName.equals("getGeneratedKeys")) {
+                return Proxy.newProxyInstance(
+                        MockDataSource.class.getClassLoader(),
+                        new Class<?>[] { ResultSet.class },
+                        new ResultSetHandler());
+            }
+            if (methodName.equals("hashCode")) {
+                return System.identityHashCode(proxy);
+            }
+            if (methodName.equals("equals")) {
+                return proxy == args[0];
+            }
+            return defaultValue(method.getReturnType());
+        }
+    }
+
+    private class ResultSetHandler implements InvocationHandler {
+
+        private int index = -1;
+
+        public Object invoke(Object proxy, Method method, Object[] args)
+                throws Throwable {
+            String methodName = method.getName();
+            count(methodName);
+            if (methodName.equals("next")) {
+                index++;
+                return index < rows.size();
+            }
+            if (methodName.startsWith("get") && args != null
+                    && args.length == 1) {
+                int columnIndex;
+                if (args[0] instanceof Integer) {
+                    columnIndex = (Integer) args[0] - 1;
+                }
+                else {
+                    columnIndex = -1;
+                    for (int i = 0; i < columns.length; i++) {
+                        if (columns[i].equalsIgnoreCase((String) args[0])) {
+                            columnIndex = i;
+                        }
+                    }
+                }
+                Object value = rows.get(index)[columnIndex];
+                if (method.getReturnType() == long.class) {
+                    return ((Number) value).longValue();
+                }
+                if (method.getReturnType() == int.class) {
+                    return ((Number) value).intValue();
+                }
+                if (method.getReturnType() == String.class) {
+                    return String.valueOf(value);
+                }
+                return value;
+            }
+            if (methodName.equals("hashCode")) {
+                return System.identityHashCode(proxy);
+            }
+            if (methodName.equals("equals")) {
+                return proxy == args[0];
+            }
+            return defaultValue(method.getReturnType());
+        }
+    }
+}